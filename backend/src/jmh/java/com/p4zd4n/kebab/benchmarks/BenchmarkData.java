@@ -0,0 +1,222 @@
+package com.p4zd4n.kebab.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import com.p4zd4n.kebab.entities.*;
+import com.p4zd4n.kebab.enums.EmploymentType;
+import com.p4zd4n.kebab.enums.IngredientType;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.enums.Size;
+import com.p4zd4n.kebab.repositories.*;
+import com.p4zd4n.kebab.responses.menu.meals.MealResponse;
+import com.p4zd4n.kebab.responses.menu.meals.SimpleMealIngredient;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.orders.OrdersService;
+import com.p4zd4n.kebab.services.orders.TrackOrderCache;
+import com.p4zd4n.kebab.services.outbox.OrderOutboxService;
+import com.p4zd4n.kebab.services.reports.SalesReportService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Set;
+
+final class BenchmarkData {
+
+  static final List<String> MEATS = List.of("Chicken", "Beef", "Mixed", "Falafel");
+  static final List<String> SAUCES = List.of("Garlic", "Mild", "Spicy", "Mixed sauce");
+
+  private BenchmarkData() {}
+
+  static OrdersService ordersService() {
+    return new OrdersService(
+        mock(OrdersRepository.class),
+        mock(MenuCatalogService.class),
+        mock(MealRepository.class),
+        mock(BeverageRepository.class),
+        mock(AddonRepository.class),
+        mock(IngredientRepository.class),
+        mock(CustomerRepository.class),
+        mock(DiscountCodesRepository.class),
+        mock(OrderOutboxService.class),
+        mock(TrackOrderCache.class),
+        mock(SalesReportService.class));
+  }
+
+  static Meal meal(String name) {
+    EnumMap<Size, BigDecimal> prices = new EnumMap<>(Size.class);
+    prices.put(Size.SMALL, new BigDecimal("19.99"));
+    prices.put(Size.MEDIUM, new BigDecimal("24.99"));
+    prices.put(Size.LARGE, new BigDecimal("29.99"));
+    prices.put(Size.XL, new BigDecimal("39.99"));
+
+    Meal meal = Meal.builder().name(name).prices(prices).build();
+    meal.addIngredient(
+        Ingredient.builder().name("Tortilla").ingredientType(IngredientType.BREAD).build());
+    meal.addIngredient(
+        Ingredient.builder().name("Lettuce").ingredientType(IngredientType.VEGETABLE).build());
+    meal.getPromotions()
+        .add(
+            MealPromotion.builder()
+                .sizes(Set.of(Size.LARGE, Size.XL))
+                .discountPercentage(new BigDecimal("15"))
+                .build());
+
+    return meal;
+  }
+
+  static List<Ingredient> meatsAndSauces() {
+    List<Ingredient> ingredients = new ArrayList<>();
+
+    MEATS.forEach(
+        name ->
+            ingredients.add(
+                Ingredient.builder().name(name).ingredientType(IngredientType.MEAT).build()));
+    SAUCES.forEach(
+        name ->
+            ingredients.add(
+                Ingredient.builder().name(name).ingredientType(IngredientType.SAUCE).build()));
+
+    return ingredients;
+  }
+
+  static Order order(long id, int lines) {
+    Order order =
+        Order.builder()
+            .orderType(OrderType.TAKEAWAY)
+            .orderStatus(OrderStatus.RECEIVED)
+            .customerPhone("123456789")
+            .customerEmail("customer@example.com")
+            .street("Kebabowa")
+            .houseNumber(12)
+            .postalCode("00-001")
+            .city("Warszawa")
+            .additionalComments("Extra napkins")
+            .build();
+    order.setId(id);
+    order.setCreatedAt(LocalDateTime.of(2024, 8, 1, 12, 0));
+
+    BigDecimal totalPrice = BigDecimal.ZERO;
+
+    for (int line = 0; line < lines; line++) {
+      Size size = Size.values()[line % Size.values().length];
+      BigDecimal price = new BigDecimal("19.99");
+
+      order
+          .getOrderMeals()
+          .add(
+              OrderMeal.builder()
+                  .order(order)
+                  .mealName("Kebab " + line)
+                  .finalPrice(price)
+                  .size(size)
+                  .quantity(1 + line % 3)
+                  .ingredientNames(
+                      Set.of(
+                          "Tortilla",
+                          MEATS.get(line % MEATS.size()),
+                          SAUCES.get(line % SAUCES.size())))
+                  .build());
+      order
+          .getOrderBeverages()
+          .add(
+              OrderBeverage.builder()
+                  .order(order)
+                  .beverageName("Ayran " + line)
+                  .finalPrice(new BigDecimal("5.99"))
+                  .capacity(new BigDecimal("0.33"))
+                  .quantity(1)
+                  .build());
+      order
+          .getOrderAddons()
+          .add(
+              OrderAddon.builder()
+                  .order(order)
+                  .addonName("Fries " + line)
+                  .finalPrice(new BigDecimal("7.49"))
+                  .quantity(2)
+                  .build());
+
+      totalPrice = totalPrice.add(price).add(new BigDecimal("13.48"));
+    }
+
+    order.setTotalPrice(totalPrice);
+
+    return order;
+  }
+
+  static List<MealResponse> mealResponses(int count) {
+    List<MealResponse> responses = new ArrayList<>(count);
+
+    for (int i = 0; i < count; i++) {
+      Meal meal = meal("Kebab " + i);
+
+      responses.add(
+          MealResponse.builder()
+              .name(meal.getName())
+              .prices(new EnumMap<>(meal.getPrices()))
+              .ingredients(
+                  meal.getMealIngredients().stream()
+                      .map(MealIngredient::getIngredient)
+                      .map(
+                          ingredient ->
+                              SimpleMealIngredient.builder()
+                                  .id(ingredient.getId())
+                                  .name(ingredient.getName())
+                                  .ingredientType(ingredient.getIngredientType())
+                                  .build())
+                      .toList())
+              .mealPromotions(List.copyOf(meal.getPromotions()))
+              .build());
+    }
+
+    return responses;
+  }
+
+  static List<Employee> employees(int count) {
+    List<Employee> employees = new ArrayList<>(count);
+
+    for (int i = 0; i < count; i++) {
+      employees.add(
+          Employee.builder()
+              .firstName("Employee")
+              .lastName(String.valueOf(i))
+              .email("employee" + i + "@example.com")
+              .job("Cook")
+              .employmentType(EmploymentType.PERMANENT)
+              .hourlyWage(new BigDecimal("30"))
+              .isActive(true)
+              .hiredAt(LocalDate.of(2024, 1, 1))
+              .build());
+    }
+
+    return employees;
+  }
+
+  static List<WorkScheduleEntry> workSchedule(List<Employee> employees, LocalDate month) {
+    List<WorkScheduleEntry> entries = new ArrayList<>();
+
+    month
+        .datesUntil(month.plusMonths(1))
+        .forEach(
+            date ->
+                employees.forEach(
+                    employee ->
+                        entries.add(
+                            WorkScheduleEntry.builder()
+                                .employeeFirstName(employee.getFirstName())
+                                .employeeLastName(employee.getLastName())
+                                .employeeEmail(employee.getEmail())
+                                .date(date)
+                                .startTime(LocalTime.of(10, 0))
+                                .endTime(LocalTime.of(18, 0))
+                                .hourlyWage(employee.getHourlyWage())
+                                .build())));
+
+    return entries;
+  }
+}
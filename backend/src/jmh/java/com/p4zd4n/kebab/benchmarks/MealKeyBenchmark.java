@@ -0,0 +1,37 @@
+package com.p4zd4n.kebab.benchmarks;
+
+import com.p4zd4n.kebab.entities.key.MealKey;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MealKeyBenchmark {
+
+  private MenuCatalog catalog;
+  private String[] keys;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    catalog =
+        MenuCatalog.empty()
+            .withItems(List.of(), List.of(), List.of(), BenchmarkData.meatsAndSauces());
+    keys =
+        BenchmarkData.MEATS.stream()
+            .flatMap(
+                meat -> BenchmarkData.SAUCES.stream().map(sauce -> "Kebab_" + meat + "_" + sauce))
+            .toArray(String[]::new);
+  }
+
+  @Benchmark
+  public MealKey parseMealKey() {
+    String key = keys[next];
+    next = (next + 1) % keys.length;
+
+    return catalog.parseMealKey(key);
+  }
+}
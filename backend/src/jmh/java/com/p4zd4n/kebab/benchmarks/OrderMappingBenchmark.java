@@ -0,0 +1,30 @@
+package com.p4zd4n.kebab.benchmarks;
+
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.services.orders.OrdersService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderMappingBenchmark {
+
+  @Param({"1", "10", "50"})
+  public int lines;
+
+  private OrdersService ordersService;
+  private Order order;
+
+  @Setup
+  public void setUp() {
+    ordersService = BenchmarkData.ordersService();
+    order = BenchmarkData.order(1L, lines);
+  }
+
+  @Benchmark
+  public OrderResponse mapToResponse() {
+    return ordersService.mapToResponse(order);
+  }
+}
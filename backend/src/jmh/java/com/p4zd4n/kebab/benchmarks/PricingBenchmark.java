@@ -0,0 +1,45 @@
+package com.p4zd4n.kebab.benchmarks;
+
+import com.p4zd4n.kebab.entities.Meal;
+import com.p4zd4n.kebab.enums.Size;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog.CatalogMeal;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingBenchmark {
+
+  @Param({"SMALL", "XL"})
+  public Size size;
+
+  @Param({"1", "3"})
+  public int quantity;
+
+  private Meal meal;
+  private CatalogMeal catalogMeal;
+
+  @Setup
+  public void setUp() {
+    meal = BenchmarkData.meal("Kebab");
+    catalogMeal =
+        MenuCatalog.empty()
+            .withItems(List.of(meal), List.of(), List.of(), List.of())
+            .findMeal("Kebab")
+            .orElseThrow();
+  }
+
+  @Benchmark
+  public BigDecimal mealPriceForSizeWithDiscountIncluded() {
+    return meal.getPriceForSizeWithDiscountIncluded(size, quantity);
+  }
+
+  @Benchmark
+  public long catalogMealPriceInGrosze() {
+    return catalogMeal.getPriceForSizeWithDiscountIncludedInGrosze(size, quantity);
+  }
+}
@@ -0,0 +1,47 @@
+package com.p4zd4n.kebab.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.responses.menu.meals.MealResponse;
+import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.services.orders.OrdersService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+  @Param({"10", "200"})
+  public int size;
+
+  private ObjectMapper objectMapper;
+  private List<OrderResponse> orders;
+  private List<MealResponse> meals;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    OrdersService ordersService = BenchmarkData.ordersService();
+    orders =
+        LongStream.rangeClosed(1, size)
+            .mapToObj(id -> ordersService.mapToResponse(BenchmarkData.order(id, 3)))
+            .toList();
+    meals = BenchmarkData.mealResponses(size);
+  }
+
+  @Benchmark
+  public byte[] serializeOrders() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(orders);
+  }
+
+  @Benchmark
+  public byte[] serializeMeals() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(meals);
+  }
+}
@@ -0,0 +1,57 @@
+package com.p4zd4n.kebab.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.itextpdf.text.DocumentException;
+import com.p4zd4n.kebab.entities.Employee;
+import com.p4zd4n.kebab.repositories.EmployeesRepository;
+import com.p4zd4n.kebab.repositories.WorkScheduleEntryRepository;
+import com.p4zd4n.kebab.services.workschedule.WorkScheduleService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkSchedulePdfBenchmark {
+
+  private static final LocalDate MONTH = LocalDate.of(2024, 8, 1);
+
+  @Param({"5", "20"})
+  public int employeesCount;
+
+  private WorkScheduleService workScheduleService;
+
+  @Setup
+  public void setUp() {
+    List<Employee> employees = BenchmarkData.employees(employeesCount);
+
+    WorkScheduleEntryRepository workScheduleEntryRepository =
+        mock(WorkScheduleEntryRepository.class);
+    EmployeesRepository employeesRepository = mock(EmployeesRepository.class);
+
+    when(workScheduleEntryRepository.findAll())
+        .thenReturn(BenchmarkData.workSchedule(employees, MONTH));
+    when(employeesRepository.findAll()).thenReturn(employees);
+
+    workScheduleService = new WorkScheduleService(workScheduleEntryRepository, employeesRepository);
+  }
+
+  @Setup(Level.Iteration)
+  public void authenticate() {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken("employee0@example.com", null, List.of()));
+  }
+
+  @Benchmark
+  public byte[] generateWorkSchedulePDF() throws DocumentException {
+    return workScheduleService.generateWorkSchedulePDF(
+        MONTH, MONTH.plusMonths(1).minusDays(1), "en");
+  }
+}
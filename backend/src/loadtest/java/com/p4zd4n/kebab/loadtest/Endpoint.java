@@ -0,0 +1,53 @@
+package com.p4zd4n.kebab.loadtest;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+@Getter
+public enum Endpoint {
+  ADD_ORDER("POST /api/v1/orders/add-order", 15),
+  TRACK_ORDER("POST /api/v1/orders/track-order", 20),
+  MENU_MEALS("GET /api/v1/menu/meals", 15),
+  MENU_BEVERAGES("GET /api/v1/menu/beverages", 10),
+  MENU_ADDONS("GET /api/v1/menu/addons", 8),
+  MENU_INGREDIENTS("GET /api/v1/menu/ingredients", 4),
+  OPENING_HOURS("GET /api/v1/hours/opening-hours", 10),
+  MEAL_PROMOTIONS("GET /api/v1/promotions/meal-promotions", 6),
+  BEVERAGE_PROMOTIONS("GET /api/v1/promotions/beverage-promotions", 4),
+  ADDON_PROMOTIONS("GET /api/v1/promotions/addon-promotions", 4),
+  STAFF_ORDERS("GET /api/v1/orders/all", 4);
+
+  private static final int TOTAL_WEIGHT =
+      Arrays.stream(values()).mapToInt(Endpoint::getWeight).sum();
+
+  private final String label;
+  private final int weight;
+
+  Endpoint(String label, int weight) {
+    this.label = label;
+    this.weight = weight;
+  }
+
+  public String getMethod() {
+    return label.substring(0, label.indexOf(' '));
+  }
+
+  public String getPath() {
+    return label.substring(label.indexOf(' ') + 1);
+  }
+
+  public static Endpoint pick(int roll) {
+    int remaining = Math.floorMod(roll, TOTAL_WEIGHT);
+
+    for (Endpoint endpoint : values()) {
+      remaining -= endpoint.weight;
+      if (remaining < 0) return endpoint;
+    }
+
+    throw new IllegalStateException("Roll " + roll + " outside of the traffic mix");
+  }
+
+  public static int totalWeight() {
+    return TOTAL_WEIGHT;
+  }
+}
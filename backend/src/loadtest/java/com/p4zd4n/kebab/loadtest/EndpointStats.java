@@ -0,0 +1,57 @@
+package com.p4zd4n.kebab.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import lombok.Builder;
+
+public class EndpointStats {
+
+  private final Endpoint endpoint;
+  private long[] latencies = new long[1024];
+  private int count;
+  private long errors;
+
+  public EndpointStats(Endpoint endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  public synchronized void record(long latencyNanos, boolean successful) {
+    if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+
+    latencies[count++] = latencyNanos;
+    if (!successful) errors++;
+  }
+
+  public synchronized Summary summarize(double durationSeconds) {
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+
+    return Summary.builder()
+        .endpoint(endpoint.getLabel())
+        .requests(count)
+        .errors(errors)
+        .throughput(durationSeconds > 0 ? count / durationSeconds : 0)
+        .p50(percentileMillis(sorted, 50))
+        .p95(percentileMillis(sorted, 95))
+        .p99(percentileMillis(sorted, 99))
+        .build();
+  }
+
+  private static double percentileMillis(long[] sorted, double percentile) {
+    if (sorted.length == 0) return 0;
+
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+
+    return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+  }
+
+  @Builder
+  public record Summary(
+      String endpoint,
+      long requests,
+      long errors,
+      @JsonProperty("throughput_rps") double throughput,
+      @JsonProperty("p50_ms") double p50,
+      @JsonProperty("p95_ms") double p95,
+      @JsonProperty("p99_ms") double p99) {}
+}
@@ -0,0 +1,238 @@
+package com.p4zd4n.kebab.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoadTestClient {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+  private static final int MAX_TRACKED_ORDERS = 1_000;
+  private static final int CUSTOMERS = 500;
+
+  private final URI baseUri;
+  private final ObjectMapper objectMapper;
+  private final HttpClient publicClient;
+  private final HttpClient staffClient;
+  private final List<MealChoice> meals = new ArrayList<>();
+  private final List<BeverageChoice> beverages = new ArrayList<>();
+  private final List<String> addons = new ArrayList<>();
+  private final AtomicReferenceArray<TrackedOrder> trackedOrders =
+      new AtomicReferenceArray<>(MAX_TRACKED_ORDERS);
+  private final AtomicLong trackedOrdersCount = new AtomicLong();
+
+  public LoadTestClient(String baseUrl, ObjectMapper objectMapper) {
+    this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+    this.objectMapper = objectMapper;
+    this.publicClient = newClient().build();
+    this.staffClient = newClient().cookieHandler(new CookieManager()).build();
+  }
+
+  public void login(String email, String password) throws IOException, InterruptedException {
+    HttpResponse<String> response =
+        staffClient.send(
+            jsonRequest("api/v1/auth/login", Map.of("email", email, "password", password)),
+            HttpResponse.BodyHandlers.ofString());
+
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(
+          "Staff login failed with status " + response.statusCode() + ": " + response.body());
+    }
+  }
+
+  public void loadMenu() throws IOException, InterruptedException {
+    List<String> meats = new ArrayList<>();
+    List<String> sauces = new ArrayList<>();
+
+    for (JsonNode ingredient : get("api/v1/menu/ingredients")) {
+      switch (ingredient.path("ingredient_type").asText()) {
+        case "MEAT" -> meats.add(ingredient.path("name").asText());
+        case "SAUCE" -> sauces.add(ingredient.path("name").asText());
+        default -> {}
+      }
+    }
+
+    for (JsonNode meal : get("api/v1/menu/meals")) {
+      List<String> sizes = new ArrayList<>();
+      meal.path("prices").fieldNames().forEachRemaining(sizes::add);
+
+      if (sizes.isEmpty()) continue;
+
+      for (String meat : meats) {
+        for (String sauce : sauces) {
+          meals.add(new MealChoice(meal.path("name").asText() + "_" + meat + "_" + sauce, sizes));
+        }
+      }
+    }
+
+    for (JsonNode beverage : get("api/v1/menu/beverages")) {
+      beverages.add(
+          new BeverageChoice(
+              beverage.path("name").asText(), beverage.path("capacity").decimalValue().toString()));
+    }
+
+    for (JsonNode addon : get("api/v1/menu/addons")) {
+      addons.add(addon.path("name").asText());
+    }
+
+    if (meals.isEmpty()) {
+      throw new IllegalStateException("Menu has no meals that can be ordered");
+    }
+
+    log.info(
+        "Loaded {} meal variants, {} beverages and {} addons",
+        meals.size(),
+        beverages.size(),
+        addons.size());
+  }
+
+  public Endpoint resolve(Endpoint endpoint) {
+    return endpoint == Endpoint.TRACK_ORDER && trackedOrdersCount.get() == 0
+        ? Endpoint.ADD_ORDER
+        : endpoint;
+  }
+
+  public int send(Endpoint endpoint) {
+    try {
+      return switch (endpoint) {
+        case ADD_ORDER -> addOrder();
+        case TRACK_ORDER -> trackOrder();
+        case STAFF_ORDERS -> discard(staffClient, getRequest(endpoint.getPath()));
+        default -> discard(publicClient, getRequest(endpoint.getPath()));
+      };
+    } catch (IOException e) {
+      return 0;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return 0;
+    }
+  }
+
+  private int addOrder() throws IOException, InterruptedException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    String phone = String.valueOf(random.nextInt(100_000_000, 1_000_000_000));
+
+    ObjectNode order = objectMapper.createObjectNode();
+    order.put("order_type", random.nextBoolean() ? "TAKEAWAY" : "ON_SITE");
+    order.put("order_status", "IN_PREPARATION");
+    order.put("customer_phone", phone);
+    order.put("customer_email", "loadtest" + random.nextInt(CUSTOMERS) + "@example.com");
+
+    MealChoice meal = meals.get(random.nextInt(meals.size()));
+    order
+        .putObject("meals")
+        .putObject(meal.key())
+        .put(meal.sizes().get(random.nextInt(meal.sizes().size())), 1 + random.nextInt(3));
+
+    if (!beverages.isEmpty() && random.nextBoolean()) {
+      BeverageChoice beverage = beverages.get(random.nextInt(beverages.size()));
+      order.putObject("beverages").putObject(beverage.name()).put(beverage.capacity(), 1);
+    }
+
+    if (!addons.isEmpty() && random.nextBoolean()) {
+      order.putObject("addons").put(addons.get(random.nextInt(addons.size())), 1);
+    }
+
+    HttpRequest request =
+        HttpRequest.newBuilder(baseUri.resolve("api/v1/orders/add-order"))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .header("Accept-Language", "en")
+            .header("Idempotency-Key", UUID.randomUUID().toString())
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(order)))
+            .build();
+
+    HttpResponse<String> response =
+        publicClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+    if (response.statusCode() == 200) {
+      track(new TrackedOrder(objectMapper.readTree(response.body()).path("id").asLong(), phone));
+    }
+
+    return response.statusCode();
+  }
+
+  private int trackOrder() throws IOException, InterruptedException {
+    long tracked = Math.min(trackedOrdersCount.get(), MAX_TRACKED_ORDERS);
+    TrackedOrder order =
+        tracked == 0
+            ? null
+            : trackedOrders.get(ThreadLocalRandom.current().nextInt((int) tracked));
+
+    if (order == null) return addOrder();
+
+    return discard(
+        publicClient,
+        jsonRequest(
+            "api/v1/orders/track-order",
+            Map.of("id", order.id(), "customer_phone", order.customerPhone())));
+  }
+
+  private void track(TrackedOrder order) {
+    long slot = trackedOrdersCount.getAndIncrement() % MAX_TRACKED_ORDERS;
+
+    trackedOrders.set((int) slot, order);
+  }
+
+  private JsonNode get(String path) throws IOException, InterruptedException {
+    HttpResponse<String> response =
+        publicClient.send(getRequest(path), HttpResponse.BodyHandlers.ofString());
+
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(
+          "GET " + path + " failed with status " + response.statusCode());
+    }
+
+    return objectMapper.readTree(response.body());
+  }
+
+  private int discard(HttpClient client, HttpRequest request)
+      throws IOException, InterruptedException {
+    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private HttpRequest getRequest(String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path.startsWith("/") ? path.substring(1) : path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Accept-Language", "en")
+        .GET()
+        .build();
+  }
+
+  private HttpRequest jsonRequest(String path, Object body) throws IOException {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json")
+        .header("Accept-Language", "en")
+        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+        .build();
+  }
+
+  private static HttpClient.Builder newClient() {
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(REQUEST_TIMEOUT);
+  }
+
+  private record MealChoice(String key, List<String> sizes) {}
+
+  private record BeverageChoice(String name, String capacity) {}
+
+  private record TrackedOrder(long id, String customerPhone) {}
+}
@@ -0,0 +1,28 @@
+package com.p4zd4n.kebab.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Builder;
+
+@Builder
+public record LoadTestConfig(
+    String baseUrl,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    String staffEmail,
+    String staffPassword,
+    Path reportFile) {
+
+  public static LoadTestConfig fromSystemProperties() {
+    return LoadTestConfig.builder()
+        .baseUrl(System.getProperty("loadtest.baseUrl", "http://localhost:8080"))
+        .concurrency(Integer.getInteger("loadtest.concurrency", 32))
+        .warmup(Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10L)))
+        .duration(Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60L)))
+        .staffEmail(System.getProperty("loadtest.staffEmail", "manager@example.com"))
+        .staffPassword(System.getProperty("loadtest.staffPassword", "manager123"))
+        .reportFile(Path.of(System.getProperty("loadtest.reportFile", "loadtest-report.json")))
+        .build();
+  }
+}
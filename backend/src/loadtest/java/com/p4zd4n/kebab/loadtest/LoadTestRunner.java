@@ -0,0 +1,124 @@
+package com.p4zd4n.kebab.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoadTestRunner {
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    LoadTestClient client = new LoadTestClient(config.baseUrl(), objectMapper);
+
+    client.login(config.staffEmail(), config.staffPassword());
+    client.loadMenu();
+
+    log.info("Warming up {} for {}", config.baseUrl(), config.warmup());
+    run(client, config.concurrency(), config.warmup(), null);
+
+    log.info(
+        "Running {} virtual users against {} for {}",
+        config.concurrency(),
+        config.baseUrl(),
+        config.duration());
+    Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    for (Endpoint endpoint : Endpoint.values()) stats.put(endpoint, new EndpointStats(endpoint));
+
+    long startedAt = System.nanoTime();
+    run(client, config.concurrency(), config.duration(), stats);
+    double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+    List<EndpointStats.Summary> summaries =
+        stats.values().stream()
+            .map(endpointStats -> endpointStats.summarize(elapsedSeconds))
+            .toList();
+
+    printReport(summaries);
+
+    if (config.reportFile().getParent() != null) {
+      Files.createDirectories(config.reportFile().getParent());
+    }
+    objectMapper.writeValue(config.reportFile().toFile(), summaries);
+
+    log.info("Load test report written to {}", config.reportFile().toAbsolutePath());
+  }
+
+  private static void run(
+      LoadTestClient client,
+      int concurrency,
+      Duration duration,
+      Map<Endpoint, EndpointStats> stats)
+      throws InterruptedException {
+
+    if (duration.isZero()) return;
+
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+    for (int i = 0; i < concurrency; i++) {
+      executor.execute(
+          () -> {
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+              Endpoint endpoint =
+                  client.resolve(
+                      Endpoint.pick(ThreadLocalRandom.current().nextInt(Endpoint.totalWeight())));
+
+              long start = System.nanoTime();
+              int status = client.send(endpoint);
+              long latency = System.nanoTime() - start;
+
+              if (stats != null) {
+                stats.get(endpoint).record(latency, status >= 200 && status < 300);
+              }
+            }
+          });
+    }
+
+    executor.shutdown();
+
+    if (!executor.awaitTermination(duration.toSeconds() + 30, TimeUnit.SECONDS)) {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void printReport(List<EndpointStats.Summary> summaries) {
+    StringBuilder report = new StringBuilder();
+    report.append(
+        String.format(
+            "%n%-45s %9s %7s %9s %9s %9s %9s%n",
+            "endpoint",
+            "requests",
+            "errors",
+            "req/s",
+            "p50 ms",
+            "p95 ms",
+            "p99 ms"));
+
+    for (EndpointStats.Summary summary : summaries) {
+      report.append(
+          String.format(
+              "%-45s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+              summary.endpoint(),
+              summary.requests(),
+              summary.errors(),
+              summary.throughput(),
+              summary.p50(),
+              summary.p95(),
+              summary.p99()));
+    }
+
+    log.info(report.toString());
+  }
+}
@@ -4,10 +4,12 @@ import lombok.AllArgsConstructor;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @AllArgsConstructor
 @EnableAsync(proxyTargetClass = true)
+@EnableScheduling
 public class KebabApplication {
   public static void main(String[] args) {
     SpringApplication.run(KebabApplication.class, args);
@@ -1,5 +1,8 @@
 package com.p4zd4n.kebab.configs;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.services.orders.OrderIdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
@@ -9,10 +12,14 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
   @Bean
-  public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(MessageSource messageSource) {
+  @ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+  public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+      MessageSource messageSource,
+      OrderIdempotencyStore orderIdempotencyStore,
+      ObjectMapper objectMapper) {
     FilterRegistrationBean<RateLimitFilter> bean = new FilterRegistrationBean<>();
 
-    bean.setFilter(new RateLimitFilter(messageSource));
+    bean.setFilter(new RateLimitFilter(messageSource, orderIdempotencyStore, objectMapper));
     bean.addUrlPatterns(
         "/api/v1/orders/add-order",
         "/api/v1/jobs/add-job-offer-application",
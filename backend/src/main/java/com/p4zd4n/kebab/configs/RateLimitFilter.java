@@ -2,12 +2,15 @@ package com.p4zd4n.kebab.configs;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.p4zd4n.kebab.exceptions.invalid.InvalidAcceptLanguageHeaderValue;
+import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
 import com.p4zd4n.kebab.responses.exceptions.ExceptionResponse;
+import com.p4zd4n.kebab.services.orders.OrderIdempotencyStore;
 import com.p4zd4n.kebab.utils.LanguageValidator;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
@@ -15,7 +18,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
@@ -24,12 +32,20 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class RateLimitFilter implements Filter {
 
+  private static final String ADD_ORDER_URI = "/api/v1/orders/add-order";
+
   private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
   private final MessageSource messageSource;
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final OrderIdempotencyStore orderIdempotencyStore;
+  private final ObjectMapper objectMapper;
 
-  public RateLimitFilter(MessageSource messageSource) {
+  public RateLimitFilter(
+      MessageSource messageSource,
+      OrderIdempotencyStore orderIdempotencyStore,
+      ObjectMapper objectMapper) {
     this.messageSource = messageSource;
+    this.orderIdempotencyStore = orderIdempotencyStore;
+    this.objectMapper = objectMapper;
   }
 
   @Override
@@ -48,6 +64,21 @@ public class RateLimitFilter implements Filter {
       return;
     }
 
+    if (ADD_ORDER_URI.equals(request.getRequestURI())) {
+      String idempotencyKey = request.getHeader("Idempotency-Key");
+
+      if (orderIdempotencyStore.contains(idempotencyKey)) {
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+
+        if (orderIdempotencyStore.matches(idempotencyKey, readOrder(cachedRequest.body))) {
+          filterChain.doFilter(cachedRequest, servletResponse);
+          return;
+        }
+
+        request = cachedRequest;
+      }
+    }
+
     String ip = request.getRemoteAddr();
     Bucket bucket = cache.computeIfAbsent(ip, this::newBucket);
 
@@ -73,6 +104,14 @@ public class RateLimitFilter implements Filter {
     }
   }
 
+  private NewOrderRequest readOrder(byte[] body) {
+    try {
+      return objectMapper.readValue(body, NewOrderRequest.class);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
   private Bucket newBucket(String key) {
     return Bucket.builder()
         .addLimit(Bandwidth.builder().capacity(1).refillGreedy(1, Duration.ofMinutes(5)).build())
@@ -101,10 +140,64 @@ public class RateLimitFilter implements Filter {
 
   private String getMessageKeyForEndpoint(String uri) {
     return switch (uri) {
-      case "/api/v1/orders/add-order" -> "addOrder.rateLimitExceeded";
+      case ADD_ORDER_URI -> "addOrder.rateLimitExceeded";
       case "/api/v1/jobs/add-job-offer-application" -> "addJobOfferApplication.rateLimitExceeded";
       case "/api/v1/newsletter/subscribe" -> "subscribe.rateLimitExceeded";
       default -> "";
     };
   }
+
+  private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    private CachedBodyRequest(HttpServletRequest request) throws IOException {
+      super(request);
+      this.body = request.getInputStream().readAllBytes();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+
+      ByteArrayInputStream input = new ByteArrayInputStream(body);
+
+      return new ServletInputStream() {
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            readListener.onDataAvailable();
+            readListener.onAllDataRead();
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+
+        @Override
+        public int read() {
+          return input.read();
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      return new BufferedReader(new InputStreamReader(getInputStream(), charset()));
+    }
+
+    private Charset charset() {
+      String encoding = getCharacterEncoding();
+
+      return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+  }
 }
@@ -77,12 +77,17 @@ public class SecurityConfig {
                         "/api/v1/work-schedule/remove-entry",
                         "/api/v1/employees/add-employee",
                         "/api/v1/employees/update-employee",
-                        "/api/v1/employees/remove-employee")
+                        "/api/v1/employees/remove-employee",
+                        "/api/v1/reports/**",
+                        "/actuator/metrics/**")
                     .hasRole("MANAGER")
                     .requestMatchers(
                         "api/v1/auth/logout",
                         "/api/v1/orders/all",
+                        "/api/v1/orders/page",
+                        "/api/v1/orders/archive",
                         "/api/v1/orders/update-order",
+                        "/api/v1/orders/update-orders-status",
                         "/api/v1/orders/remove-order",
                         "/api/v1/work-schedule/all-entries",
                         "/api/v1/employees/all",
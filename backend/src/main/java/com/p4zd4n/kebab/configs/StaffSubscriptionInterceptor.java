@@ -0,0 +1,51 @@
+package com.p4zd4n.kebab.configs;
+
+import java.security.Principal;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+public class StaffSubscriptionInterceptor implements ChannelInterceptor {
+
+  private static final String STAFF_TOPICS = "/topic/staff/**";
+
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+    if (accessor != null
+        && StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+        && accessor.getDestination() != null
+        && reachesStaffTopic(accessor.getDestination())
+        && !isManagerOrEmployee(accessor.getUser())) {
+      throw new AccessDeniedException(
+          "Subscription to '" + accessor.getDestination() + "' requires staff role");
+    }
+
+    return message;
+  }
+
+  private boolean reachesStaffTopic(String destination) {
+    return destination.chars().anyMatch(c -> c == '*' || c == '?' || c == '{')
+        || pathMatcher.match(STAFF_TOPICS, destination);
+  }
+
+  private boolean isManagerOrEmployee(Principal principal) {
+    return principal instanceof Authentication authentication
+        && authentication.isAuthenticated()
+        && authentication.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .anyMatch(role -> role.equals("ROLE_MANAGER") || role.equals("ROLE_EMPLOYEE"));
+  }
+}
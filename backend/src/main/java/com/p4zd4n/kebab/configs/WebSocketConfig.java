@@ -1,6 +1,7 @@
 package com.p4zd4n.kebab.configs;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -22,4 +23,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
       .setAllowedOrigins("http://localhost:4200")
       .withSockJS();
   }
+
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.interceptors(new StaffSubscriptionInterceptor());
+  }
 }
@@ -2,12 +2,12 @@ package com.p4zd4n.kebab.controllers;
 
 import com.p4zd4n.kebab.entities.Contact;
 import com.p4zd4n.kebab.requests.contact.UpdatedContactRequest;
-import com.p4zd4n.kebab.responses.contact.ContactResponse;
 import com.p4zd4n.kebab.responses.contact.UpdatedContactResponse;
 import com.p4zd4n.kebab.services.contact.ContactService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import com.p4zd4n.kebab.utils.LanguageValidator;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,16 +19,22 @@ import org.springframework.web.bind.annotation.*;
 public class ContactController {
 
   private final ContactService contactService;
+  private final ResponseSnapshotStore responseSnapshotStore;
 
-  public ContactController(ContactService contactService) {
+  public ContactController(
+      ContactService contactService, ResponseSnapshotStore responseSnapshotStore) {
     this.contactService = contactService;
+    this.responseSnapshotStore = responseSnapshotStore;
   }
 
   @GetMapping("/contacts")
-  public ResponseEntity<List<ContactResponse>> getContacts() {
+  public ResponseEntity<byte[]> getContacts(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get contacts request");
 
-    return ResponseEntity.ok(contactService.getContacts());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.CONTACTS, contactService::getContacts, ifNoneMatch, acceptEncoding);
   }
 
   @PutMapping("/update-contact")
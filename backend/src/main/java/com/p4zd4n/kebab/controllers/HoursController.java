@@ -2,12 +2,12 @@ package com.p4zd4n.kebab.controllers;
 
 import com.p4zd4n.kebab.entities.OpeningHour;
 import com.p4zd4n.kebab.requests.hour.UpdatedHourRequest;
-import com.p4zd4n.kebab.responses.hours.OpeningHoursResponse;
 import com.p4zd4n.kebab.responses.hours.UpdatedHourResponse;
 import com.p4zd4n.kebab.services.hours.HoursService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import com.p4zd4n.kebab.utils.LanguageValidator;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,16 +19,21 @@ import org.springframework.web.bind.annotation.*;
 public class HoursController {
 
   private final HoursService hoursService;
+  private final ResponseSnapshotStore responseSnapshotStore;
 
-  public HoursController(HoursService hoursService) {
+  public HoursController(HoursService hoursService, ResponseSnapshotStore responseSnapshotStore) {
     this.hoursService = hoursService;
+    this.responseSnapshotStore = responseSnapshotStore;
   }
 
   @GetMapping("/opening-hours")
-  public ResponseEntity<List<OpeningHoursResponse>> getOpeningHours() {
+  public ResponseEntity<byte[]> getOpeningHours(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get opening hours request");
 
-    return ResponseEntity.ok(hoursService.getOpeningHours());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.OPENING_HOURS, hoursService::getOpeningHours, ifNoneMatch, acceptEncoding);
   }
 
   @PutMapping("/update-opening-hour")
@@ -5,6 +5,8 @@ import com.p4zd4n.kebab.requests.jobs.*;
 import com.p4zd4n.kebab.responses.jobs.*;
 import com.p4zd4n.kebab.services.jobs.JobApplicationService;
 import com.p4zd4n.kebab.services.jobs.JobOfferService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import com.p4zd4n.kebab.utils.LanguageValidator;
 import jakarta.validation.Valid;
 import java.io.IOException;
@@ -22,11 +24,15 @@ public class JobsController {
 
   private final JobOfferService jobOfferService;
   private final JobApplicationService jobApplicationService;
+  private final ResponseSnapshotStore responseSnapshotStore;
 
   public JobsController(
-      JobOfferService jobOfferService, JobApplicationService jobApplicationService) {
+      JobOfferService jobOfferService,
+      JobApplicationService jobApplicationService,
+      ResponseSnapshotStore responseSnapshotStore) {
     this.jobOfferService = jobOfferService;
     this.jobApplicationService = jobApplicationService;
+    this.responseSnapshotStore = responseSnapshotStore;
   }
 
   @GetMapping("/job-offers/manager")
@@ -37,10 +43,16 @@ public class JobsController {
   }
 
   @GetMapping("/job-offers/general")
-  public ResponseEntity<List<JobOfferGeneralResponse>> getJobOffersForOtherUsers() {
+  public ResponseEntity<byte[]> getJobOffersForOtherUsers(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get job offers for other users request");
 
-    return ResponseEntity.ok(jobOfferService.getJobOffersForOtherUsers());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.JOB_OFFERS,
+        jobOfferService::getJobOffersForOtherUsers,
+        ifNoneMatch,
+        acceptEncoding);
   }
 
   @PostMapping("/add-job-offer")
@@ -15,25 +15,27 @@ import com.p4zd4n.kebab.requests.menu.ingredients.RemovedIngredientRequest;
 import com.p4zd4n.kebab.requests.menu.meals.NewMealRequest;
 import com.p4zd4n.kebab.requests.menu.meals.RemovedMealRequest;
 import com.p4zd4n.kebab.requests.menu.meals.UpdatedMealRequest;
-import com.p4zd4n.kebab.responses.menu.addons.AddonResponse;
+import com.p4zd4n.kebab.responses.menu.MenuVersionResponse;
 import com.p4zd4n.kebab.responses.menu.addons.NewAddonResponse;
 import com.p4zd4n.kebab.responses.menu.addons.RemovedAddonResponse;
 import com.p4zd4n.kebab.responses.menu.addons.UpdatedAddonResponse;
-import com.p4zd4n.kebab.responses.menu.beverages.BeverageResponse;
 import com.p4zd4n.kebab.responses.menu.beverages.NewBeverageResponse;
 import com.p4zd4n.kebab.responses.menu.beverages.RemovedBeverageResponse;
 import com.p4zd4n.kebab.responses.menu.beverages.UpdatedBeverageResponse;
-import com.p4zd4n.kebab.responses.menu.ingredients.IngredientResponse;
 import com.p4zd4n.kebab.responses.menu.ingredients.NewIngredientResponse;
 import com.p4zd4n.kebab.responses.menu.ingredients.RemovedIngredientResponse;
-import com.p4zd4n.kebab.responses.menu.meals.MealResponse;
 import com.p4zd4n.kebab.responses.menu.meals.NewMealResponse;
 import com.p4zd4n.kebab.responses.menu.meals.RemovedMealResponse;
 import com.p4zd4n.kebab.responses.menu.meals.UpdatedMealResponse;
+import com.p4zd4n.kebab.responses.menu.search.MenuSearchResponse;
 import com.p4zd4n.kebab.services.menu.AddonService;
 import com.p4zd4n.kebab.services.menu.BeverageService;
 import com.p4zd4n.kebab.services.menu.IngredientService;
 import com.p4zd4n.kebab.services.menu.MealService;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.menu.search.MenuSearchService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import com.p4zd4n.kebab.utils.LanguageValidator;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -51,23 +53,35 @@ public class MenuController {
   private final AddonService addonService;
   private final MealService mealService;
   private final IngredientService ingredientService;
+  private final ResponseSnapshotStore responseSnapshotStore;
+  private final MenuSearchService menuSearchService;
+  private final MenuCatalogService menuCatalogService;
 
   public MenuController(
       BeverageService beverageService,
       AddonService addonService,
       MealService mealService,
-      IngredientService ingredientService) {
+      IngredientService ingredientService,
+      ResponseSnapshotStore responseSnapshotStore,
+      MenuSearchService menuSearchService,
+      MenuCatalogService menuCatalogService) {
     this.beverageService = beverageService;
     this.addonService = addonService;
     this.mealService = mealService;
     this.ingredientService = ingredientService;
+    this.responseSnapshotStore = responseSnapshotStore;
+    this.menuSearchService = menuSearchService;
+    this.menuCatalogService = menuCatalogService;
   }
 
   @GetMapping("/beverages")
-  public ResponseEntity<List<BeverageResponse>> getBeverages() {
+  public ResponseEntity<byte[]> getBeverages(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get beverages request");
 
-    return ResponseEntity.ok(beverageService.getBeverages());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.BEVERAGES, beverageService::getBeverages, ifNoneMatch, acceptEncoding);
   }
 
   @PostMapping("/add-beverage")
@@ -116,10 +130,13 @@ public class MenuController {
   }
 
   @GetMapping("/addons")
-  public ResponseEntity<List<AddonResponse>> getAddons() {
+  public ResponseEntity<byte[]> getAddons(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get addons request");
 
-    return ResponseEntity.ok(addonService.getAddons());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.ADDONS, addonService::getAddons, ifNoneMatch, acceptEncoding);
   }
 
   @PostMapping("/add-addon")
@@ -165,10 +182,13 @@ public class MenuController {
   }
 
   @GetMapping("/meals")
-  public ResponseEntity<List<MealResponse>> getMeals() {
+  public ResponseEntity<byte[]> getMeals(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get meals request");
 
-    return ResponseEntity.ok(mealService.getMeals());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.MEALS, mealService::getMeals, ifNoneMatch, acceptEncoding);
   }
 
   @PostMapping("/add-meal")
@@ -214,10 +234,13 @@ public class MenuController {
   }
 
   @GetMapping("/ingredients")
-  public ResponseEntity<List<IngredientResponse>> getIngredients() {
+  public ResponseEntity<byte[]> getIngredients(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get ingredients request");
 
-    return ResponseEntity.ok(ingredientService.getIngredients());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.INGREDIENTS, ingredientService::getIngredients, ifNoneMatch, acceptEncoding);
   }
 
   @PostMapping("/add-ingredient")
@@ -245,4 +268,23 @@ public class MenuController {
 
     return ResponseEntity.ok(response);
   }
+
+  @GetMapping("/search")
+  public ResponseEntity<List<MenuSearchResponse>> search(
+      @RequestParam("q") String query,
+      @RequestParam(value = "limit", defaultValue = "10") int limit) {
+    log.info("Received menu search request");
+
+    return ResponseEntity.ok(menuSearchService.search(query, limit));
+  }
+
+  @GetMapping("/version")
+  public ResponseEntity<MenuVersionResponse> getVersion() {
+    log.info("Received get menu version request");
+
+    MenuVersionResponse response =
+        MenuVersionResponse.builder().version(menuCatalogService.getCatalog().getVersion()).build();
+
+    return ResponseEntity.ok(response);
+  }
 }
@@ -1,20 +1,28 @@
 package com.p4zd4n.kebab.controllers;
 
 import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderType;
 import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
 import com.p4zd4n.kebab.requests.orders.RemovedOrderRequest;
 import com.p4zd4n.kebab.requests.orders.TrackOrderRequest;
 import com.p4zd4n.kebab.requests.orders.UpdatedOrderRequest;
+import com.p4zd4n.kebab.requests.orders.UpdatedOrdersStatusRequest;
 import com.p4zd4n.kebab.responses.orders.NewOrderResponse;
 import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.responses.orders.OrdersPageResponse;
 import com.p4zd4n.kebab.responses.orders.RemovedOrderResponse;
 import com.p4zd4n.kebab.responses.orders.UpdatedOrderResponse;
+import com.p4zd4n.kebab.responses.orders.UpdatedOrdersStatusResponse;
+import com.p4zd4n.kebab.services.orders.OrderArchiveService;
+import com.p4zd4n.kebab.services.orders.OrderIdempotencyStore;
 import com.p4zd4n.kebab.services.orders.OrdersService;
 import com.p4zd4n.kebab.utils.LanguageValidator;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,9 +33,16 @@ import org.springframework.web.bind.annotation.*;
 public class OrdersController {
 
   private final OrdersService ordersService;
+  private final OrderIdempotencyStore orderIdempotencyStore;
+  private final OrderArchiveService orderArchiveService;
 
-  public OrdersController(OrdersService ordersService) {
+  public OrdersController(
+      OrdersService ordersService,
+      OrderIdempotencyStore orderIdempotencyStore,
+      OrderArchiveService orderArchiveService) {
     this.ordersService = ordersService;
+    this.orderIdempotencyStore = orderIdempotencyStore;
+    this.orderArchiveService = orderArchiveService;
   }
 
   @GetMapping("/all")
@@ -36,16 +51,55 @@ public class OrdersController {
     return ResponseEntity.ok(ordersService.getOrders());
   }
 
+  @GetMapping("/page")
+  public ResponseEntity<OrdersPageResponse> getOrdersPage(
+      @RequestHeader(value = "Accept-Language") String language,
+      @RequestParam(value = "status", required = false) OrderStatus status,
+      @RequestParam(value = "type", required = false) OrderType type,
+      @RequestParam(value = "from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @RequestParam(value = "to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "limit", required = false) Integer limit) {
+    LanguageValidator.validateLanguage(language);
+
+    log.info("Received get orders page request");
+
+    return ResponseEntity.ok(ordersService.getOrdersPage(status, type, from, to, cursor, limit));
+  }
+
+  @GetMapping("/archive")
+  public ResponseEntity<List<OrderResponse>> getArchivedOrders(
+      @RequestHeader(value = "Accept-Language") String language,
+      @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to,
+      @RequestParam(value = "limit", required = false) Integer limit) {
+    LanguageValidator.validateLanguage(language);
+
+    log.info("Received get archived orders request");
+
+    return ResponseEntity.ok(orderArchiveService.getArchivedOrders(from, to, limit));
+  }
+
   @PostMapping("/add-order")
   public ResponseEntity<NewOrderResponse> addOrder(
       @RequestHeader(value = "Accept-Language") String language,
-      @Valid @RequestBody NewOrderRequest request)
-      throws MessagingException {
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+      @Valid @RequestBody NewOrderRequest request) {
     LanguageValidator.validateLanguage(language);
 
     log.info("Received add order request");
 
-    NewOrderResponse response = ordersService.addOrder(request, language);
+    NewOrderResponse response =
+        idempotencyKey == null || idempotencyKey.isBlank()
+            ? ordersService.addOrder(request, language)
+            : orderIdempotencyStore.execute(
+                idempotencyKey, request, () -> ordersService.addOrder(request, language));
 
     log.info("Successfully added new order");
 
@@ -83,6 +137,21 @@ public class OrdersController {
     return ResponseEntity.ok(response);
   }
 
+  @PutMapping("/update-orders-status")
+  public ResponseEntity<UpdatedOrdersStatusResponse> updateOrdersStatus(
+      @RequestHeader(value = "Accept-Language") String language,
+      @Valid @RequestBody UpdatedOrdersStatusRequest request) {
+    LanguageValidator.validateLanguage(language);
+
+    log.info("Received update orders status request");
+
+    UpdatedOrdersStatusResponse response = ordersService.updateOrdersStatus(request);
+
+    log.info("Successfully updated orders status");
+
+    return ResponseEntity.ok(response);
+  }
+
   @DeleteMapping("/remove-order")
   public ResponseEntity<RemovedOrderResponse> removeOrder(
       @Valid @RequestBody RemovedOrderRequest request) {
@@ -12,25 +12,23 @@ import com.p4zd4n.kebab.requests.promotions.beveragepromotions.UpdatedBeveragePr
 import com.p4zd4n.kebab.requests.promotions.mealpromotions.NewMealPromotionRequest;
 import com.p4zd4n.kebab.requests.promotions.mealpromotions.RemovedMealPromotionRequest;
 import com.p4zd4n.kebab.requests.promotions.mealpromotions.UpdatedMealPromotionRequest;
-import com.p4zd4n.kebab.responses.promotions.addonpromotions.AddonPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.NewAddonPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.RemovedAddonPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.UpdatedAddonPromotionResponse;
-import com.p4zd4n.kebab.responses.promotions.beveragepromotions.BeveragePromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.NewBeveragePromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.RemovedBeveragePromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.UpdatedBeveragePromotionResponse;
-import com.p4zd4n.kebab.responses.promotions.mealpromotions.MealPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.NewMealPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.RemovedMealPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.UpdatedMealPromotionResponse;
 import com.p4zd4n.kebab.services.promotions.AddonPromotionsService;
 import com.p4zd4n.kebab.services.promotions.BeveragePromotionsService;
 import com.p4zd4n.kebab.services.promotions.MealPromotionsService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import com.p4zd4n.kebab.utils.LanguageValidator;
 import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,20 +42,29 @@ public class PromotionsController {
   private final MealPromotionsService mealPromotionsService;
   private final BeveragePromotionsService beveragePromotionsService;
   private final AddonPromotionsService addonPromotionsService;
+  private final ResponseSnapshotStore responseSnapshotStore;
 
   public PromotionsController(
       MealPromotionsService mealPromotionsService,
       BeveragePromotionsService beveragePromotionsService,
-      AddonPromotionsService addonPromotionsService) {
+      AddonPromotionsService addonPromotionsService,
+      ResponseSnapshotStore responseSnapshotStore) {
     this.mealPromotionsService = mealPromotionsService;
     this.beveragePromotionsService = beveragePromotionsService;
     this.addonPromotionsService = addonPromotionsService;
+    this.responseSnapshotStore = responseSnapshotStore;
   }
 
   @GetMapping("/meal-promotions")
-  public ResponseEntity<List<MealPromotionResponse>> getMealPromotions() {
+  public ResponseEntity<byte[]> getMealPromotions(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get meal promotions request");
-    return ResponseEntity.ok(mealPromotionsService.getMealPromotions());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.MEAL_PROMOTIONS,
+        mealPromotionsService::getMealPromotions,
+        ifNoneMatch,
+        acceptEncoding);
   }
 
   @PostMapping("/add-meal-promotion")
@@ -106,9 +113,15 @@ public class PromotionsController {
   }
 
   @GetMapping("/beverage-promotions")
-  public ResponseEntity<List<BeveragePromotionResponse>> getBeveragePromotions() {
+  public ResponseEntity<byte[]> getBeveragePromotions(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get beverage promotions request");
-    return ResponseEntity.ok(beveragePromotionsService.getBeveragePromotions());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.BEVERAGE_PROMOTIONS,
+        beveragePromotionsService::getBeveragePromotions,
+        ifNoneMatch,
+        acceptEncoding);
   }
 
   @PostMapping("/add-beverage-promotion")
@@ -160,9 +173,15 @@ public class PromotionsController {
   }
 
   @GetMapping("/addon-promotions")
-  public ResponseEntity<List<AddonPromotionResponse>> getAddonPromotions() {
+  public ResponseEntity<byte[]> getAddonPromotions(
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+      @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
     log.info("Received get addon promotions request");
-    return ResponseEntity.ok(addonPromotionsService.getAddonPromotions());
+    return responseSnapshotStore.respond(
+        PublicSnapshot.ADDON_PROMOTIONS,
+        addonPromotionsService::getAddonPromotions,
+        ifNoneMatch,
+        acceptEncoding);
   }
 
   @PostMapping("/add-addon-promotion")
@@ -0,0 +1,64 @@
+package com.p4zd4n.kebab.controllers;
+
+import com.p4zd4n.kebab.enums.SalesItemType;
+import com.p4zd4n.kebab.responses.reports.DailyRevenueResponse;
+import com.p4zd4n.kebab.responses.reports.HourlyRevenueResponse;
+import com.p4zd4n.kebab.responses.reports.ItemSalesResponse;
+import com.p4zd4n.kebab.services.reports.SalesReportService;
+import com.p4zd4n.kebab.utils.LanguageValidator;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+@CrossOrigin(origins = "http://localhost:4200")
+@Slf4j
+public class ReportsController {
+
+  private final SalesReportService salesReportService;
+
+  public ReportsController(SalesReportService salesReportService) {
+    this.salesReportService = salesReportService;
+  }
+
+  @GetMapping("/daily-revenue")
+  public ResponseEntity<List<DailyRevenueResponse>> getDailyRevenue(
+      @RequestHeader(value = "Accept-Language") String language,
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    LanguageValidator.validateLanguage(language);
+
+    log.info("Received get daily revenue request");
+
+    return ResponseEntity.ok(salesReportService.getDailyRevenue(from, to));
+  }
+
+  @GetMapping("/hourly-revenue")
+  public ResponseEntity<List<HourlyRevenueResponse>> getHourlyRevenue(
+      @RequestHeader(value = "Accept-Language") String language,
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    LanguageValidator.validateLanguage(language);
+
+    log.info("Received get hourly revenue request");
+
+    return ResponseEntity.ok(salesReportService.getHourlyRevenue(from, to));
+  }
+
+  @GetMapping("/item-sales")
+  public ResponseEntity<List<ItemSalesResponse>> getItemSales(
+      @RequestHeader(value = "Accept-Language") String language,
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(value = "type", required = false) SalesItemType type) {
+    LanguageValidator.validateLanguage(language);
+
+    log.info("Received get item sales request");
+
+    return ResponseEntity.ok(salesReportService.getItemSales(from, to, type));
+  }
+}
@@ -1,8 +1,8 @@
 package com.p4zd4n.kebab.entities;
 
+import com.p4zd4n.kebab.utils.PriceUtil;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -40,9 +40,7 @@ public class Addon extends WithTimestamp {
     BigDecimal basePrice = getPrice();
     BigDecimal discount =
         getPromotion() != null ? getPromotion().getDiscountPercentage() : BigDecimal.ZERO;
-    BigDecimal discountFraction = discount.divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-    BigDecimal discountedPrice = basePrice.subtract(basePrice.multiply(discountFraction));
 
-    return discountedPrice.multiply(BigDecimal.valueOf(quantity));
+    return PriceUtil.applyDiscount(basePrice, discount, quantity);
   }
 }
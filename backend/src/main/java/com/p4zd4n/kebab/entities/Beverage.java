@@ -1,8 +1,8 @@
 package com.p4zd4n.kebab.entities;
 
+import com.p4zd4n.kebab.utils.PriceUtil;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -42,9 +42,7 @@ public class Beverage extends WithTimestamp {
 
   public BigDecimal getPriceWithDiscountIncluded(Integer quantity) {
     BigDecimal discount = promotion != null ? promotion.getDiscountPercentage() : BigDecimal.ZERO;
-    BigDecimal discountFraction = discount.divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-    BigDecimal discountedPrice = price.subtract(price.multiply(discountFraction));
 
-    return discountedPrice.multiply(BigDecimal.valueOf(quantity));
+    return PriceUtil.applyDiscount(price, discount, quantity);
   }
 }
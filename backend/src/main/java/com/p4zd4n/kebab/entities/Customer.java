@@ -1,13 +1,16 @@
 package com.p4zd4n.kebab.entities;
 
 import jakarta.persistence.*;
+import java.util.Locale;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "customers")
+@Table(
+    name = "customers",
+    uniqueConstraints = @UniqueConstraint(name = "uk_customers_email", columnNames = "email"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +21,7 @@ public class Customer {
   @Column(name = "id")
   private Long id;
 
-  @Column(name = "email")
+  @Column(name = "email", nullable = false)
   private String email;
 
   @Column(name = "orders_count")
@@ -26,7 +29,11 @@ public class Customer {
 
   @Builder
   public Customer(String email) {
-    this.email = email;
+    this.email = normalizeEmail(email);
     orderCount = 1L;
   }
+
+  public static String normalizeEmail(String email) {
+    return email.trim().toLowerCase(Locale.ROOT);
+  }
 }
@@ -0,0 +1,46 @@
+package com.p4zd4n.kebab.entities;
+
+import com.p4zd4n.kebab.enums.SalesItemType;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+    name = "sales_items_daily",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_sales_items_daily_date_item",
+            columnNames = {"sales_date", "item_type", "item_name", "variant"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class DailyItemSales {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Long id;
+
+  @Column(name = "sales_date", nullable = false)
+  private LocalDate salesDate;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "item_type", nullable = false)
+  private SalesItemType itemType;
+
+  @Column(name = "item_name", nullable = false)
+  private String itemName;
+
+  @Column(name = "variant", nullable = false)
+  private String variant;
+
+  @Column(name = "quantity", nullable = false)
+  private Long quantity;
+
+  @Column(name = "revenue", nullable = false)
+  private BigDecimal revenue;
+}
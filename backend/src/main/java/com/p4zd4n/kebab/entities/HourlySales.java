@@ -0,0 +1,40 @@
+package com.p4zd4n.kebab.entities;
+
+import com.p4zd4n.kebab.enums.OrderType;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+    name = "sales_hourly",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_sales_hourly_bucket_start_order_type",
+            columnNames = {"bucket_start", "order_type"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class HourlySales {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Long id;
+
+  @Column(name = "bucket_start", nullable = false)
+  private LocalDateTime bucketStart;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "order_type", nullable = false)
+  private OrderType orderType;
+
+  @Column(name = "order_count", nullable = false)
+  private Long orderCount;
+
+  @Column(name = "revenue", nullable = false)
+  private BigDecimal revenue;
+}
@@ -3,53 +3,64 @@ package com.p4zd4n.kebab.entities;
 import com.p4zd4n.kebab.enums.IngredientType;
 import com.p4zd4n.kebab.enums.Size;
 import com.p4zd4n.kebab.exceptions.others.ExcessBreadException;
+import com.p4zd4n.kebab.utils.PriceUtil;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
 @Table(name = "meals")
+@NamedEntityGraph(
+    name = Meal.MENU_GRAPH,
+    attributeNodes = @NamedAttributeNode(value = "mealIngredients", subgraph = "ingredient"),
+    subgraphs =
+        @NamedSubgraph(name = "ingredient", attributeNodes = @NamedAttributeNode("ingredient")))
+@NamedEntityGraph(name = Meal.PROMOTIONS_GRAPH, attributeNodes = @NamedAttributeNode("promotions"))
 @Getter
 @Setter
 @NoArgsConstructor
 public class Meal extends WithTimestamp {
 
+  public static final String MENU_GRAPH = "Meal.menu";
+  public static final String PROMOTIONS_GRAPH = "Meal.promotions";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   @Column(name = "id")
   private Long id;
 
-  @ManyToMany(fetch = FetchType.EAGER)
+  @ManyToMany
   @JoinTable(
       name = "meal_promotions",
       joinColumns = @JoinColumn(name = "meal_id"),
       inverseJoinColumns = @JoinColumn(name = "promotion_id"))
-  private List<MealPromotion> promotions = new ArrayList<>();
+  @OrderBy("id")
+  @BatchSize(size = 100)
+  private Set<MealPromotion> promotions = new LinkedHashSet<>();
 
   @Column(name = "name", nullable = false, unique = true)
   private String name;
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  @ElementCollection
   @CollectionTable(name = "meal_prices", joinColumns = @JoinColumn(name = "meal_id"))
   @MapKeyColumn(name = "size")
   @Column(name = "price")
   @Enumerated(EnumType.STRING)
+  @BatchSize(size = 100)
   private Map<Size, BigDecimal> prices = new EnumMap<>(Size.class);
 
-  @OneToMany(
-      fetch = FetchType.EAGER,
-      mappedBy = "meal",
-      cascade = CascadeType.ALL,
-      orphanRemoval = true)
-  private List<MealIngredient> mealIngredients = new ArrayList<>();
+  @OneToMany(mappedBy = "meal", cascade = CascadeType.ALL, orphanRemoval = true)
+  @OrderBy("id")
+  @BatchSize(size = 100)
+  private Set<MealIngredient> mealIngredients = new LinkedHashSet<>();
 
   @Builder
   public Meal(String name, Map<Size, BigDecimal> prices) {
@@ -98,10 +109,7 @@ public class Meal extends WithTimestamp {
             .findFirst()
             .orElse(BigDecimal.ZERO);
 
-    BigDecimal discountFraction = discount.divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-    BigDecimal discountedPrice = basePrice.subtract(basePrice.multiply(discountFraction));
-
-    return discountedPrice.multiply(BigDecimal.valueOf(quantity));
+    return PriceUtil.applyDiscount(basePrice, discount, quantity);
   }
 
   public BigDecimal getPriceForSize(Size size) {
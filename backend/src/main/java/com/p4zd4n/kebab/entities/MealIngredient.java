@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "meals_ingredients")
+@Table(
+    name = "meals_ingredients",
+    indexes = @Index(name = "idx_meals_ingredients_ingredient_id", columnList = "ingredient_id"))
 @Getter
 @Setter
 @NoArgsConstructor
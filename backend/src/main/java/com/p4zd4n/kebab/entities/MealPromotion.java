@@ -13,6 +13,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.scheduling.annotation.Async;
 
 import java.math.BigDecimal;
@@ -36,6 +37,7 @@ public class MealPromotion extends WithTimestamp implements Promotion, Observabl
 
   @ElementCollection(targetClass = Size.class, fetch = FetchType.EAGER)
   @CollectionTable(name = "promotion_sizes", joinColumns = @JoinColumn(name = "promotion_id"))
+  @BatchSize(size = 100)
   @Enumerated(EnumType.STRING)
   @Column(name = "size")
   private Set<Size> sizes;
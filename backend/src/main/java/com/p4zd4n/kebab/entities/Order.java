@@ -12,16 +12,28 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    indexes = {
+      @Index(name = "idx_orders_created_at_id", columnList = "created_at DESC, id DESC"),
+      @Index(
+          name = "idx_orders_status_created_at_id",
+          columnList = "order_status, created_at DESC, id DESC"),
+      @Index(
+          name = "idx_orders_type_created_at_id",
+          columnList = "order_type, created_at DESC, id DESC")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
 public class Order extends WithTimestamp {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+  @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
   @Column(name = "id", nullable = false)
   private Long id;
 
@@ -58,12 +70,15 @@ public class Order extends WithTimestamp {
   private BigDecimal totalPrice = BigDecimal.ZERO;
 
   @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 100)
   private List<OrderMeal> orderMeals = new ArrayList<>();
 
   @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 100)
   private List<OrderBeverage> orderBeverages = new ArrayList<>();
 
   @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 100)
   private List<OrderAddon> orderAddons = new ArrayList<>();
 
   @Builder
@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "order_addons")
+@Table(
+    name = "order_addons",
+    indexes = @Index(name = "idx_order_addons_order_id", columnList = "order_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +21,8 @@ import lombok.Setter;
 public class OrderAddon {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_addons_seq")
+  @SequenceGenerator(name = "order_addons_seq", sequenceName = "order_addons_seq", allocationSize = 50)
   @Column(name = "id", nullable = false)
   @JsonIgnore
   private Long id;
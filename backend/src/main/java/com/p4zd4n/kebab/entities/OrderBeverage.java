@@ -12,7 +12,9 @@ import lombok.Setter;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "order_beverages")
+@Table(
+    name = "order_beverages",
+    indexes = @Index(name = "idx_order_beverages_order_id", columnList = "order_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +22,8 @@ import java.math.BigDecimal;
 public class OrderBeverage {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_beverages_seq")
+  @SequenceGenerator(name = "order_beverages_seq", sequenceName = "order_beverages_seq", allocationSize = 50)
   @Column(name = "id", nullable = false)
   @JsonIgnore
   private Long id;
@@ -3,6 +3,7 @@ package com.p4zd4n.kebab.entities;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.p4zd4n.kebab.entities.converters.IngredientNamesConverter;
 import com.p4zd4n.kebab.enums.Size;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
@@ -14,7 +15,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "order_meals")
+@Table(
+    name = "order_meals",
+    indexes = @Index(name = "idx_order_meals_order_id", columnList = "order_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +25,8 @@ import lombok.Setter;
 public class OrderMeal {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_meals_seq")
+  @SequenceGenerator(name = "order_meals_seq", sequenceName = "order_meals_seq", allocationSize = 50)
   @Column(name = "id", nullable = false)
   @JsonIgnore
   private Long id;
@@ -44,11 +48,8 @@ public class OrderMeal {
   @Column(name = "quantity", nullable = false)
   private Integer quantity;
 
-  @ElementCollection(fetch = FetchType.EAGER)
-  @CollectionTable(
-      name = "order_meal_ingredients",
-      joinColumns = @JoinColumn(name = "order_meal_id"))
-  @Column(name = "ingredient_name")
+  @Column(name = "ingredient_names", nullable = false, columnDefinition = "TEXT")
+  @Convert(converter = IngredientNamesConverter.class)
   private Set<String> ingredientNames = new HashSet<>();
 
   @Builder
@@ -0,0 +1,74 @@
+package com.p4zd4n.kebab.entities;
+
+import com.p4zd4n.kebab.enums.OrderOutboxMessageStatus;
+import com.p4zd4n.kebab.enums.OrderOutboxMessageType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+    name = "order_outbox",
+    indexes =
+        @Index(
+            name = "idx_order_outbox_status_next_attempt_at",
+            columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderOutboxMessage extends WithTimestamp {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", nullable = false)
+  private OrderOutboxMessageType type;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private OrderOutboxMessageStatus status;
+
+  @Column(name = "order_id")
+  private Long orderId;
+
+  @Column(name = "language")
+  private String language;
+
+  @Column(name = "destination")
+  private String destination;
+
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(name = "attempts", nullable = false)
+  private Integer attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", length = 1000)
+  private String lastError;
+
+  @Builder
+  public OrderOutboxMessage(
+      OrderOutboxMessageType type,
+      Long orderId,
+      String language,
+      String destination,
+      String payload) {
+    this.type = type;
+    this.orderId = orderId;
+    this.language = language;
+    this.destination = destination;
+    this.payload = payload;
+    this.status = OrderOutboxMessageStatus.PENDING;
+    this.attempts = 0;
+    this.nextAttemptAt = LocalDateTime.now();
+  }
+}
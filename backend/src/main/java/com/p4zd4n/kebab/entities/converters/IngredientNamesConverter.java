@@ -0,0 +1,42 @@
+package com.p4zd4n.kebab.entities.converters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Converter
+public class IngredientNamesConverter implements AttributeConverter<Set<String>, String> {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final TypeReference<List<String>> NAMES_TYPE = new TypeReference<>() {};
+
+  @Override
+  public String convertToDatabaseColumn(Set<String> ingredientNames) {
+
+    if (ingredientNames == null || ingredientNames.isEmpty()) return "[]";
+
+    try {
+      return OBJECT_MAPPER.writeValueAsString(new TreeSet<>(ingredientNames));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot encode ingredient names " + ingredientNames, e);
+    }
+  }
+
+  @Override
+  public Set<String> convertToEntityAttribute(String column) {
+
+    if (column == null || column.isBlank()) return new HashSet<>();
+
+    try {
+      return new HashSet<>(OBJECT_MAPPER.readValue(column, NAMES_TYPE));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot decode ingredient names '" + column + "'", e);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.p4zd4n.kebab.enums;
+
+public enum MenuSection {
+  MEALS,
+  BEVERAGES,
+  ADDONS,
+  INGREDIENTS,
+  MEAL_PROMOTIONS,
+  BEVERAGE_PROMOTIONS,
+  ADDON_PROMOTIONS
+}
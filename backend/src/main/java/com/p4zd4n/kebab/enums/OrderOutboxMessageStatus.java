@@ -0,0 +1,7 @@
+package com.p4zd4n.kebab.enums;
+
+public enum OrderOutboxMessageStatus {
+  PENDING,
+  SENT,
+  FAILED
+}
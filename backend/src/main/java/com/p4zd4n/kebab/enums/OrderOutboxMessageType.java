@@ -0,0 +1,8 @@
+package com.p4zd4n.kebab.enums;
+
+public enum OrderOutboxMessageType {
+  THANKS_FOR_ORDER_MAIL,
+  TEN_ORDERS_REWARD_MAIL,
+  HIGH_VALUE_ORDER_REWARD_MAIL,
+  WEBSOCKET_PUSH
+}
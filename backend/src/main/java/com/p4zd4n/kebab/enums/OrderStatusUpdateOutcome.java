@@ -0,0 +1,7 @@
+package com.p4zd4n.kebab.enums;
+
+public enum OrderStatusUpdateOutcome {
+  UPDATED,
+  UNCHANGED,
+  NOT_FOUND
+}
@@ -0,0 +1,7 @@
+package com.p4zd4n.kebab.enums;
+
+public enum SalesItemType {
+  MEAL,
+  BEVERAGE,
+  ADDON
+}
@@ -842,6 +842,44 @@ public class GlobalExceptionHandler {
                 .build());
   }
 
+  @ExceptionHandler(IdempotencyKeyAlreadyUsedException.class)
+  public ResponseEntity<ExceptionResponse> handleIdempotencyKeyAlreadyUsedException(
+      IdempotencyKeyAlreadyUsedException exception, HttpServletRequest request) {
+    log.error(
+        "Attempted request to {} with reused idempotency key '{}'",
+        request.getRequestURI(),
+        exception.getIdempotencyKey());
+
+    Locale locale = Locale.forLanguageTag(request.getHeader("Accept-Language"));
+    String message = messageSource.getMessage("idempotencyKey.alreadyUsed", null, locale);
+
+    return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+        .body(
+            ExceptionResponse.builder()
+                .statusCode(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .message(message)
+                .build());
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ExceptionResponse> handleInvalidCursorException(
+      InvalidCursorException exception, HttpServletRequest request) {
+    log.error(
+        "Attempted request to {} with invalid cursor '{}'",
+        request.getRequestURI(),
+        exception.getCursor());
+
+    Locale locale = Locale.forLanguageTag(request.getHeader("Accept-Language"));
+    String message = messageSource.getMessage("cursor.invalid", null, locale);
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(
+            ExceptionResponse.builder()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .message(message)
+                .build());
+  }
+
   @ExceptionHandler(NullEndDateException.class)
   public ResponseEntity<ExceptionResponse> handleNullEndDateException(HttpServletRequest request) {
     log.error("Attempted request to {} with null end date", request.getRequestURI());
@@ -0,0 +1,14 @@
+package com.p4zd4n.kebab.exceptions.alreadyexists;
+
+import lombok.Getter;
+
+@Getter
+public class IdempotencyKeyAlreadyUsedException extends RuntimeException {
+
+  private final String idempotencyKey;
+
+  public IdempotencyKeyAlreadyUsedException(String idempotencyKey) {
+    super("Idempotency key '" + idempotencyKey + "' was already used for a different request");
+    this.idempotencyKey = idempotencyKey;
+  }
+}
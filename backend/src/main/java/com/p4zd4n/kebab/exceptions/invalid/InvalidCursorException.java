@@ -0,0 +1,14 @@
+package com.p4zd4n.kebab.exceptions.invalid;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidCursorException extends RuntimeException {
+
+  private final String cursor;
+
+  public InvalidCursorException(String cursor) {
+    super("Invalid cursor: " + cursor);
+    this.cursor = cursor;
+  }
+}
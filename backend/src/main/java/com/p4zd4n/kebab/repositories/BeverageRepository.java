@@ -4,6 +4,7 @@ import com.p4zd4n.kebab.entities.Beverage;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface BeverageRepository extends JpaRepository<Beverage, Long> {
@@ -11,4 +12,6 @@ public interface BeverageRepository extends JpaRepository<Beverage, Long> {
   Optional<Beverage> findByNameAndCapacity(String name, BigDecimal capacity);
 
   Optional<List<Beverage>> findByCapacity(BigDecimal capacity);
+
+  List<Beverage> findAllByNameInAndCapacityIn(Set<String> names, Set<BigDecimal> capacities);
 }
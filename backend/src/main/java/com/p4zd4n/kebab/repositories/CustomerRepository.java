@@ -1,10 +1,17 @@
 package com.p4zd4n.kebab.repositories;
 
 import com.p4zd4n.kebab.entities.Customer;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
-  Optional<Customer> findCustomerByEmail(String email);
+  @Query(
+      value =
+          "INSERT INTO customers (email, orders_count) VALUES (:email, 1) "
+              + "ON CONFLICT (email) DO UPDATE SET orders_count = customers.orders_count + 1 "
+              + "RETURNING orders_count",
+      nativeQuery = true)
+  Long incrementOrderCount(@Param("email") String normalizedEmail);
 }
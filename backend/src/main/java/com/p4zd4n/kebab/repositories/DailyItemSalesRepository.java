@@ -0,0 +1,38 @@
+package com.p4zd4n.kebab.repositories;
+
+import com.p4zd4n.kebab.entities.DailyItemSales;
+import com.p4zd4n.kebab.enums.SalesItemType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyItemSalesRepository extends JpaRepository<DailyItemSales, Long> {
+
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO sales_items_daily "
+              + "(sales_date, item_type, item_name, variant, quantity, revenue) "
+              + "VALUES (:salesDate, :itemType, :itemName, :variant, :quantity, :revenue) "
+              + "ON CONFLICT (sales_date, item_type, item_name, variant) DO UPDATE SET "
+              + "quantity = sales_items_daily.quantity + EXCLUDED.quantity, "
+              + "revenue = sales_items_daily.revenue + EXCLUDED.revenue",
+      nativeQuery = true)
+  void upsert(
+      @Param("salesDate") LocalDate salesDate,
+      @Param("itemType") String itemType,
+      @Param("itemName") String itemName,
+      @Param("variant") String variant,
+      @Param("quantity") long quantity,
+      @Param("revenue") BigDecimal revenue);
+
+  List<DailyItemSales> findAllBySalesDateBetweenOrderBySalesDateAscQuantityDesc(
+      LocalDate from, LocalDate to);
+
+  List<DailyItemSales> findAllByItemTypeAndSalesDateBetweenOrderBySalesDateAscQuantityDesc(
+      SalesItemType itemType, LocalDate from, LocalDate to);
+}
@@ -1,9 +1,23 @@
 package com.p4zd4n.kebab.repositories;
 
 import com.p4zd4n.kebab.entities.DiscountCode;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DiscountCodesRepository extends JpaRepository<DiscountCode, Long> {
   Optional<DiscountCode> findByCode(String code);
+
+  @Modifying
+  @Query(
+      "UPDATE DiscountCode d SET d.remainingUses = d.remainingUses - 1 "
+          + "WHERE d.code = :code AND d.remainingUses > 0 AND d.expirationDate >= :today")
+  int redeem(@Param("code") String code, @Param("today") LocalDate today);
+
+  @Query("SELECT d.discountPercentage FROM DiscountCode d WHERE d.code = :code")
+  Optional<BigDecimal> findDiscountPercentageByCode(@Param("code") String code);
 }
@@ -0,0 +1,31 @@
+package com.p4zd4n.kebab.repositories;
+
+import com.p4zd4n.kebab.entities.HourlySales;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface HourlySalesRepository extends JpaRepository<HourlySales, Long> {
+
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO sales_hourly (bucket_start, order_type, order_count, revenue) "
+              + "VALUES (:bucketStart, :orderType, :orderCount, :revenue) "
+              + "ON CONFLICT (bucket_start, order_type) DO UPDATE SET "
+              + "order_count = sales_hourly.order_count + EXCLUDED.order_count, "
+              + "revenue = sales_hourly.revenue + EXCLUDED.revenue",
+      nativeQuery = true)
+  void upsert(
+      @Param("bucketStart") LocalDateTime bucketStart,
+      @Param("orderType") String orderType,
+      @Param("orderCount") long orderCount,
+      @Param("revenue") BigDecimal revenue);
+
+  List<HourlySales> findAllByBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+      LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,21 @@
+package com.p4zd4n.kebab.repositories;
+
+import com.p4zd4n.kebab.entities.Ingredient;
+import com.p4zd4n.kebab.entities.MealIngredient;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MealIngredientRepository extends JpaRepository<MealIngredient, Long> {
+
+  @Query(
+      "SELECT DISTINCT mi.meal.name FROM MealIngredient mi "
+          + "WHERE mi.ingredient = :ingredient ORDER BY mi.meal.name")
+  List<String> findMealNamesByIngredient(@Param("ingredient") Ingredient ingredient);
+
+  @Modifying
+  @Query("DELETE FROM MealIngredient mi WHERE mi.ingredient = :ingredient")
+  int deleteByIngredient(@Param("ingredient") Ingredient ingredient);
+}
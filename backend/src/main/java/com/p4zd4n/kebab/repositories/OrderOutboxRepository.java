@@ -0,0 +1,28 @@
+package com.p4zd4n.kebab.repositories;
+
+import com.p4zd4n.kebab.entities.OrderOutboxMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxMessage, Long> {
+
+  @Query(
+      value =
+          "SELECT * FROM order_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+              + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<OrderOutboxMessage> lockDispatchable(
+      @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM order_outbox WHERE id IN (SELECT id FROM order_outbox "
+              + "WHERE status = 'SENT' AND next_attempt_at < :cutoff ORDER BY id LIMIT :limit)",
+      nativeQuery = true)
+  int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,43 @@
+package com.p4zd4n.kebab.repositories;
+
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderType;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class OrderSpecifications {
+
+  private OrderSpecifications() {}
+
+  public static Specification<Order> hasStatus(OrderStatus status) {
+    return (root, query, builder) ->
+        status == null ? null : builder.equal(root.get("orderStatus"), status);
+  }
+
+  public static Specification<Order> hasType(OrderType type) {
+    return (root, query, builder) ->
+        type == null ? null : builder.equal(root.get("orderType"), type);
+  }
+
+  public static Specification<Order> createdFrom(LocalDateTime from) {
+    return (root, query, builder) ->
+        from == null ? null : builder.greaterThanOrEqualTo(root.get("createdAt"), from);
+  }
+
+  public static Specification<Order> createdBefore(LocalDateTime to) {
+    return (root, query, builder) ->
+        to == null ? null : builder.lessThan(root.get("createdAt"), to);
+  }
+
+  public static Specification<Order> olderThan(LocalDateTime createdAt, Long id) {
+    return (root, query, builder) ->
+        createdAt == null
+            ? null
+            : builder.or(
+                builder.lessThan(root.get("createdAt"), createdAt),
+                builder.and(
+                    builder.equal(root.get("createdAt"), createdAt),
+                    builder.lessThan(root.get("id"), id)));
+  }
+}
@@ -1,6 +1,59 @@
 package com.p4zd4n.kebab.repositories;
 
 import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface OrdersRepository extends JpaRepository<Order, Long> {}
+public interface OrdersRepository
+    extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
+
+  List<Order> findAllByOrderStatusInAndCreatedAtBeforeOrderByCreatedAt(
+      Collection<OrderStatus> statuses, LocalDateTime createdBefore, Limit limit);
+
+  @Query(
+      value =
+          "UPDATE orders o SET order_status = :status, updated_at = :updatedAt "
+              + "FROM (SELECT id, order_status FROM orders WHERE id IN (:ids) "
+              + "AND order_status <> :status ORDER BY id FOR UPDATE) previous "
+              + "WHERE o.id = previous.id "
+              + "RETURNING o.id AS id, previous.order_status AS \"previousStatus\"",
+      nativeQuery = true)
+  List<StatusChange> updateStatus(
+      @Param("ids") Collection<Long> ids,
+      @Param("status") String status,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  @Query("SELECT o.id FROM Order o WHERE o.id IN :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query("DELETE FROM OrderMeal m WHERE m.order.id IN :ids")
+  int deleteMealsByOrderIds(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query("DELETE FROM OrderBeverage b WHERE b.order.id IN :ids")
+  int deleteBeveragesByOrderIds(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query("DELETE FROM OrderAddon a WHERE a.order.id IN :ids")
+  int deleteAddonsByOrderIds(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query("DELETE FROM Order o WHERE o.id IN :ids")
+  int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+  interface StatusChange {
+
+    Long getId();
+
+    String getPreviousStatus();
+  }
+}
@@ -0,0 +1,17 @@
+package com.p4zd4n.kebab.requests.orders;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record UpdatedOrdersStatusRequest(
+    @JsonProperty("order_ids")
+        @NotNull(message = "{orderIds.between1And100}")
+        @Size(min = 1, max = 100, message = "{orderIds.between1And100}")
+        List<@NotNull(message = "{id.notNull}") Long> orderIds,
+    @JsonProperty("order_status") @NotNull(message = "{orderStatus.notNull}")
+        OrderStatus orderStatus) {}
@@ -0,0 +1,17 @@
+package com.p4zd4n.kebab.responses.menu;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Builder
+public record MenuUpdatedEvent(
+        Long version,
+        Set<MenuSection> sections,
+        @JsonProperty("stale_resources") Set<PublicSnapshot> staleResources,
+        LocalDateTime timestamp
+) {}
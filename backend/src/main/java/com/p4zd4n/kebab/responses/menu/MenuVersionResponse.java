@@ -0,0 +1,8 @@
+package com.p4zd4n.kebab.responses.menu;
+
+import lombok.Builder;
+
+@Builder
+public record MenuVersionResponse(
+        Long version
+) {}
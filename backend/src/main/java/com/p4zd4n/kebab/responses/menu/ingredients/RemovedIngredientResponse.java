@@ -3,8 +3,11 @@ package com.p4zd4n.kebab.responses.menu.ingredients;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 
+import java.util.List;
+
 @Builder
 public record RemovedIngredientResponse(
         @JsonProperty("status_code") Integer statusCode,
-        String message
+        String message,
+        @JsonProperty("affected_meals") List<String> affectedMeals
 ) {}
@@ -0,0 +1,13 @@
+package com.p4zd4n.kebab.responses.menu.search;
+
+import com.p4zd4n.kebab.enums.MenuSection;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record MenuSearchResponse(
+        String name,
+        MenuSection section,
+        BigDecimal capacity
+) {}
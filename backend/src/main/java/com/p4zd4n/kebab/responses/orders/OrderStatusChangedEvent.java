@@ -0,0 +1,15 @@
+package com.p4zd4n.kebab.responses.orders;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record OrderStatusChangedEvent(
+        Long id,
+        @JsonProperty("old_status") OrderStatus oldStatus,
+        @JsonProperty("new_status") OrderStatus newStatus,
+        LocalDateTime timestamp
+) {}
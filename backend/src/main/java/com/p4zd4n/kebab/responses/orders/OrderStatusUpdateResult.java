@@ -0,0 +1,13 @@
+package com.p4zd4n.kebab.responses.orders;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderStatusUpdateOutcome;
+import lombok.Builder;
+
+@Builder
+public record OrderStatusUpdateResult(
+        Long id,
+        OrderStatusUpdateOutcome outcome,
+        @JsonProperty("previous_status") OrderStatus previousStatus
+) {}
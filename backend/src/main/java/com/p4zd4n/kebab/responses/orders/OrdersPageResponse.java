@@ -0,0 +1,12 @@
+package com.p4zd4n.kebab.responses.orders;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OrdersPageResponse(
+        List<OrderResponse> orders,
+        @JsonProperty("next_cursor") String nextCursor
+) {}
@@ -0,0 +1,13 @@
+package com.p4zd4n.kebab.responses.orders;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record UpdatedOrdersStatusResponse(
+        @JsonProperty("status_code") Integer statusCode,
+        String message,
+        List<OrderStatusUpdateResult> results
+) {}
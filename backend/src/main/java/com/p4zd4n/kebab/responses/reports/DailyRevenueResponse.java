@@ -0,0 +1,16 @@
+package com.p4zd4n.kebab.responses.reports;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.p4zd4n.kebab.enums.OrderType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+public record DailyRevenueResponse(
+        LocalDate date,
+        @JsonProperty("order_type") OrderType orderType,
+        @JsonProperty("order_count") Long orderCount,
+        BigDecimal revenue
+) {}
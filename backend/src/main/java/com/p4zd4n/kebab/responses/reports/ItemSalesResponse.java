@@ -0,0 +1,18 @@
+package com.p4zd4n.kebab.responses.reports;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.p4zd4n.kebab.enums.SalesItemType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+public record ItemSalesResponse(
+        LocalDate date,
+        @JsonProperty("item_type") SalesItemType itemType,
+        @JsonProperty("item_name") String itemName,
+        String variant,
+        Long quantity,
+        BigDecimal revenue
+) {}
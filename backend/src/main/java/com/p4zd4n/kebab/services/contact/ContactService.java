@@ -9,6 +9,8 @@ import com.p4zd4n.kebab.repositories.ContactRepository;
 import com.p4zd4n.kebab.requests.contact.UpdatedContactRequest;
 import com.p4zd4n.kebab.responses.contact.ContactResponse;
 import com.p4zd4n.kebab.responses.contact.UpdatedContactResponse;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -20,9 +22,12 @@ import org.springframework.stereotype.Service;
 public class ContactService {
 
   private final ContactRepository contactRepository;
+  private final ResponseSnapshotStore responseSnapshotStore;
 
-  public ContactService(ContactRepository contactRepository) {
+  public ContactService(
+      ContactRepository contactRepository, ResponseSnapshotStore responseSnapshotStore) {
     this.contactRepository = contactRepository;
+    this.responseSnapshotStore = responseSnapshotStore;
   }
 
   public List<ContactResponse> getContacts() {
@@ -82,6 +87,7 @@ public class ContactService {
     contact.setValue(request.newValue());
 
     contactRepository.save(contact);
+    responseSnapshotStore.invalidate(PublicSnapshot.CONTACTS);
 
     return response;
   }
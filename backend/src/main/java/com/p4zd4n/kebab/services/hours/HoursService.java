@@ -7,6 +7,8 @@ import com.p4zd4n.kebab.repositories.OpeningHoursRepository;
 import com.p4zd4n.kebab.requests.hour.UpdatedHourRequest;
 import com.p4zd4n.kebab.responses.hours.OpeningHoursResponse;
 import com.p4zd4n.kebab.responses.hours.UpdatedHourResponse;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -20,6 +22,7 @@ import org.springframework.stereotype.Service;
 public class HoursService {
 
   private final OpeningHoursRepository openingHourRepository;
+  private final ResponseSnapshotStore responseSnapshotStore;
 
   private final List<DayOfWeek> daysOfWeekOrder =
       Arrays.asList(
@@ -31,8 +34,10 @@ public class HoursService {
           DayOfWeek.SATURDAY,
           DayOfWeek.SUNDAY);
 
-  public HoursService(OpeningHoursRepository openingHourRepository) {
+  public HoursService(
+      OpeningHoursRepository openingHourRepository, ResponseSnapshotStore responseSnapshotStore) {
     this.openingHourRepository = openingHourRepository;
+    this.responseSnapshotStore = responseSnapshotStore;
   }
 
   public List<OpeningHoursResponse> getOpeningHours() {
@@ -79,6 +84,7 @@ public class HoursService {
     log.info("Started saving opening hours on {}", openingHour.getDayOfWeek());
 
     OpeningHour savedOpeningHour = openingHourRepository.save(openingHour);
+    responseSnapshotStore.invalidate(PublicSnapshot.OPENING_HOURS);
 
     log.info("Successfully saved opening hours on {}", openingHour.getDayOfWeek());
 
@@ -7,6 +7,8 @@ import com.p4zd4n.kebab.repositories.JobOfferRepository;
 import com.p4zd4n.kebab.requests.jobs.NewJobOfferRequest;
 import com.p4zd4n.kebab.requests.jobs.UpdatedJobOfferRequest;
 import com.p4zd4n.kebab.responses.jobs.*;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -19,9 +21,12 @@ import org.springframework.stereotype.Service;
 public class JobOfferService {
 
   private final JobOfferRepository jobOfferRepository;
+  private final ResponseSnapshotStore responseSnapshotStore;
 
-  public JobOfferService(JobOfferRepository jobOfferRepository) {
+  public JobOfferService(
+      JobOfferRepository jobOfferRepository, ResponseSnapshotStore responseSnapshotStore) {
     this.jobOfferRepository = jobOfferRepository;
+    this.responseSnapshotStore = responseSnapshotStore;
   }
 
   public List<JobOfferGeneralResponse> getJobOffersForOtherUsers() {
@@ -125,6 +130,7 @@ public class JobOfferService {
             .build();
 
     jobOfferRepository.save(newJobOffer);
+    responseSnapshotStore.invalidate(PublicSnapshot.JOB_OFFERS);
 
     log.info("Successfully added new job offer with position name '{}'", request.positionName());
 
@@ -184,6 +190,7 @@ public class JobOfferService {
     if (request.isActive() != null) jobOffer.setActive(request.isActive());
 
     jobOfferRepository.save(jobOffer);
+    responseSnapshotStore.invalidate(PublicSnapshot.JOB_OFFERS);
 
     return response;
   }
@@ -192,6 +199,7 @@ public class JobOfferService {
     log.info("Started removing job offer with position name '{}'", jobOffer.getPositionName());
 
     jobOfferRepository.delete(jobOffer);
+    responseSnapshotStore.invalidate(PublicSnapshot.JOB_OFFERS);
 
     RemovedJobOfferResponse response =
         RemovedJobOfferResponse.builder()
@@ -1,6 +1,7 @@
 package com.p4zd4n.kebab.services.menu;
 
 import com.p4zd4n.kebab.entities.Addon;
+import com.p4zd4n.kebab.enums.MenuSection;
 import com.p4zd4n.kebab.exceptions.alreadyexists.AddonAlreadyExistsException;
 import com.p4zd4n.kebab.exceptions.notfound.AddonNotFoundException;
 import com.p4zd4n.kebab.repositories.AddonRepository;
@@ -10,6 +11,7 @@ import com.p4zd4n.kebab.responses.menu.addons.AddonResponse;
 import com.p4zd4n.kebab.responses.menu.addons.NewAddonResponse;
 import com.p4zd4n.kebab.responses.menu.addons.RemovedAddonResponse;
 import com.p4zd4n.kebab.responses.menu.addons.UpdatedAddonResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -22,22 +24,36 @@ import org.springframework.stereotype.Service;
 public class AddonService {
 
   private final AddonRepository addonRepository;
+  private final MenuCatalogService menuCatalogService;
+  private final MenuResponseCache menuResponseCache;
 
-  public AddonService(AddonRepository addonRepository) {
+  public AddonService(
+      AddonRepository addonRepository,
+      MenuCatalogService menuCatalogService,
+      MenuResponseCache menuResponseCache) {
     this.addonRepository = addonRepository;
+    this.menuCatalogService = menuCatalogService;
+    this.menuResponseCache = menuResponseCache;
   }
 
   public List<AddonResponse> getAddons() {
 
     log.info("Started retrieving addons");
 
+    List<AddonResponse> response = menuResponseCache.get(MenuSection.ADDONS, this::loadAddons);
+
+    log.info("Successfully retrieved addons");
+
+    return response;
+  }
+
+  private List<AddonResponse> loadAddons() {
+
     List<Addon> addons = addonRepository.findAll();
 
     List<AddonResponse> response =
         addons.stream().map(this::mapToResponse).collect(Collectors.toList());
 
-    log.info("Successfully retrieved addons");
-
     return response;
   }
 
@@ -61,6 +77,7 @@ public class AddonService {
     Addon newAddon =
         Addon.builder().name(request.newAddonName()).price(request.newAddonPrice()).build();
     Addon savedAddon = addonRepository.save(newAddon);
+    menuCatalogService.refresh(MenuSection.ADDONS);
     NewAddonResponse response =
         NewAddonResponse.builder()
             .statusCode(HttpStatus.OK.value())
@@ -96,6 +113,7 @@ public class AddonService {
     addon.setPrice(request.updatedAddonPrice());
 
     addonRepository.save(addon);
+    menuCatalogService.refresh(MenuSection.ADDONS);
 
     return response;
   }
@@ -104,6 +122,7 @@ public class AddonService {
     log.info("Started removing addon with name '{}'", addon.getName());
 
     addonRepository.delete(addon);
+    menuCatalogService.refresh(MenuSection.ADDONS);
 
     RemovedAddonResponse response =
         RemovedAddonResponse.builder()
@@ -1,6 +1,7 @@
 package com.p4zd4n.kebab.services.menu;
 
 import com.p4zd4n.kebab.entities.Beverage;
+import com.p4zd4n.kebab.enums.MenuSection;
 import com.p4zd4n.kebab.exceptions.alreadyexists.BeverageAlreadyExistsException;
 import com.p4zd4n.kebab.exceptions.notfound.BeverageNotFoundException;
 import com.p4zd4n.kebab.repositories.BeverageRepository;
@@ -10,6 +11,7 @@ import com.p4zd4n.kebab.responses.menu.beverages.BeverageResponse;
 import com.p4zd4n.kebab.responses.menu.beverages.NewBeverageResponse;
 import com.p4zd4n.kebab.responses.menu.beverages.RemovedBeverageResponse;
 import com.p4zd4n.kebab.responses.menu.beverages.UpdatedBeverageResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
@@ -23,22 +25,37 @@ import org.springframework.stereotype.Service;
 public class BeverageService {
 
   private final BeverageRepository beverageRepository;
+  private final MenuCatalogService menuCatalogService;
+  private final MenuResponseCache menuResponseCache;
 
-  public BeverageService(BeverageRepository beverageRepository) {
+  public BeverageService(
+      BeverageRepository beverageRepository,
+      MenuCatalogService menuCatalogService,
+      MenuResponseCache menuResponseCache) {
     this.beverageRepository = beverageRepository;
+    this.menuCatalogService = menuCatalogService;
+    this.menuResponseCache = menuResponseCache;
   }
 
   public List<BeverageResponse> getBeverages() {
 
     log.info("Started retrieving beverages");
 
+    List<BeverageResponse> response =
+        menuResponseCache.get(MenuSection.BEVERAGES, this::loadBeverages);
+
+    log.info("Successfully retrieved beverages");
+
+    return response;
+  }
+
+  private List<BeverageResponse> loadBeverages() {
+
     List<Beverage> beverages = beverageRepository.findAll();
 
     List<BeverageResponse> response =
         beverages.stream().map(this::mapToResponse).collect(Collectors.toList());
 
-    log.info("Successfully retrieved beverages");
-
     return response;
   }
 
@@ -94,6 +111,7 @@ public class BeverageService {
             .price(request.newBeveragePrice())
             .build();
     Beverage savedBeverage = beverageRepository.save(newBeverage);
+    menuCatalogService.refresh(MenuSection.BEVERAGES);
     NewBeverageResponse response =
         NewBeverageResponse.builder()
             .statusCode(HttpStatus.OK.value())
@@ -136,6 +154,7 @@ public class BeverageService {
     beverage.setPrice(request.updatedBeveragePrice());
 
     beverageRepository.save(beverage);
+    menuCatalogService.refresh(MenuSection.BEVERAGES);
 
     return response;
   }
@@ -144,6 +163,7 @@ public class BeverageService {
     log.info("Started removing beverage with name '{}'", beverage.getName());
 
     beverageRepository.delete(beverage);
+    menuCatalogService.refresh(MenuSection.BEVERAGES);
 
     RemovedBeverageResponse response =
         RemovedBeverageResponse.builder()
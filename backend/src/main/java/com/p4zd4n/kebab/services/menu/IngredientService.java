@@ -1,46 +1,63 @@
 package com.p4zd4n.kebab.services.menu;
 
 import com.p4zd4n.kebab.entities.Ingredient;
-import com.p4zd4n.kebab.entities.Meal;
+import com.p4zd4n.kebab.enums.MenuSection;
 import com.p4zd4n.kebab.exceptions.alreadyexists.IngredientAlreadyExistsException;
 import com.p4zd4n.kebab.exceptions.notfound.IngredientNotFoundException;
 import com.p4zd4n.kebab.repositories.IngredientRepository;
-import com.p4zd4n.kebab.repositories.MealRepository;
+import com.p4zd4n.kebab.repositories.MealIngredientRepository;
 import com.p4zd4n.kebab.requests.menu.ingredients.NewIngredientRequest;
 import com.p4zd4n.kebab.responses.menu.ingredients.IngredientResponse;
 import com.p4zd4n.kebab.responses.menu.ingredients.NewIngredientResponse;
 import com.p4zd4n.kebab.responses.menu.ingredients.RemovedIngredientResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
 public class IngredientService {
 
   private final IngredientRepository ingredientRepository;
-  private final MealRepository mealRepository;
+  private final MealIngredientRepository mealIngredientRepository;
+  private final MenuCatalogService menuCatalogService;
+  private final MenuResponseCache menuResponseCache;
 
   public IngredientService(
-      IngredientRepository ingredientRepository, MealRepository mealRepository) {
+      IngredientRepository ingredientRepository,
+      MealIngredientRepository mealIngredientRepository,
+      MenuCatalogService menuCatalogService,
+      MenuResponseCache menuResponseCache) {
     this.ingredientRepository = ingredientRepository;
-    this.mealRepository = mealRepository;
+    this.mealIngredientRepository = mealIngredientRepository;
+    this.menuCatalogService = menuCatalogService;
+    this.menuResponseCache = menuResponseCache;
   }
 
   public List<IngredientResponse> getIngredients() {
 
     log.info("Started retrieving ingredients");
 
+    List<IngredientResponse> response =
+        menuResponseCache.get(MenuSection.INGREDIENTS, this::loadIngredients);
+
+    log.info("Successfully retrieved ingredients");
+
+    return response;
+  }
+
+  private List<IngredientResponse> loadIngredients() {
+
     List<Ingredient> ingredients = ingredientRepository.findAll();
 
     List<IngredientResponse> response =
         ingredients.stream().map(this::mapToResponse).collect(Collectors.toList());
 
-    log.info("Successfully retrieved ingredients");
-
     return response;
   }
 
@@ -66,6 +83,7 @@ public class IngredientService {
             .ingredientType(request.newIngredientType())
             .build();
     Ingredient savedIngredient = ingredientRepository.save(newIngredient);
+    menuCatalogService.refresh(MenuSection.INGREDIENTS);
     NewIngredientResponse response =
         NewIngredientResponse.builder()
             .statusCode(HttpStatus.OK.value())
@@ -92,30 +110,28 @@ public class IngredientService {
     return ingredient;
   }
 
+  @Transactional
   public RemovedIngredientResponse removeIngredient(Ingredient ingredient) {
     log.info("Started removing ingredient with name '{}'", ingredient.getName());
 
-    List<Meal> allMeals = mealRepository.findAll();
-
-    allMeals.stream()
-        .filter(
-            meal ->
-                meal.getMealIngredients().stream()
-                    .anyMatch(ing -> ing.getIngredient().equals(ingredient)))
-        .forEach(
-            meal -> {
-              meal.removeIngredient(ingredient);
-            });
+    List<String> affectedMeals = mealIngredientRepository.findMealNamesByIngredient(ingredient);
+    int removedLinks = mealIngredientRepository.deleteByIngredient(ingredient);
 
     ingredientRepository.delete(ingredient);
+    menuCatalogService.refresh(MenuSection.INGREDIENTS, MenuSection.MEALS);
 
     RemovedIngredientResponse response =
         RemovedIngredientResponse.builder()
             .statusCode(HttpStatus.OK.value())
             .message("Successfully removed ingredient with name '" + ingredient.getName() + "'")
+            .affectedMeals(affectedMeals)
             .build();
 
-    log.info("Successfully removed ingredient with name '{}'", ingredient.getName());
+    log.info(
+        "Successfully removed ingredient with name '{}' from {} meals ({} links)",
+        ingredient.getName(),
+        affectedMeals.size(),
+        removedLinks);
 
     return response;
   }
@@ -1,6 +1,7 @@
 package com.p4zd4n.kebab.services.menu;
 
 import com.p4zd4n.kebab.entities.Meal;
+import com.p4zd4n.kebab.enums.MenuSection;
 import com.p4zd4n.kebab.enums.Size;
 import com.p4zd4n.kebab.exceptions.alreadyexists.MealAlreadyExistsException;
 import com.p4zd4n.kebab.exceptions.notfound.IngredientNotFoundException;
@@ -10,6 +11,7 @@ import com.p4zd4n.kebab.repositories.MealRepository;
 import com.p4zd4n.kebab.requests.menu.meals.NewMealRequest;
 import com.p4zd4n.kebab.requests.menu.meals.UpdatedMealRequest;
 import com.p4zd4n.kebab.responses.menu.meals.*;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -24,23 +26,38 @@ public class MealService {
 
   private final MealRepository mealRepository;
   private final IngredientRepository ingredientRepository;
-
-  public MealService(MealRepository mealRepository, IngredientRepository ingredientRepository) {
+  private final MenuCatalogService menuCatalogService;
+  private final MenuResponseCache menuResponseCache;
+
+  public MealService(
+      MealRepository mealRepository,
+      IngredientRepository ingredientRepository,
+      MenuCatalogService menuCatalogService,
+      MenuResponseCache menuResponseCache) {
     this.mealRepository = mealRepository;
     this.ingredientRepository = ingredientRepository;
+    this.menuCatalogService = menuCatalogService;
+    this.menuResponseCache = menuResponseCache;
   }
 
   public List<MealResponse> getMeals() {
 
     log.info("Started retrieving meals");
 
-    List<Meal> meals = mealRepository.findAll();
+    List<MealResponse> response = menuResponseCache.get(MenuSection.MEALS, this::loadMeals);
+
+    log.info("Successfully retrieved meals");
+
+    return response;
+  }
+
+  private List<MealResponse> loadMeals() {
+
+    List<Meal> meals = mealRepository.findAllForMenu();
 
     List<MealResponse> response =
         meals.stream().map(this::mapToResponse).collect(Collectors.toList());
 
-    log.info("Successfully retrieved meals");
-
     return response;
   }
 
@@ -63,7 +80,7 @@ public class MealService {
         .name(meal.getName())
         .prices(prices)
         .ingredients(ingredientResponses)
-        .mealPromotions(meal.getPromotions())
+        .mealPromotions(List.copyOf(meal.getPromotions()))
         .build();
   }
 
@@ -87,6 +104,7 @@ public class MealService {
                         .orElseThrow(() -> new IngredientNotFoundException(ingredient.name()))));
 
     Meal savedMeal = mealRepository.save(newMeal);
+    menuCatalogService.refresh(MenuSection.MEALS);
     NewMealResponse response =
         NewMealResponse.builder()
             .statusCode(HttpStatus.OK.value())
@@ -131,6 +149,7 @@ public class MealService {
                         .orElseThrow(() -> new IngredientNotFoundException(ingredient.name()))));
 
     mealRepository.save(meal);
+    menuCatalogService.refresh(MenuSection.MEALS);
 
     return response;
   }
@@ -139,6 +158,7 @@ public class MealService {
     log.info("Started removing meal with name '{}'", meal.getName());
 
     mealRepository.delete(meal);
+    menuCatalogService.refresh(MenuSection.MEALS);
 
     RemovedMealResponse response =
         RemovedMealResponse.builder()
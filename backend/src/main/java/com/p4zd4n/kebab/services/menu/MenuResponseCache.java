@@ -0,0 +1,57 @@
+package com.p4zd4n.kebab.services.menu;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import com.p4zd4n.kebab.services.menu.catalog.MenuRebuildFailedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class MenuResponseCache {
+
+  private final Cache<MenuSection, List<?>> responses =
+      Caffeine.newBuilder().maximumSize(MenuSection.values().length).recordStats().build();
+
+  public MenuResponseCache(MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, responses, "menu.responses");
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> List<T> get(MenuSection section, Supplier<List<T>> loader) {
+    return (List<T>) responses.get(section, key -> List.copyOf(loader.get()));
+  }
+
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onMenuRebuildFailed(MenuRebuildFailedEvent failure) {
+    onMenuChanged(failure.asChange());
+  }
+
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onMenuChanged(MenuChangedEvent change) {
+
+    Set<MenuSection> stale = EnumSet.noneOf(MenuSection.class);
+
+    if (change.affectsMeals()) stale.add(MenuSection.MEALS);
+    if (change.affectsBeverages()) stale.add(MenuSection.BEVERAGES);
+    if (change.affectsAddons()) stale.add(MenuSection.ADDONS);
+    if (change.affectsIngredients()) stale.add(MenuSection.INGREDIENTS);
+
+    responses.invalidateAll(stale);
+
+    log.info("Invalidated cached menu responses {}", stale);
+  }
+}
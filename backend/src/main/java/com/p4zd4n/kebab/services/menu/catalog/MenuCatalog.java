@@ -0,0 +1,267 @@
+package com.p4zd4n.kebab.services.menu.catalog;
+
+import com.p4zd4n.kebab.entities.*;
+import com.p4zd4n.kebab.entities.key.MealKey;
+import com.p4zd4n.kebab.enums.IngredientType;
+import com.p4zd4n.kebab.enums.Size;
+import com.p4zd4n.kebab.exceptions.invalid.InvalidMealKeyFormatException;
+import com.p4zd4n.kebab.exceptions.notfound.IngredientNotFoundException;
+import com.p4zd4n.kebab.utils.PriceUtil;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public final class MenuCatalog {
+
+  private final long version;
+  private final Map<String, CatalogMeal> meals;
+  private final Map<BeverageKey, CatalogBeverage> beverages;
+  private final Map<String, CatalogAddon> addons;
+  private final Map<String, CatalogIngredient> ingredients;
+
+  MenuCatalog(
+      long version,
+      Map<String, CatalogMeal> meals,
+      Map<BeverageKey, CatalogBeverage> beverages,
+      Map<String, CatalogAddon> addons,
+      Map<String, CatalogIngredient> ingredients) {
+    this.version = version;
+    this.meals = Map.copyOf(meals);
+    this.beverages = Map.copyOf(beverages);
+    this.addons = Map.copyOf(addons);
+    this.ingredients = Map.copyOf(ingredients);
+  }
+
+  public static MenuCatalog empty() {
+    return new MenuCatalog(0, Map.of(), Map.of(), Map.of(), Map.of());
+  }
+
+  public Optional<CatalogMeal> findMeal(String name) {
+    return Optional.ofNullable(meals.get(normalize(name)));
+  }
+
+  public Optional<CatalogBeverage> findBeverage(String name, BigDecimal capacity) {
+    return Optional.ofNullable(beverages.get(BeverageKey.of(name, capacity)));
+  }
+
+  public Optional<CatalogAddon> findAddon(String name) {
+    return Optional.ofNullable(addons.get(normalize(name)));
+  }
+
+  public Optional<CatalogIngredient> findIngredient(String name) {
+    return Optional.ofNullable(ingredients.get(normalize(name)));
+  }
+
+  public MealKey parseMealKey(String key) {
+    String[] parts = splitMealKey(key);
+
+    Ingredient meat =
+        findIngredient(parts[1])
+            .map(CatalogIngredient::toIngredient)
+            .orElseThrow(() -> new IngredientNotFoundException(parts[1]));
+    Ingredient sauce =
+        findIngredient(parts[2])
+            .map(CatalogIngredient::toIngredient)
+            .orElseThrow(() -> new IngredientNotFoundException(parts[2]));
+
+    return MealKey.builder().mealName(parts[0]).meat(meat).sauce(sauce).build();
+  }
+
+  public static String[] splitMealKey(String key) {
+    String[] parts = key.split("_");
+
+    if (parts.length != 3) throw new InvalidMealKeyFormatException(key);
+
+    return parts;
+  }
+
+  public MenuCatalog withItems(
+      Collection<Meal> meals,
+      Collection<Beverage> beverages,
+      Collection<Addon> addons,
+      Collection<Ingredient> ingredients) {
+
+    Map<String, CatalogMeal> mergedMeals = new HashMap<>(this.meals);
+    mergedMeals.putAll(indexMeals(meals));
+
+    Map<BeverageKey, CatalogBeverage> mergedBeverages = new HashMap<>(this.beverages);
+    mergedBeverages.putAll(indexBeverages(beverages));
+
+    Map<String, CatalogAddon> mergedAddons = new HashMap<>(this.addons);
+    mergedAddons.putAll(indexAddons(addons));
+
+    Map<String, CatalogIngredient> mergedIngredients = new HashMap<>(this.ingredients);
+    mergedIngredients.putAll(indexIngredients(ingredients));
+
+    return new MenuCatalog(version, mergedMeals, mergedBeverages, mergedAddons, mergedIngredients);
+  }
+
+  static String normalize(String name) {
+    return name == null ? "" : name.toLowerCase(Locale.ROOT);
+  }
+
+  static Map<String, CatalogMeal> indexMeals(Collection<Meal> meals) {
+    return meals.stream()
+        .map(CatalogMeal::of)
+        .collect(
+            Collectors.toMap(
+                meal -> normalize(meal.name()), Function.identity(), (first, second) -> first));
+  }
+
+  static Map<BeverageKey, CatalogBeverage> indexBeverages(Collection<Beverage> beverages) {
+    return beverages.stream()
+        .map(CatalogBeverage::of)
+        .collect(
+            Collectors.toMap(
+                beverage -> BeverageKey.of(beverage.name(), beverage.capacity()),
+                Function.identity(),
+                (first, second) -> first));
+  }
+
+  static Map<String, CatalogAddon> indexAddons(Collection<Addon> addons) {
+    return addons.stream()
+        .map(CatalogAddon::of)
+        .collect(
+            Collectors.toMap(
+                addon -> normalize(addon.name()), Function.identity(), (first, second) -> first));
+  }
+
+  static Map<String, CatalogIngredient> indexIngredients(Collection<Ingredient> ingredients) {
+    return ingredients.stream()
+        .map(CatalogIngredient::of)
+        .collect(
+            Collectors.toMap(
+                ingredient -> normalize(ingredient.name()),
+                Function.identity(),
+                (first, second) -> first));
+  }
+
+  public record BeverageKey(String name, BigDecimal capacity) {
+
+    public static BeverageKey of(String name, BigDecimal capacity) {
+      return new BeverageKey(name, capacity == null ? null : capacity.stripTrailingZeros());
+    }
+  }
+
+  public record CatalogMeal(
+      String name,
+      Map<Size, Long> pricesInGrosze,
+      Map<Size, Integer> discountPercents,
+      Set<String> ingredientNames) {
+
+    static CatalogMeal of(Meal meal) {
+      Map<Size, Long> prices = new EnumMap<>(Size.class);
+      if (meal.getPrices() != null) {
+        meal.getPrices().forEach((size, price) -> prices.put(size, PriceUtil.toGrosze(price)));
+      }
+
+      Map<Size, Integer> discounts = new EnumMap<>(Size.class);
+      meal.getPromotions()
+          .forEach(
+              promotion ->
+                  promotion
+                      .getSizes()
+                      .forEach(
+                          size ->
+                              discounts.putIfAbsent(
+                                  size,
+                                  PriceUtil.toDiscountPercent(
+                                      promotion.getDiscountPercentage()))));
+
+      Set<String> ingredientNames =
+          meal.getMealIngredients().stream()
+              .map(mealIngredient -> mealIngredient.getIngredient().getName())
+              .collect(Collectors.toUnmodifiableSet());
+
+      return new CatalogMeal(
+          meal.getName(),
+          Collections.unmodifiableMap(prices),
+          Collections.unmodifiableMap(discounts),
+          ingredientNames);
+    }
+
+    public BigDecimal getPriceForSizeWithDiscountIncluded(Size size, Integer quantity) {
+      return PriceUtil.toAmount(getPriceForSizeWithDiscountIncludedInGrosze(size, quantity));
+    }
+
+    public long getPriceForSizeWithDiscountIncludedInGrosze(Size size, int quantity) {
+      return PriceUtil.roundToGrosze(getUnroundedPriceForSizeWithDiscountIncluded(size, quantity));
+    }
+
+    public long getUnroundedPriceForSizeWithDiscountIncluded(Size size, int quantity) {
+      return PriceUtil.applyDiscountUnrounded(
+          pricesInGrosze.get(size), discountPercents.getOrDefault(size, 0), quantity);
+    }
+  }
+
+  public record CatalogBeverage(
+      String name, BigDecimal capacity, long priceInGrosze, int discountPercent) {
+
+    static CatalogBeverage of(Beverage beverage) {
+      BigDecimal discount =
+          beverage.getPromotion() != null
+              ? beverage.getPromotion().getDiscountPercentage()
+              : BigDecimal.ZERO;
+
+      return new CatalogBeverage(
+          beverage.getName(),
+          beverage.getCapacity(),
+          PriceUtil.toGrosze(beverage.getPrice()),
+          PriceUtil.toDiscountPercent(discount));
+    }
+
+    public BigDecimal getPriceWithDiscountIncluded(Integer quantity) {
+      return PriceUtil.toAmount(getPriceWithDiscountIncludedInGrosze(quantity));
+    }
+
+    public long getPriceWithDiscountIncludedInGrosze(int quantity) {
+      return PriceUtil.roundToGrosze(getUnroundedPriceWithDiscountIncluded(quantity));
+    }
+
+    public long getUnroundedPriceWithDiscountIncluded(int quantity) {
+      return PriceUtil.applyDiscountUnrounded(priceInGrosze, discountPercent, quantity);
+    }
+  }
+
+  public record CatalogAddon(String name, long priceInGrosze, int discountPercent) {
+
+    static CatalogAddon of(Addon addon) {
+      BigDecimal discount =
+          addon.getPromotion() != null
+              ? addon.getPromotion().getDiscountPercentage()
+              : BigDecimal.ZERO;
+
+      return new CatalogAddon(
+          addon.getName(),
+          PriceUtil.toGrosze(addon.getPrice()),
+          PriceUtil.toDiscountPercent(discount));
+    }
+
+    public BigDecimal getPriceWithDiscountIncluded(Integer quantity) {
+      return PriceUtil.toAmount(getPriceWithDiscountIncludedInGrosze(quantity));
+    }
+
+    public long getPriceWithDiscountIncludedInGrosze(int quantity) {
+      return PriceUtil.roundToGrosze(getUnroundedPriceWithDiscountIncluded(quantity));
+    }
+
+    public long getUnroundedPriceWithDiscountIncluded(int quantity) {
+      return PriceUtil.applyDiscountUnrounded(priceInGrosze, discountPercent, quantity);
+    }
+  }
+
+  public record CatalogIngredient(Long id, String name, IngredientType ingredientType) {
+
+    static CatalogIngredient of(Ingredient ingredient) {
+      return new CatalogIngredient(
+          ingredient.getId(), ingredient.getName(), ingredient.getIngredientType());
+    }
+
+    public Ingredient toIngredient() {
+      return Ingredient.builder().name(name).ingredientType(ingredientType).build();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.p4zd4n.kebab.services.menu.catalog;
+
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.repositories.AddonRepository;
+import com.p4zd4n.kebab.repositories.BeverageRepository;
+import com.p4zd4n.kebab.repositories.IngredientRepository;
+import com.p4zd4n.kebab.repositories.MealRepository;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Slf4j
+public class MenuCatalogService {
+
+  private final MealRepository mealRepository;
+  private final BeverageRepository beverageRepository;
+  private final AddonRepository addonRepository;
+  private final IngredientRepository ingredientRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final AtomicReference<MenuCatalog> catalog = new AtomicReference<>();
+  private final Set<MenuSection> pendingSections = EnumSet.noneOf(MenuSection.class);
+
+  private volatile boolean rebuildPending;
+
+  public MenuCatalogService(
+      MealRepository mealRepository,
+      BeverageRepository beverageRepository,
+      AddonRepository addonRepository,
+      IngredientRepository ingredientRepository,
+      ApplicationEventPublisher eventPublisher,
+      TransactionTemplate transactionTemplate) {
+    this.mealRepository = mealRepository;
+    this.beverageRepository = beverageRepository;
+    this.addonRepository = addonRepository;
+    this.ingredientRepository = ingredientRepository;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  public MenuCatalog getCatalog() {
+
+    MenuCatalog current = catalog.get();
+
+    if (current == null) {
+      rebuild(EnumSet.allOf(MenuSection.class));
+      current = catalog.get();
+    } else if (rebuildPending) {
+      MenuChangedEvent change = null;
+
+      try {
+        change = rebuild(EnumSet.noneOf(MenuSection.class));
+      } catch (RuntimeException e) {
+        log.warn(
+            "Serving menu catalog version '{}' until rebuild succeeds: {}",
+            current.getVersion(),
+            e.getMessage());
+      }
+
+      if (change != null) eventPublisher.publishEvent(change);
+      current = catalog.get();
+    }
+
+    return current;
+  }
+
+  public void refresh(MenuSection... sections) {
+
+    Set<MenuSection> changed =
+        sections.length == 0
+            ? EnumSet.allOf(MenuSection.class)
+            : EnumSet.copyOf(Arrays.asList(sections));
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              apply(changed);
+            }
+          });
+      return;
+    }
+
+    apply(changed);
+  }
+
+  private void apply(Set<MenuSection> sections) {
+
+    MenuChangedEvent change;
+
+    try {
+      change = rebuild(sections);
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild menu catalog for sections {}", sections, e);
+
+      MenuCatalog current = catalog.get();
+      eventPublisher.publishEvent(
+          new MenuRebuildFailedEvent(sections, current != null ? current.getVersion() : 0));
+
+      return;
+    }
+
+    if (change != null) eventPublisher.publishEvent(change);
+  }
+
+  private synchronized MenuChangedEvent rebuild(Set<MenuSection> sections) {
+
+    MenuCatalog current = catalog.get();
+    boolean full = current == null;
+
+    Set<MenuSection> changed = EnumSet.noneOf(MenuSection.class);
+    changed.addAll(sections);
+    changed.addAll(pendingSections);
+
+    if (!full && changed.isEmpty()) return null;
+
+    MenuChangedEvent change = new MenuChangedEvent(changed, full ? 1 : current.getVersion() + 1);
+
+    log.info("Started rebuilding menu catalog for sections {}", change.sections());
+
+    try {
+      MenuCatalog next =
+          new MenuCatalog(
+              change.version(),
+              full || change.affectsMeals()
+                  ? transactionTemplate.execute(
+                      status -> MenuCatalog.indexMeals(mealRepository.findAllForMenu()))
+                  : current.getMeals(),
+              full || change.affectsBeverages()
+                  ? MenuCatalog.indexBeverages(beverageRepository.findAll())
+                  : current.getBeverages(),
+              full || change.affectsAddons()
+                  ? MenuCatalog.indexAddons(addonRepository.findAll())
+                  : current.getAddons(),
+              full || change.affectsIngredients()
+                  ? MenuCatalog.indexIngredients(ingredientRepository.findAll())
+                  : current.getIngredients());
+
+      catalog.set(next);
+      pendingSections.clear();
+      rebuildPending = false;
+
+      log.info("Successfully rebuilt menu catalog to version '{}'", next.getVersion());
+
+      return change;
+    } catch (RuntimeException e) {
+      if (!full) {
+        pendingSections.addAll(changed);
+        rebuildPending = true;
+      }
+
+      throw e;
+    }
+  }
+}
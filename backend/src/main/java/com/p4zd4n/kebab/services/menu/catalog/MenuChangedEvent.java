@@ -0,0 +1,27 @@
+package com.p4zd4n.kebab.services.menu.catalog;
+
+import com.p4zd4n.kebab.enums.MenuSection;
+import java.util.Set;
+
+public record MenuChangedEvent(Set<MenuSection> sections, long version) {
+
+  public boolean affectsMeals() {
+    return sections.contains(MenuSection.MEALS)
+        || sections.contains(MenuSection.INGREDIENTS)
+        || sections.contains(MenuSection.MEAL_PROMOTIONS);
+  }
+
+  public boolean affectsBeverages() {
+    return sections.contains(MenuSection.BEVERAGES)
+        || sections.contains(MenuSection.BEVERAGE_PROMOTIONS);
+  }
+
+  public boolean affectsAddons() {
+    return sections.contains(MenuSection.ADDONS)
+        || sections.contains(MenuSection.ADDON_PROMOTIONS);
+  }
+
+  public boolean affectsIngredients() {
+    return sections.contains(MenuSection.INGREDIENTS);
+  }
+}
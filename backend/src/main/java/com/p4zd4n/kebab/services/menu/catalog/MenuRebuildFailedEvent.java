@@ -0,0 +1,11 @@
+package com.p4zd4n.kebab.services.menu.catalog;
+
+import com.p4zd4n.kebab.enums.MenuSection;
+import java.util.Set;
+
+public record MenuRebuildFailedEvent(Set<MenuSection> sections, long version) {
+
+  public MenuChangedEvent asChange() {
+    return new MenuChangedEvent(sections, version);
+  }
+}
@@ -0,0 +1,236 @@
+package com.p4zd4n.kebab.services.menu.search;
+
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.responses.menu.search.MenuSearchResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog;
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+import lombok.Getter;
+
+final class MenuSearchIndex {
+
+  private static final int GRAM_LENGTH = 2;
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+  @Getter private final long version;
+  private final List<Entry> entries;
+  private final NavigableMap<String, int[]> tokens;
+  private final Map<String, String[]> tokensByGram;
+
+  private MenuSearchIndex(long version, List<Entry> entries) {
+    this.version = version;
+    this.entries = List.copyOf(entries);
+
+    Map<String, Set<Integer>> entriesByToken = new HashMap<>();
+    for (int id = 0; id < entries.size(); id++) {
+      for (String token : entries.get(id).tokens()) {
+        entriesByToken.computeIfAbsent(token, key -> new TreeSet<>()).add(id);
+      }
+    }
+
+    Map<String, Set<String>> grammed = new HashMap<>();
+    NavigableMap<String, int[]> index = new TreeMap<>();
+    entriesByToken.forEach(
+        (token, ids) -> {
+          index.put(token, ids.stream().mapToInt(Integer::intValue).toArray());
+          for (String gram : grams(token)) {
+            grammed.computeIfAbsent(gram, key -> new HashSet<>()).add(token);
+          }
+        });
+
+    Map<String, String[]> gramIndex = new HashMap<>();
+    grammed.forEach((gram, gramTokens) -> gramIndex.put(gram, gramTokens.toArray(String[]::new)));
+
+    this.tokens = Collections.unmodifiableNavigableMap(index);
+    this.tokensByGram = Map.copyOf(gramIndex);
+  }
+
+  static MenuSearchIndex of(MenuCatalog catalog) {
+
+    List<Entry> entries = new ArrayList<>();
+
+    catalog
+        .getMeals()
+        .values()
+        .forEach(meal -> entries.add(Entry.of(meal.name(), MenuSection.MEALS, null)));
+    catalog
+        .getBeverages()
+        .values()
+        .forEach(
+            beverage ->
+                entries.add(
+                    Entry.of(beverage.name(), MenuSection.BEVERAGES, beverage.capacity())));
+    catalog
+        .getAddons()
+        .values()
+        .forEach(addon -> entries.add(Entry.of(addon.name(), MenuSection.ADDONS, null)));
+    catalog
+        .getIngredients()
+        .values()
+        .forEach(
+            ingredient ->
+                entries.add(Entry.of(ingredient.name(), MenuSection.INGREDIENTS, null)));
+
+    return new MenuSearchIndex(catalog.getVersion(), entries);
+  }
+
+  static String normalize(String text) {
+    String decomposed =
+        Normalizer.normalize(text.replace('ł', 'l').replace('Ł', 'L'), Normalizer.Form.NFD);
+
+    return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).trim();
+  }
+
+  static List<String> tokenize(String normalized) {
+    return Arrays.stream(SEPARATORS.split(normalized)).filter(token -> !token.isEmpty()).toList();
+  }
+
+  List<MenuSearchResponse> search(String query, int limit) {
+
+    String normalizedQuery = normalize(query);
+    List<String> queryTokens = tokenize(normalizedQuery);
+
+    if (queryTokens.isEmpty()) return List.of();
+
+    Map<Integer, Integer> editsByEntry = null;
+
+    for (String queryToken : queryTokens) {
+      Map<Integer, Integer> matches = match(queryToken);
+
+      if (editsByEntry == null) {
+        editsByEntry = matches;
+      } else {
+        editsByEntry.keySet().retainAll(matches.keySet());
+        editsByEntry.replaceAll((id, edits) -> edits + matches.get(id));
+      }
+
+      if (editsByEntry.isEmpty()) return List.of();
+    }
+
+    Map<Integer, Integer> ranked = editsByEntry;
+
+    return ranked.keySet().stream()
+        .sorted(
+            Comparator.<Integer>comparingInt(ranked::get)
+                .thenComparing(id -> !entries.get(id).normalizedName().startsWith(normalizedQuery))
+                .thenComparingInt(id -> entries.get(id).normalizedName().length())
+                .thenComparing(id -> entries.get(id).normalizedName())
+                .thenComparing(id -> entries.get(id).response().section()))
+        .limit(limit)
+        .map(id -> entries.get(id).response())
+        .toList();
+  }
+
+  private Map<Integer, Integer> match(String queryToken) {
+
+    Map<Integer, Integer> matches = new HashMap<>();
+
+    tokens
+        .subMap(queryToken, true, queryToken + Character.MAX_VALUE, false)
+        .values()
+        .forEach(ids -> record(matches, ids, 0));
+
+    int maxEdits = maxEdits(queryToken);
+    if (maxEdits == 0) return matches;
+
+    Set<String> candidates = new HashSet<>();
+    for (String gram : grams(queryToken)) {
+      String[] gramTokens = tokensByGram.get(gram);
+      if (gramTokens != null) Collections.addAll(candidates, gramTokens);
+    }
+
+    for (String candidate : candidates) {
+      if (candidate.startsWith(queryToken)) continue;
+
+      int edits = prefixDistance(queryToken, candidate, maxEdits);
+      if (edits <= maxEdits) record(matches, tokens.get(candidate), edits);
+    }
+
+    return matches;
+  }
+
+  private static void record(Map<Integer, Integer> matches, int[] ids, int edits) {
+    for (int id : ids) {
+      matches.merge(id, edits, Math::min);
+    }
+  }
+
+  private static int maxEdits(String queryToken) {
+    if (queryToken.length() < 4) return 0;
+    if (queryToken.length() < 8) return 1;
+
+    return 2;
+  }
+
+  private static int prefixDistance(String query, String token, int maxEdits) {
+
+    int columns = Math.min(token.length(), query.length() + maxEdits);
+    int[] beforePrevious = new int[columns + 1];
+    int[] previous = new int[columns + 1];
+    int[] current = new int[columns + 1];
+
+    for (int j = 0; j <= columns; j++) {
+      previous[j] = j;
+    }
+
+    for (int i = 1; i <= query.length(); i++) {
+      current[0] = i;
+      int rowMin = current[0];
+
+      for (int j = 1; j <= columns; j++) {
+        int substitution = query.charAt(i - 1) == token.charAt(j - 1) ? 0 : 1;
+        current[j] =
+            Math.min(
+                Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + substitution);
+
+        if (i > 1
+            && j > 1
+            && query.charAt(i - 1) == token.charAt(j - 2)
+            && query.charAt(i - 2) == token.charAt(j - 1)) {
+          current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+        }
+
+        rowMin = Math.min(rowMin, current[j]);
+      }
+
+      if (rowMin > maxEdits) return rowMin;
+
+      int[] recycled = beforePrevious;
+      beforePrevious = previous;
+      previous = current;
+      current = recycled;
+    }
+
+    int distance = Integer.MAX_VALUE;
+    for (int j = Math.max(0, query.length() - maxEdits); j <= columns; j++) {
+      distance = Math.min(distance, previous[j]);
+    }
+
+    return distance;
+  }
+
+  private static Set<String> grams(String token) {
+
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+      grams.add(token.substring(i, i + GRAM_LENGTH));
+    }
+
+    return grams;
+  }
+
+  private record Entry(String normalizedName, List<String> tokens, MenuSearchResponse response) {
+
+    static Entry of(String name, MenuSection section, BigDecimal capacity) {
+      String normalizedName = normalize(name);
+
+      return new Entry(
+          normalizedName,
+          tokenize(normalizedName),
+          MenuSearchResponse.builder().name(name).section(section).capacity(capacity).build());
+    }
+  }
+}
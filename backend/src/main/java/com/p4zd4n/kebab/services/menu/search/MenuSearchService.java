@@ -0,0 +1,61 @@
+package com.p4zd4n.kebab.services.menu.search;
+
+import com.p4zd4n.kebab.responses.menu.search.MenuSearchResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class MenuSearchService {
+
+  private static final int MAX_LIMIT = 50;
+
+  private final MenuCatalogService menuCatalogService;
+  private final AtomicReference<MenuSearchIndex> index = new AtomicReference<>();
+
+  public MenuSearchService(MenuCatalogService menuCatalogService) {
+    this.menuCatalogService = menuCatalogService;
+  }
+
+  public List<MenuSearchResponse> search(String query, int limit) {
+
+    if (query == null || query.isBlank()) return List.of();
+
+    return currentIndex().search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+  }
+
+  @EventListener
+  public void onMenuChanged(MenuChangedEvent event) {
+    rebuild(menuCatalogService.getCatalog());
+  }
+
+  private MenuSearchIndex currentIndex() {
+
+    MenuCatalog catalog = menuCatalogService.getCatalog();
+    MenuSearchIndex current = index.get();
+
+    if (current != null && current.getVersion() >= catalog.getVersion()) return current;
+
+    return rebuild(catalog);
+  }
+
+  private MenuSearchIndex rebuild(MenuCatalog catalog) {
+
+    MenuSearchIndex next = MenuSearchIndex.of(catalog);
+
+    log.info("Rebuilt menu search index for catalog version '{}'", next.getVersion());
+
+    return index.accumulateAndGet(
+        next,
+        (current, candidate) ->
+            current != null && current.getVersion() >= candidate.getVersion()
+                ? current
+                : candidate);
+  }
+}
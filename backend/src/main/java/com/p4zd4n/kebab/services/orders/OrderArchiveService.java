@@ -0,0 +1,69 @@
+package com.p4zd4n.kebab.services.orders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.exceptions.invalid.InvalidDateOrderException;
+import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class OrderArchiveService {
+
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int MAX_PAGE_SIZE = 200;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  private volatile boolean archiveTableReady;
+
+  public OrderArchiveService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  public List<OrderResponse> getArchivedOrders(
+      LocalDateTime from, LocalDateTime to, Integer limit) {
+
+    if (from.isAfter(to)) throw new InvalidDateOrderException();
+    if (!archiveTableExists()) return List.of();
+
+    int pageSize =
+        limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+    log.info("Started reading archived orders created between {} and {}", from, to);
+
+    return jdbcTemplate.query(
+        "SELECT payload::text FROM orders_archive WHERE created_at >= ? AND created_at < ? "
+            + "ORDER BY created_at DESC, id DESC LIMIT ?",
+        (resultSet, rowNumber) -> toResponse(resultSet.getString(1)),
+        Timestamp.valueOf(from),
+        Timestamp.valueOf(to),
+        pageSize);
+  }
+
+  private boolean archiveTableExists() {
+
+    if (!archiveTableReady) {
+      archiveTableReady =
+          Boolean.TRUE.equals(
+              jdbcTemplate.queryForObject(
+                  "SELECT to_regclass('orders_archive') IS NOT NULL", Boolean.class));
+    }
+
+    return archiveTableReady;
+  }
+
+  private OrderResponse toResponse(String payload) {
+    try {
+      return objectMapper.readValue(payload, OrderResponse.class);
+    } catch (Exception e) {
+      throw new IllegalStateException("Cannot read archived order payload", e);
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.p4zd4n.kebab.services.orders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.repositories.OrdersRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@Slf4j
+public class OrderArchiver {
+
+  private static final Set<OrderStatus> CLOSED_STATUSES =
+      Set.of(OrderStatus.RECEIVED, OrderStatus.RETURNED, OrderStatus.CANCELED);
+  private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+  private final OrdersRepository ordersRepository;
+  private final OrdersService ordersService;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final long minAgeHours;
+  private final int batchSize;
+
+  private volatile boolean archiveTableReady;
+
+  public OrderArchiver(
+      OrdersRepository ordersRepository,
+      OrdersService ordersService,
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      ObjectMapper objectMapper,
+      @Value("${orders.archive.min-age-hours:24}") long minAgeHours,
+      @Value("${orders.archive.batch-size:500}") int batchSize) {
+    this.ordersRepository = ordersRepository;
+    this.ordersService = ordersService;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.objectMapper = objectMapper;
+    this.minAgeHours = minAgeHours;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(
+      fixedDelayString = "${orders.archive.fixed-delay-ms:3600000}",
+      initialDelayString = "${orders.archive.initial-delay-ms:60000}")
+  public void archive() {
+
+    ensureArchiveTable();
+
+    LocalDateTime cutoff = LocalDateTime.now().minusHours(minAgeHours);
+    int total = 0;
+    Integer archived;
+
+    do {
+      archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+      total += archived == null ? 0 : archived;
+    } while (archived != null && archived == batchSize);
+
+    if (total > 0) log.info("Archived {} closed orders created before {}", total, cutoff);
+  }
+
+  int archiveBatch(LocalDateTime cutoff) {
+
+    List<Order> orders =
+        ordersRepository.findAllByOrderStatusInAndCreatedAtBeforeOrderByCreatedAt(
+            CLOSED_STATUSES, cutoff, Limit.of(batchSize));
+
+    if (orders.isEmpty()) return 0;
+
+    orders.stream()
+        .map(order -> YearMonth.from(order.getCreatedAt()))
+        .distinct()
+        .forEach(this::ensurePartition);
+
+    LocalDateTime archivedAt = LocalDateTime.now();
+
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO orders_archive "
+            + "(id, created_at, archived_at, order_type, order_status, customer_phone, "
+            + "total_price, payload) VALUES (?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb)) "
+            + "ON CONFLICT DO NOTHING",
+        orders,
+        orders.size(),
+        (statement, order) -> {
+          statement.setLong(1, order.getId());
+          statement.setTimestamp(2, Timestamp.valueOf(order.getCreatedAt()));
+          statement.setTimestamp(3, Timestamp.valueOf(archivedAt));
+          statement.setString(4, order.getOrderType().name());
+          statement.setString(5, order.getOrderStatus().name());
+          statement.setString(6, order.getCustomerPhone());
+          statement.setBigDecimal(7, order.getTotalPrice());
+          statement.setString(8, toJson(order));
+        });
+
+    List<Long> ids = orders.stream().map(Order::getId).toList();
+
+    ordersRepository.deleteMealsByOrderIds(ids);
+    ordersRepository.deleteBeveragesByOrderIds(ids);
+    ordersRepository.deleteAddonsByOrderIds(ids);
+    ordersRepository.deleteAllByIds(ids);
+
+    return orders.size();
+  }
+
+  private String toJson(Order order) {
+    try {
+      return objectMapper.writeValueAsString(ordersService.mapToResponse(order));
+    } catch (Exception e) {
+      throw new IllegalStateException("Cannot serialize order with id '" + order.getId() + "'", e);
+    }
+  }
+
+  private void ensureArchiveTable() {
+
+    if (archiveTableReady) return;
+
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS orders_archive ("
+            + "id BIGINT NOT NULL, "
+            + "created_at TIMESTAMP NOT NULL, "
+            + "archived_at TIMESTAMP NOT NULL, "
+            + "order_type VARCHAR(255) NOT NULL, "
+            + "order_status VARCHAR(255) NOT NULL, "
+            + "customer_phone VARCHAR(255), "
+            + "total_price NUMERIC(38, 2), "
+            + "payload JSONB NOT NULL, "
+            + "PRIMARY KEY (id, created_at)"
+            + ") PARTITION BY RANGE (created_at)");
+
+    archiveTableReady = true;
+  }
+
+  private void ensurePartition(YearMonth month) {
+
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS orders_archive_"
+            + month.format(PARTITION_SUFFIX)
+            + " PARTITION OF orders_archive FOR VALUES FROM ('"
+            + month.atDay(1)
+            + "') TO ('"
+            + month.plusMonths(1).atDay(1)
+            + "')");
+  }
+}
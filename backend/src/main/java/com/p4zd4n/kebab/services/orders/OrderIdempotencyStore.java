@@ -0,0 +1,81 @@
+package com.p4zd4n.kebab.services.orders;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.p4zd4n.kebab.exceptions.alreadyexists.IdempotencyKeyAlreadyUsedException;
+import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
+import com.p4zd4n.kebab.responses.orders.NewOrderResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class OrderIdempotencyStore {
+
+  private final Cache<String, Entry> entries;
+
+  public OrderIdempotencyStore(
+      @Value("${orders.idempotency.max-size:10000}") long maxSize,
+      @Value("${orders.idempotency.ttl-minutes:60}") long ttlMinutes) {
+    this.entries =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+  }
+
+  public boolean contains(String key) {
+    return key != null && entries.getIfPresent(key) != null;
+  }
+
+  public boolean matches(String key, NewOrderRequest request) {
+
+    Entry entry = key != null ? entries.getIfPresent(key) : null;
+
+    return entry != null && entry.request().equals(request);
+  }
+
+  public NewOrderResponse execute(
+      String key, NewOrderRequest request, Supplier<NewOrderResponse> action) {
+
+    Entry created = new Entry(request, new CompletableFuture<>());
+    Entry existing = entries.asMap().putIfAbsent(key, created);
+
+    if (existing != null) {
+      if (!existing.request().equals(request)) throw new IdempotencyKeyAlreadyUsedException(key);
+
+      log.info("Replaying stored response for idempotency key '{}'", key);
+
+      return await(existing.response());
+    }
+
+    try {
+      NewOrderResponse response = action.get();
+      created.response().complete(response);
+
+      return response;
+    } catch (RuntimeException e) {
+      entries.asMap().remove(key, created);
+      created.response().completeExceptionally(e);
+
+      throw e;
+    }
+  }
+
+  private NewOrderResponse await(CompletableFuture<NewOrderResponse> response) {
+    try {
+      return response.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+
+      throw e;
+    }
+  }
+
+  private record Entry(NewOrderRequest request, CompletableFuture<NewOrderResponse> response) {}
+}
@@ -0,0 +1,39 @@
+package com.p4zd4n.kebab.services.orders;
+
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.exceptions.invalid.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record OrdersCursor(LocalDateTime createdAt, Long id) {
+
+  private static final String SEPARATOR = "|";
+
+  public static OrdersCursor of(Order order) {
+    return new OrdersCursor(order.getCreatedAt(), order.getId());
+  }
+
+  public static OrdersCursor decode(String cursor) {
+    try {
+      String decoded =
+          new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = decoded.indexOf(SEPARATOR);
+
+      if (separatorIndex < 0) throw new InvalidCursorException(cursor);
+
+      return new OrdersCursor(
+          LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+          Long.parseLong(decoded.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -2,83 +2,107 @@ package com.p4zd4n.kebab.services.orders;
 
 import com.p4zd4n.kebab.entities.*;
 import com.p4zd4n.kebab.entities.key.MealKey;
+import com.p4zd4n.kebab.enums.OrderOutboxMessageType;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderStatusUpdateOutcome;
+import com.p4zd4n.kebab.enums.OrderType;
 import com.p4zd4n.kebab.enums.Size;
 import com.p4zd4n.kebab.exceptions.expired.DiscountCodeExpiredException;
 import com.p4zd4n.kebab.exceptions.expired.TrackOrderExpiredException;
-import com.p4zd4n.kebab.exceptions.invalid.InvalidMealKeyFormatException;
+import com.p4zd4n.kebab.exceptions.invalid.InvalidDateOrderException;
 import com.p4zd4n.kebab.exceptions.notfound.DiscountCodeNotFoundException;
-import com.p4zd4n.kebab.exceptions.notfound.IngredientNotFoundException;
 import com.p4zd4n.kebab.exceptions.notfound.OrderNotFoundException;
 import com.p4zd4n.kebab.exceptions.notmatches.TrackOrderDataDoesNotMatchException;
 import com.p4zd4n.kebab.repositories.*;
 import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
 import com.p4zd4n.kebab.requests.orders.TrackOrderRequest;
 import com.p4zd4n.kebab.requests.orders.UpdatedOrderRequest;
+import com.p4zd4n.kebab.requests.orders.UpdatedOrdersStatusRequest;
 import com.p4zd4n.kebab.responses.orders.NewOrderResponse;
 import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.responses.orders.OrderStatusChangedEvent;
+import com.p4zd4n.kebab.responses.orders.OrderStatusUpdateResult;
+import com.p4zd4n.kebab.responses.orders.OrdersPageResponse;
 import com.p4zd4n.kebab.responses.orders.RemovedOrderResponse;
 import com.p4zd4n.kebab.responses.orders.UpdatedOrderResponse;
-import com.p4zd4n.kebab.utils.mails.DiscountCodeSendable;
-import com.p4zd4n.kebab.utils.mails.HighValueOrderRewardMailUtil;
-import com.p4zd4n.kebab.utils.mails.TenOrdersRewardMailUtil;
-import com.p4zd4n.kebab.utils.mails.ThanksForOrderMailUtil;
-import jakarta.mail.MessagingException;
+import com.p4zd4n.kebab.responses.orders.UpdatedOrdersStatusResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog.BeverageKey;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog.CatalogAddon;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog.CatalogBeverage;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog.CatalogMeal;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.outbox.OrderMailPayload;
+import com.p4zd4n.kebab.services.outbox.OrderOutboxService;
+import com.p4zd4n.kebab.services.reports.SalesReportService;
+import com.p4zd4n.kebab.utils.PriceUtil;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
 public class OrdersService {
 
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int MAX_PAGE_SIZE = 200;
+  private static final long DELIVERY_FEE_IN_GROSZE = 1_500;
+  private static final long HIGH_VALUE_ORDER_THRESHOLD_IN_GROSZE = 10_000;
+
   private final OrdersRepository ordersRepository;
+  private final MenuCatalogService menuCatalogService;
   private final MealRepository mealRepository;
   private final BeverageRepository beverageRepository;
   private final AddonRepository addonRepository;
   private final IngredientRepository ingredientRepository;
   private final CustomerRepository customerRepository;
-  private final ThanksForOrderMailUtil thanksForOrderMailUtil;
-  private final TenOrdersRewardMailUtil tenOrdersRewardMailUtil;
-  private final HighValueOrderRewardMailUtil highValueOrderRewardMailUtil;
   private final DiscountCodesRepository discountCodesRepository;
-  private final SimpMessagingTemplate messagingTemplate;
+  private final OrderOutboxService orderOutboxService;
+  private final TrackOrderCache trackOrderCache;
+  private final SalesReportService salesReportService;
 
   public OrdersService(
       OrdersRepository ordersRepository,
+      MenuCatalogService menuCatalogService,
       MealRepository mealRepository,
       BeverageRepository beverageRepository,
       AddonRepository addonRepository,
       IngredientRepository ingredientRepository,
       CustomerRepository customerRepository,
-      ThanksForOrderMailUtil thanksForOrderMailUtil,
-      TenOrdersRewardMailUtil tenOrdersRewardMailUtil,
-      HighValueOrderRewardMailUtil highValueOrderRewardMailUtil,
       DiscountCodesRepository discountCodesRepository,
-      SimpMessagingTemplate simpMessagingTemplate) {
+      OrderOutboxService orderOutboxService,
+      TrackOrderCache trackOrderCache,
+      SalesReportService salesReportService) {
     this.ordersRepository = ordersRepository;
+    this.menuCatalogService = menuCatalogService;
     this.mealRepository = mealRepository;
     this.beverageRepository = beverageRepository;
     this.addonRepository = addonRepository;
     this.ingredientRepository = ingredientRepository;
     this.customerRepository = customerRepository;
-    this.thanksForOrderMailUtil = thanksForOrderMailUtil;
-    this.tenOrdersRewardMailUtil = tenOrdersRewardMailUtil;
     this.discountCodesRepository = discountCodesRepository;
-    this.highValueOrderRewardMailUtil = highValueOrderRewardMailUtil;
-    this.messagingTemplate = simpMessagingTemplate;
+    this.orderOutboxService = orderOutboxService;
+    this.trackOrderCache = trackOrderCache;
+    this.salesReportService = salesReportService;
   }
 
+  @Transactional(readOnly = true)
   public List<OrderResponse> getOrders() {
 
     log.info("Started retrieving orders");
@@ -93,6 +117,56 @@ public class OrdersService {
     return response;
   }
 
+  @Transactional(readOnly = true)
+  public OrdersPageResponse getOrdersPage(
+      OrderStatus status,
+      OrderType type,
+      LocalDateTime from,
+      LocalDateTime to,
+      String cursor,
+      Integer limit) {
+
+    if (from != null && to != null && from.isAfter(to)) throw new InvalidDateOrderException();
+
+    int pageSize =
+        limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    OrdersCursor after = cursor == null || cursor.isBlank() ? null : OrdersCursor.decode(cursor);
+
+    log.info("Started retrieving page of {} orders after cursor '{}'", pageSize, cursor);
+
+    Specification<Order> specification =
+        Specification.where(OrderSpecifications.hasStatus(status))
+            .and(OrderSpecifications.hasType(type))
+            .and(OrderSpecifications.createdFrom(from))
+            .and(OrderSpecifications.createdBefore(to))
+            .and(
+                after == null
+                    ? null
+                    : OrderSpecifications.olderThan(after.createdAt(), after.id()));
+
+    List<Order> orders =
+        ordersRepository.findBy(
+            specification,
+            query ->
+                query
+                    .sortBy(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                    .limit(pageSize + 1)
+                    .all());
+
+    boolean hasNext = orders.size() > pageSize;
+    List<Order> page = hasNext ? orders.subList(0, pageSize) : orders;
+
+    OrdersPageResponse response =
+        OrdersPageResponse.builder()
+            .orders(page.stream().map(this::mapToResponse).toList())
+            .nextCursor(hasNext ? OrdersCursor.of(page.getLast()).encode() : null)
+            .build();
+
+    log.info("Successfully retrieved page of {} orders", page.size());
+
+    return response;
+  }
+
   public OrderResponse mapToResponse(Order order) {
 
     List<OrderMeal> meals =
@@ -100,12 +174,11 @@ public class OrdersService {
             .map(
                 orderMeal -> {
                   return OrderMeal.builder()
-                      .order(order)
                       .mealName(orderMeal.getMealName())
                       .finalPrice(orderMeal.getFinalPrice())
                       .size(orderMeal.getSize())
                       .quantity(orderMeal.getQuantity())
-                      .ingredientNames(orderMeal.getIngredientNames())
+                      .ingredientNames(new HashSet<>(orderMeal.getIngredientNames()))
                       .build();
                 })
             .toList();
@@ -115,7 +188,6 @@ public class OrdersService {
             .map(
                 orderBeverage ->
                     OrderBeverage.builder()
-                        .order(order)
                         .beverageName(orderBeverage.getBeverageName())
                         .finalPrice(orderBeverage.getFinalPrice())
                         .capacity(orderBeverage.getCapacity())
@@ -128,7 +200,6 @@ public class OrdersService {
             .map(
                 orderAddon ->
                     OrderAddon.builder()
-                        .order(order)
                         .addonName(orderAddon.getAddonName())
                         .finalPrice(orderAddon.getFinalPrice())
                         .quantity(orderAddon.getQuantity())
@@ -155,8 +226,8 @@ public class OrdersService {
         .build();
   }
 
-  public NewOrderResponse addOrder(NewOrderRequest request, String language)
-      throws MessagingException {
+  @Transactional
+  public NewOrderResponse addOrder(NewOrderRequest request, String language) {
 
     Order order =
         Order.builder()
@@ -165,33 +236,11 @@ public class OrdersService {
             .customerPhone(request.customerPhone())
             .build();
 
-    Order savedOrder = ordersRepository.save(order);
+    boolean hasCustomerEmail =
+        request.customerEmail() != null && !request.customerEmail().isBlank();
 
-    if (request.customerEmail() != null && !request.customerEmail().isBlank()) {
+    if (hasCustomerEmail) {
       order.setCustomerEmail(request.customerEmail());
-
-      Optional<Customer> optionalCustomer =
-          customerRepository.findCustomerByEmail(request.customerEmail());
-      if (optionalCustomer.isPresent()) {
-        Customer customer = optionalCustomer.get();
-        customer.setOrderCount(customer.getOrderCount() + 1);
-
-        if (language.equals("pl"))
-          thanksForOrderMailUtil.sendPl(request, customer, savedOrder.getId());
-        else thanksForOrderMailUtil.sendEng(request, customer, savedOrder.getId());
-
-        if (customer.getOrderCount() % 10 == 0) {
-          generateAndSendDiscountCode(tenOrdersRewardMailUtil, language, request);
-        }
-      } else {
-        Customer newCustomer = Customer.builder().email(request.customerEmail()).build();
-
-        customerRepository.save(newCustomer);
-
-        if (language.equals("pl"))
-          thanksForOrderMailUtil.sendPl(request, newCustomer, savedOrder.getId());
-        else thanksForOrderMailUtil.sendEng(request, newCustomer, savedOrder.getId());
-      }
     }
 
     if (request.street() != null && !request.street().isBlank()) {
@@ -214,76 +263,64 @@ public class OrdersService {
       order.setAdditionalComments(request.additionalComments());
     }
 
-    savedOrder = ordersRepository.save(order);
-    BigDecimal totalPriceBeforeDelivery = BigDecimal.ZERO;
+    long unroundedTotalPrice = 0;
+    MenuCatalog items = resolveItems(request.meals(), request.beverages(), request.addons());
 
     if (request.meals() != null) {
-      Map<MealKey, Map<Size, Integer>> mealQuantities =
-          request.meals().entrySet().stream()
-              .collect(
-                  Collectors.toMap(entry -> parseMealKey(entry.getKey()), Map.Entry::getValue));
-
-      addMeals(order, mealQuantities);
-      totalPriceBeforeDelivery = totalPriceBeforeDelivery.add(getMealTotalPrice(mealQuantities));
+      unroundedTotalPrice += addMeals(items, order, parseMealKeys(items, request.meals()));
     }
 
     if (request.beverages() != null && !request.beverages().isEmpty()) {
-      addBeverages(order, request.beverages());
-      totalPriceBeforeDelivery =
-          totalPriceBeforeDelivery.add(getBeverageTotalPrice(request.beverages()));
+      unroundedTotalPrice += addBeverages(items, order, request.beverages());
     }
 
     if (request.addons() != null && !request.addons().isEmpty()) {
-      addAddons(order, request.addons());
-      totalPriceBeforeDelivery = totalPriceBeforeDelivery.add(getAddonTotalPrice(request.addons()));
+      unroundedTotalPrice += addAddons(items, order, request.addons());
     }
 
-    BigDecimal discountedPrice = totalPriceBeforeDelivery;
+    int discountPercent = 0;
 
     if (request.discountCode() != null && !request.discountCode().isBlank()) {
-      DiscountCode discountCode =
-          discountCodesRepository
-              .findByCode(request.discountCode())
-              .orElseThrow(() -> new DiscountCodeNotFoundException(request.discountCode()));
-
-      if (discountCode.getExpirationDate().isBefore(LocalDate.now())
-          || discountCode.getRemainingUses() < 1) {
-        throw new DiscountCodeExpiredException(discountCode.getCode());
-      }
-
-      BigDecimal discountMultiplier =
-          BigDecimal.ONE.subtract(
-              discountCode
-                  .getDiscountPercentage()
-                  .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
-      discountedPrice = discountedPrice.multiply(discountMultiplier);
-
-      discountCode.setRemainingUses(discountCode.getRemainingUses() - 1);
-      discountCodesRepository.save(discountCode);
+      discountPercent = PriceUtil.toDiscountPercent(redeemDiscountCode(request.discountCode()));
     }
 
-    BigDecimal finalTotalPrice = discountedPrice;
-
-    if (finalTotalPrice.compareTo(BigDecimal.valueOf(100)) > 0
-        && request.customerEmail() != null
-        && !request.customerEmail().isBlank()) {
-      generateAndSendDiscountCode(highValueOrderRewardMailUtil, language, request);
-    }
+    long discountedPrice = PriceUtil.applyOrderDiscount(unroundedTotalPrice, discountPercent);
+    long finalTotalPrice = discountedPrice;
 
     if (order.getStreet() != null
         && order.getHouseNumber() != null
         && order.getPostalCode() != null
         && order.getCity() != null) {
-      finalTotalPrice = finalTotalPrice.add(BigDecimal.valueOf(15));
+      finalTotalPrice += DELIVERY_FEE_IN_GROSZE;
     }
 
-    savedOrder.setTotalPrice(finalTotalPrice);
+    order.setTotalPrice(PriceUtil.toAmount(finalTotalPrice));
+
+    Order savedOrder = ordersRepository.save(order);
+    salesReportService.recordOrder(savedOrder);
+
+    if (hasCustomerEmail) {
+      long orderCount =
+          customerRepository.incrementOrderCount(
+              Customer.normalizeEmail(request.customerEmail()));
 
-    savedOrder = ordersRepository.save(savedOrder);
+      enqueueThanksForOrderMail(request, orderCount, savedOrder.getId(), language);
 
-    OrderResponse newOrderResponse = mapToResponse(savedOrder);
+      if (orderCount % 10 == 0) {
+        generateAndEnqueueDiscountCode(
+            OrderOutboxMessageType.TEN_ORDERS_REWARD_MAIL, language, request, savedOrder.getId());
+      }
 
-    messagingTemplate.convertAndSend("/topic/orders/status", newOrderResponse);
+      if (discountedPrice > HIGH_VALUE_ORDER_THRESHOLD_IN_GROSZE) {
+        generateAndEnqueueDiscountCode(
+            OrderOutboxMessageType.HIGH_VALUE_ORDER_REWARD_MAIL,
+            language,
+            request,
+            savedOrder.getId());
+      }
+    }
+
+    publishOrderChange(null, mapToResponse(savedOrder));
 
     return NewOrderResponse.builder()
         .statusCode(HttpStatus.OK.value())
@@ -292,98 +329,62 @@ public class OrdersService {
         .build();
   }
 
-  private void generateAndSendDiscountCode(
-      DiscountCodeSendable sendable, String language, NewOrderRequest request)
-      throws MessagingException {
-
-    BigDecimal randomPercentage =
-        BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(10, 21))
-            .setScale(2, RoundingMode.HALF_UP);
-
-    DiscountCode discountCode =
-        DiscountCode.builder()
-            .remainingUses(1L)
-            .expirationDate(LocalDate.now().plusMonths(1))
-            .discountPercentage(randomPercentage)
-            .build();
+  private BigDecimal redeemDiscountCode(String code) {
 
-    discountCodesRepository.save(discountCode);
+    if (discountCodesRepository.redeem(code, LocalDate.now()) == 0) {
+      DiscountCode discountCode =
+          discountCodesRepository
+              .findByCode(code)
+              .orElseThrow(() -> new DiscountCodeNotFoundException(code));
 
-    if (sendable instanceof HighValueOrderRewardMailUtil) {
-      if (language.equals("pl")) highValueOrderRewardMailUtil.sendPl(request, discountCode);
-      else highValueOrderRewardMailUtil.sendEng(request, discountCode);
-    } else if (sendable instanceof TenOrdersRewardMailUtil) {
-      if (language.equals("pl")) tenOrdersRewardMailUtil.sendPl(request, discountCode);
-      else tenOrdersRewardMailUtil.sendEng(request, discountCode);
+      throw new DiscountCodeExpiredException(discountCode.getCode());
     }
-  }
-
-  private BigDecimal getMealTotalPrice(Map<MealKey, Map<Size, Integer>> mealQuantities) {
-
-    AtomicReference<BigDecimal> totalPrice = new AtomicReference<>(BigDecimal.ZERO);
-
-    mealQuantities.forEach(
-        (mealKey, sizeQuantities) -> {
-          Optional<Meal> optionalMeal = mealRepository.findByName(mealKey.getMealName());
 
-          if (optionalMeal.isEmpty()) return;
+    log.info("Redeemed discount code '{}'", code);
 
-          Meal meal = optionalMeal.get();
-          sizeQuantities.forEach(
-              (size, quantity) -> {
-                if (quantity != null && quantity > 0) {
-                  totalPrice.updateAndGet(
-                      current ->
-                          current.add(meal.getPriceForSizeWithDiscountIncluded(size, quantity)));
-                }
-              });
-        });
-
-    return totalPrice.get();
+    return discountCodesRepository
+        .findDiscountPercentageByCode(code)
+        .orElseThrow(() -> new DiscountCodeNotFoundException(code));
   }
 
-  private BigDecimal getBeverageTotalPrice(
-      Map<String, Map<BigDecimal, Integer>> beverageQuantities) {
-
-    AtomicReference<BigDecimal> totalPrice = new AtomicReference<>(BigDecimal.ZERO);
-
-    beverageQuantities.forEach(
-        (beverageName, capacityQuantities) -> {
-          capacityQuantities.forEach(
-              (capacity, quantity) -> {
-                Optional<Beverage> optionalBeverage =
-                    beverageRepository.findByNameAndCapacity(beverageName, capacity);
+  private void enqueueThanksForOrderMail(
+      NewOrderRequest request, long orderCount, Long orderId, String language) {
 
-                if (optionalBeverage.isEmpty()) return;
-                if (quantity != null && quantity > 0) {
-                  totalPrice.updateAndGet(
-                      current ->
-                          current.add(
-                              optionalBeverage.get().getPriceWithDiscountIncluded(quantity)));
-                }
-              });
-        });
-
-    return totalPrice.get();
+    orderOutboxService.enqueueMail(
+        OrderOutboxMessageType.THANKS_FOR_ORDER_MAIL,
+        language,
+        OrderMailPayload.builder()
+            .customerEmail(request.customerEmail())
+            .customerPhone(request.customerPhone())
+            .orderCount(orderCount)
+            .orderId(orderId)
+            .build());
   }
 
-  private BigDecimal getAddonTotalPrice(Map<String, Integer> addonQuantities) {
+  private void generateAndEnqueueDiscountCode(
+      OrderOutboxMessageType type, String language, NewOrderRequest request, Long orderId) {
 
-    AtomicReference<BigDecimal> totalPrice = new AtomicReference<>(BigDecimal.ZERO);
+    BigDecimal randomPercentage =
+        BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(10, 21))
+            .setScale(2, RoundingMode.HALF_UP);
 
-    addonQuantities.forEach(
-        (addonName, quantity) -> {
-          Optional<Addon> optionalAddon = addonRepository.findByName(addonName);
+    DiscountCode discountCode =
+        DiscountCode.builder()
+            .remainingUses(1L)
+            .expirationDate(LocalDate.now().plusMonths(1))
+            .discountPercentage(randomPercentage)
+            .build();
 
-          if (optionalAddon.isEmpty()) return;
-          if (quantity != null && quantity > 0) {
-            totalPrice.updateAndGet(
-                current -> current.add(optionalAddon.get().getPriceWithDiscountIncluded(quantity)));
-          }
-          ;
-        });
+    discountCodesRepository.save(discountCode);
 
-    return totalPrice.get();
+    orderOutboxService.enqueueMail(
+        type,
+        language,
+        OrderMailPayload.builder()
+            .customerEmail(request.customerEmail())
+            .orderId(orderId)
+            .discountCode(discountCode.getCode())
+            .build());
   }
 
   public Order findOrderById(Long id) {
@@ -397,26 +398,36 @@ public class OrdersService {
     return order;
   }
 
+  @Transactional(readOnly = true)
   public OrderResponse trackOrder(TrackOrderRequest request) {
 
-    Order order =
-        ordersRepository
-            .findById(request.id())
-            .orElseThrow(() -> new OrderNotFoundException(request.id()));
+    TrackedOrderSnapshot snapshot = trackOrderCache.get(request.id(), this::loadTrackedOrder);
 
-    if (!order.getCustomerPhone().equals(request.customerPhone())) {
+    if (!Objects.equals(snapshot.customerPhone(), request.customerPhone())) {
       throw new TrackOrderDataDoesNotMatchException(request.id(), request.customerPhone());
     }
 
-    if (order.getUpdatedAt().isBefore(LocalDateTime.now().minusHours(2))) {
+    if (snapshot.updatedAt().isBefore(LocalDateTime.now().minusHours(2))) {
       throw new TrackOrderExpiredException();
     }
 
-    return mapToResponse(order);
+    return snapshot.response();
   }
 
+  private TrackedOrderSnapshot loadTrackedOrder(Long id) {
+
+    Order order = ordersRepository.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
+
+    return new TrackedOrderSnapshot(
+        order.getCustomerPhone(), order.getUpdatedAt(), mapToResponse(order));
+  }
+
+  @Transactional
   public UpdatedOrderResponse updateOrder(Order order, UpdatedOrderRequest request) {
 
+    OrderStatus previousStatus = order.getOrderStatus();
+    salesReportService.revertOrder(order);
+
     UpdatedOrderResponse response =
         UpdatedOrderResponse.builder()
             .statusCode(HttpStatus.OK.value())
@@ -437,108 +448,354 @@ public class OrdersService {
       order.setAdditionalComments(request.additionalComments());
     }
 
+    MenuCatalog items = resolveItems(request.meals(), request.beverages(), request.addons());
+
     if (request.meals() != null) {
       order.getOrderMeals().clear();
-      addMeals(
-          order,
-          request.meals().entrySet().stream()
-              .collect(
-                  Collectors.toMap(entry -> parseMealKey(entry.getKey()), Map.Entry::getValue)));
+      addMeals(items, order, parseMealKeys(items, request.meals()));
     }
 
     if (request.beverages() != null && !request.beverages().isEmpty()) {
       order.getOrderBeverages().clear();
-      addBeverages(order, request.beverages());
+      addBeverages(items, order, request.beverages());
     }
 
     if (request.addons() != null && !request.addons().isEmpty()) {
       order.getOrderAddons().clear();
-      addAddons(order, request.addons());
+      addAddons(items, order, request.addons());
     }
 
     ordersRepository.save(order);
+    salesReportService.recordOrder(order);
+    trackOrderCache.evict(order.getId());
 
-    OrderResponse updatedOrderResponse = mapToResponse(order);
-
-    messagingTemplate.convertAndSend("/topic/orders/status", updatedOrderResponse);
+    publishOrderChange(previousStatus, mapToResponse(order));
 
     return response;
   }
 
-  private void addMeals(Order order, Map<MealKey, Map<Size, Integer>> mealQuantities) {
-    mealQuantities.forEach(
-        (mealKey, sizeQuantities) -> {
-          Optional<Meal> optionalMeal = mealRepository.findByName(mealKey.getMealName());
-
-          if (optionalMeal.isEmpty()) return;
-
-          Meal meal = optionalMeal.get();
-          sizeQuantities.forEach(
-              (size, quantity) -> {
-                if (quantity != null && quantity > 0) {
-                  int currentOrderMealsSize = order.getOrderMeals().size();
-
-                  order.addMeal(meal, size, quantity);
-                  order.getOrderMeals().stream()
-                      .skip(currentOrderMealsSize)
-                      .filter(orderMeal -> orderMeal.getMealName().equals(meal.getName()))
-                      .forEach(
-                          orderMeal -> {
-                            orderMeal.getIngredientNames().add(mealKey.getMeat().getName());
-                            orderMeal.getIngredientNames().add(mealKey.getSauce().getName());
-                          });
-                }
-              });
-        });
+  @Transactional
+  public UpdatedOrdersStatusResponse updateOrdersStatus(UpdatedOrdersStatusRequest request) {
+
+    Set<Long> ids = new LinkedHashSet<>(request.orderIds());
+    OrderStatus status = request.orderStatus();
+    LocalDateTime now = LocalDateTime.now();
+
+    log.info("Started updating status of {} orders to '{}'", ids.size(), status);
+
+    Map<Long, OrderStatus> previousStatuses =
+        ordersRepository.updateStatus(ids, status.name(), now).stream()
+            .collect(
+                Collectors.toMap(
+                    OrdersRepository.StatusChange::getId,
+                    change -> OrderStatus.valueOf(change.getPreviousStatus())));
+
+    Set<Long> existingIds =
+        previousStatuses.size() == ids.size()
+            ? ids
+            : new HashSet<>(ordersRepository.findExistingIds(ids));
+
+    List<OrderStatusUpdateResult> results =
+        ids.stream()
+            .map(
+                id ->
+                    OrderStatusUpdateResult.builder()
+                        .id(id)
+                        .outcome(
+                            previousStatuses.containsKey(id)
+                                ? OrderStatusUpdateOutcome.UPDATED
+                                : existingIds.contains(id)
+                                    ? OrderStatusUpdateOutcome.UNCHANGED
+                                    : OrderStatusUpdateOutcome.NOT_FOUND)
+                        .previousStatus(previousStatuses.get(id))
+                        .build())
+            .toList();
+
+    if (!previousStatuses.isEmpty()) {
+      recordStatusChanges(previousStatuses, status);
+
+      List<OrderStatusChangedEvent> events =
+          previousStatuses.entrySet().stream()
+              .map(
+                  entry ->
+                      OrderStatusChangedEvent.builder()
+                          .id(entry.getKey())
+                          .oldStatus(entry.getValue())
+                          .newStatus(status)
+                          .timestamp(now)
+                          .build())
+              .toList();
+
+      events.forEach(
+          event -> {
+            trackOrderCache.evict(event.id());
+            orderOutboxService.enqueuePush(event.id(), "/topic/orders/" + event.id(), event);
+          });
+      orderOutboxService.enqueuePush(null, "/topic/orders/status-changes", events);
+    }
+
+    log.info("Successfully updated status of {} orders to '{}'", previousStatuses.size(), status);
+
+    return UpdatedOrdersStatusResponse.builder()
+        .statusCode(HttpStatus.OK.value())
+        .message("Successfully updated status of " + previousStatuses.size() + " orders")
+        .results(results)
+        .build();
+  }
+
+  private void recordStatusChanges(Map<Long, OrderStatus> previousStatuses, OrderStatus status) {
+
+    Set<Long> affectedIds =
+        previousStatuses.entrySet().stream()
+            .filter(entry -> salesReportService.affectsSales(entry.getValue(), status))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+
+    if (affectedIds.isEmpty()) return;
+
+    for (Order order : ordersRepository.findAllById(affectedIds)) {
+      salesReportService.recordStatusChange(order, previousStatuses.get(order.getId()));
+    }
   }
 
-  private MealKey parseMealKey(String key) {
-    String[] parts = key.split("_");
+  private void publishOrderChange(OrderStatus previousStatus, OrderResponse order) {
 
-    if (parts.length != 3) throw new InvalidMealKeyFormatException(key);
+    orderOutboxService.enqueuePush(order.id(), "/topic/staff/orders", order);
 
-    Ingredient meat =
-        ingredientRepository
-            .findByName(parts[1])
-            .orElseThrow(() -> new IngredientNotFoundException(parts[1]));
-    Ingredient sauce =
-        ingredientRepository
-            .findByName(parts[2])
-            .orElseThrow(() -> new IngredientNotFoundException(parts[2]));
+    if (previousStatus == order.orderStatus()) return;
+
+    OrderStatusChangedEvent event =
+        OrderStatusChangedEvent.builder()
+            .id(order.id())
+            .oldStatus(previousStatus)
+            .newStatus(order.orderStatus())
+            .timestamp(LocalDateTime.now())
+            .build();
 
-    return MealKey.builder().mealName(parts[0]).meat(meat).sauce(sauce).build();
+    orderOutboxService.enqueuePush(order.id(), "/topic/orders/" + order.id(), event);
+    orderOutboxService.enqueuePush(order.id(), "/topic/orders/status-changes", event);
   }
 
-  private void addBeverages(Order order, Map<String, Map<BigDecimal, Integer>> beverageQuantities) {
-    beverageQuantities.forEach(
-        (beverageName, capacityQuantities) -> {
-          capacityQuantities.forEach(
-              (capacity, quantity) -> {
-                if (quantity != null && quantity > 0) {
-                  beverageRepository
-                      .findByNameAndCapacity(beverageName, capacity)
-                      .ifPresent(beverage -> order.addBeverage(beverage, quantity));
+  private MenuCatalog resolveItems(
+      Map<String, Map<Size, Integer>> meals,
+      Map<String, Map<BigDecimal, Integer>> beverages,
+      Map<String, Integer> addons) {
+
+    MenuCatalog catalog = menuCatalogService.getCatalog();
+
+    Set<String> missingMealNames = new HashSet<>();
+    Set<String> missingIngredientNames = new HashSet<>();
+    Set<BeverageKey> missingBeverageKeys = new HashSet<>();
+    Set<String> missingAddonNames = new HashSet<>();
+
+    if (meals != null) {
+      meals
+          .keySet()
+          .forEach(
+              key -> {
+                String[] parts = MenuCatalog.splitMealKey(key);
+
+                if (catalog.findMeal(parts[0]).isEmpty()) missingMealNames.add(parts[0]);
+
+                for (String ingredientName : List.of(parts[1], parts[2])) {
+                  if (catalog.findIngredient(ingredientName).isEmpty())
+                    missingIngredientNames.add(ingredientName);
                 }
               });
-        });
+    }
+
+    if (beverages != null) {
+      beverages.forEach(
+          (beverageName, capacityQuantities) ->
+              capacityQuantities
+                  .keySet()
+                  .forEach(
+                      capacity -> {
+                        if (catalog.findBeverage(beverageName, capacity).isEmpty())
+                          missingBeverageKeys.add(BeverageKey.of(beverageName, capacity));
+                      }));
+    }
+
+    if (addons != null) {
+      addons
+          .keySet()
+          .forEach(
+              addonName -> {
+                if (catalog.findAddon(addonName).isEmpty()) missingAddonNames.add(addonName);
+              });
+    }
+
+    if (missingMealNames.isEmpty()
+        && missingIngredientNames.isEmpty()
+        && missingBeverageKeys.isEmpty()
+        && missingAddonNames.isEmpty()) {
+      return catalog;
+    }
+
+    log.info(
+        "Resolving {} meals, {} ingredients, {} beverages and {} addons missing from catalog '{}'",
+        missingMealNames.size(),
+        missingIngredientNames.size(),
+        missingBeverageKeys.size(),
+        missingAddonNames.size(),
+        catalog.getVersion());
+
+    List<Meal> resolvedMeals =
+        missingMealNames.isEmpty() ? List.of() : mealRepository.findAllByNameIn(missingMealNames);
+    List<Ingredient> resolvedIngredients =
+        missingIngredientNames.isEmpty()
+            ? List.of()
+            : ingredientRepository.findAllByNameIn(missingIngredientNames);
+    List<Beverage> resolvedBeverages =
+        missingBeverageKeys.isEmpty()
+            ? List.of()
+            : beverageRepository
+                .findAllByNameInAndCapacityIn(
+                    missingBeverageKeys.stream()
+                        .map(BeverageKey::name)
+                        .collect(Collectors.toSet()),
+                    missingBeverageKeys.stream()
+                        .map(BeverageKey::capacity)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .filter(
+                    beverage ->
+                        missingBeverageKeys.contains(
+                            BeverageKey.of(beverage.getName(), beverage.getCapacity())))
+                .toList();
+    List<Addon> resolvedAddons =
+        missingAddonNames.isEmpty()
+            ? List.of()
+            : addonRepository.findAllByNameIn(missingAddonNames);
+
+    return catalog.withItems(resolvedMeals, resolvedBeverages, resolvedAddons, resolvedIngredients);
   }
 
-  private void addAddons(Order order, Map<String, Integer> addonQuantities) {
-    addonQuantities.forEach(
-        (addonName, quantity) -> {
-          if (quantity != null && quantity > 0) {
-            addonRepository
-                .findByName(addonName)
-                .ifPresent(addon -> order.addAddon(addon, quantity));
-          }
-        });
+  private long addMeals(
+      MenuCatalog items, Order order, Map<MealKey, Map<Size, Integer>> mealQuantities) {
+
+    long totalPrice = 0;
+
+    for (Map.Entry<MealKey, Map<Size, Integer>> entry : mealQuantities.entrySet()) {
+      MealKey mealKey = entry.getKey();
+      Optional<CatalogMeal> optionalMeal = items.findMeal(mealKey.getMealName());
+
+      if (optionalMeal.isEmpty()) continue;
+
+      CatalogMeal meal = optionalMeal.get();
+
+      for (Map.Entry<Size, Integer> sizeQuantity : entry.getValue().entrySet()) {
+        Size size = sizeQuantity.getKey();
+        Integer quantity = sizeQuantity.getValue();
+
+        if (quantity == null || quantity <= 0) continue;
+
+        Set<String> ingredientNames = new HashSet<>(meal.ingredientNames());
+        ingredientNames.add(mealKey.getMeat().getName());
+        ingredientNames.add(mealKey.getSauce().getName());
+
+        long finalPrice = meal.getUnroundedPriceForSizeWithDiscountIncluded(size, quantity);
+
+        order
+            .getOrderMeals()
+            .add(
+                OrderMeal.builder()
+                    .order(order)
+                    .mealName(meal.name())
+                    .finalPrice(PriceUtil.toAmount(PriceUtil.roundToGrosze(finalPrice)))
+                    .size(size)
+                    .quantity(quantity)
+                    .ingredientNames(ingredientNames)
+                    .build());
+        totalPrice += finalPrice;
+      }
+    }
+
+    return totalPrice;
+  }
+
+  private Map<MealKey, Map<Size, Integer>> parseMealKeys(
+      MenuCatalog items, Map<String, Map<Size, Integer>> meals) {
+    return meals.entrySet().stream()
+        .collect(
+            Collectors.toMap(entry -> items.parseMealKey(entry.getKey()), Map.Entry::getValue));
+  }
+
+  private long addBeverages(
+      MenuCatalog items, Order order, Map<String, Map<BigDecimal, Integer>> beverageQuantities) {
+
+    long totalPrice = 0;
+
+    for (Map.Entry<String, Map<BigDecimal, Integer>> entry : beverageQuantities.entrySet()) {
+      for (Map.Entry<BigDecimal, Integer> capacityQuantity : entry.getValue().entrySet()) {
+        Integer quantity = capacityQuantity.getValue();
+
+        if (quantity == null || quantity <= 0) continue;
+
+        Optional<CatalogBeverage> optionalBeverage =
+            items.findBeverage(entry.getKey(), capacityQuantity.getKey());
+
+        if (optionalBeverage.isEmpty()) continue;
+
+        CatalogBeverage beverage = optionalBeverage.get();
+        long finalPrice = beverage.getUnroundedPriceWithDiscountIncluded(quantity);
+
+        order
+            .getOrderBeverages()
+            .add(
+                OrderBeverage.builder()
+                    .order(order)
+                    .beverageName(beverage.name())
+                    .finalPrice(PriceUtil.toAmount(PriceUtil.roundToGrosze(finalPrice)))
+                    .capacity(beverage.capacity())
+                    .quantity(quantity)
+                    .build());
+        totalPrice += finalPrice;
+      }
+    }
+
+    return totalPrice;
+  }
+
+  private long addAddons(MenuCatalog items, Order order, Map<String, Integer> addonQuantities) {
+
+    long totalPrice = 0;
+
+    for (Map.Entry<String, Integer> entry : addonQuantities.entrySet()) {
+      Integer quantity = entry.getValue();
+
+      if (quantity == null || quantity <= 0) continue;
+
+      Optional<CatalogAddon> optionalAddon = items.findAddon(entry.getKey());
+
+      if (optionalAddon.isEmpty()) continue;
+
+      CatalogAddon addon = optionalAddon.get();
+      long finalPrice = addon.getUnroundedPriceWithDiscountIncluded(quantity);
+
+      order
+          .getOrderAddons()
+          .add(
+              OrderAddon.builder()
+                  .order(order)
+                  .addonName(addon.name())
+                  .finalPrice(PriceUtil.toAmount(PriceUtil.roundToGrosze(finalPrice)))
+                  .quantity(quantity)
+                  .build());
+      totalPrice += finalPrice;
+    }
+
+    return totalPrice;
   }
 
+  @Transactional
   public RemovedOrderResponse removeOrder(Order order) {
     log.info("Started removing order with id '{}'", order.getId());
 
+    salesReportService.revertOrder(order);
     ordersRepository.delete(order);
-    messagingTemplate.convertAndSend("/topic/orders/removed", order.getId());
+    trackOrderCache.evict(order.getId());
+    orderOutboxService.enqueuePush(order.getId(), "/topic/orders/removed", order.getId());
 
     RemovedOrderResponse response =
         RemovedOrderResponse.builder()
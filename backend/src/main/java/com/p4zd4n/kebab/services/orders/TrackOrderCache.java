@@ -0,0 +1,45 @@
+package com.p4zd4n.kebab.services.orders;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class TrackOrderCache {
+
+  private final Cache<Long, TrackedOrderSnapshot> snapshots;
+
+  public TrackOrderCache(
+      @Value("${orders.tracking.cache.max-size:10000}") long maxSize,
+      @Value("${orders.tracking.cache.ttl-seconds:30}") long ttlSeconds) {
+    this.snapshots =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+  }
+
+  public TrackedOrderSnapshot get(Long orderId, Function<Long, TrackedOrderSnapshot> loader) {
+    return snapshots.get(orderId, loader);
+  }
+
+  public void evict(Long orderId) {
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              snapshots.invalidate(orderId);
+            }
+          });
+    }
+
+    snapshots.invalidate(orderId);
+  }
+}
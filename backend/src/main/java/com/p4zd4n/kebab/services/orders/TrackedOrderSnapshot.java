@@ -0,0 +1,7 @@
+package com.p4zd4n.kebab.services.orders;
+
+import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import java.time.LocalDateTime;
+
+public record TrackedOrderSnapshot(
+    String customerPhone, LocalDateTime updatedAt, OrderResponse response) {}
@@ -0,0 +1,11 @@
+package com.p4zd4n.kebab.services.outbox;
+
+import lombok.Builder;
+
+@Builder
+public record OrderMailPayload(
+    String customerEmail,
+    String customerPhone,
+    Long orderCount,
+    Long orderId,
+    String discountCode) {}
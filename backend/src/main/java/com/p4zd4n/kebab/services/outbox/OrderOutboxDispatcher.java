@@ -0,0 +1,256 @@
+package com.p4zd4n.kebab.services.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.entities.DiscountCode;
+import com.p4zd4n.kebab.entities.OrderOutboxMessage;
+import com.p4zd4n.kebab.enums.OrderOutboxMessageStatus;
+import com.p4zd4n.kebab.enums.OrderOutboxMessageType;
+import com.p4zd4n.kebab.exceptions.notfound.DiscountCodeNotFoundException;
+import com.p4zd4n.kebab.repositories.DiscountCodesRepository;
+import com.p4zd4n.kebab.repositories.OrderOutboxRepository;
+import com.p4zd4n.kebab.services.websocket.OrderUpdatePublisher;
+import com.p4zd4n.kebab.utils.mails.HighValueOrderRewardMailUtil;
+import com.p4zd4n.kebab.utils.mails.TenOrdersRewardMailUtil;
+import com.p4zd4n.kebab.utils.mails.ThanksForOrderMailUtil;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@Slf4j
+public class OrderOutboxDispatcher {
+
+  private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(5);
+  private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(10);
+  private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+  private static final Duration PUSH_TIMEOUT = Duration.ofSeconds(5);
+  private static final int PURGE_BATCH_SIZE = 1000;
+
+  private final OrderOutboxRepository orderOutboxRepository;
+  private final DiscountCodesRepository discountCodesRepository;
+  private final ThanksForOrderMailUtil thanksForOrderMailUtil;
+  private final TenOrdersRewardMailUtil tenOrdersRewardMailUtil;
+  private final HighValueOrderRewardMailUtil highValueOrderRewardMailUtil;
+  private final OrderUpdatePublisher orderUpdatePublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final long retentionHours;
+
+  public OrderOutboxDispatcher(
+      OrderOutboxRepository orderOutboxRepository,
+      DiscountCodesRepository discountCodesRepository,
+      ThanksForOrderMailUtil thanksForOrderMailUtil,
+      TenOrdersRewardMailUtil tenOrdersRewardMailUtil,
+      HighValueOrderRewardMailUtil highValueOrderRewardMailUtil,
+      OrderUpdatePublisher orderUpdatePublisher,
+      TransactionTemplate transactionTemplate,
+      ObjectMapper objectMapper,
+      @Value("${outbox.dispatcher.batch-size:50}") int batchSize,
+      @Value("${outbox.dispatcher.max-attempts:8}") int maxAttempts,
+      @Value("${outbox.retention-hours:24}") long retentionHours) {
+    this.orderOutboxRepository = orderOutboxRepository;
+    this.discountCodesRepository = discountCodesRepository;
+    this.thanksForOrderMailUtil = thanksForOrderMailUtil;
+    this.tenOrdersRewardMailUtil = tenOrdersRewardMailUtil;
+    this.highValueOrderRewardMailUtil = highValueOrderRewardMailUtil;
+    this.orderUpdatePublisher = orderUpdatePublisher;
+    this.transactionTemplate = transactionTemplate;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.retentionHours = retentionHours;
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.dispatcher.fixed-delay-ms:500}")
+  public void dispatch() {
+
+    List<OrderOutboxMessage> claimed;
+
+    do {
+      claimed = transactionTemplate.execute(status -> claimBatch());
+      if (claimed == null || claimed.isEmpty()) return;
+
+      deliver(claimed);
+    } while (claimed.size() == batchSize);
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.purge.fixed-delay-ms:3600000}")
+  public void purge() {
+
+    LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+    Integer deleted;
+    int total = 0;
+
+    do {
+      deleted =
+          transactionTemplate.execute(
+              status -> orderOutboxRepository.deleteSentBefore(cutoff, PURGE_BATCH_SIZE));
+      total += deleted != null ? deleted : 0;
+    } while (deleted != null && deleted == PURGE_BATCH_SIZE);
+
+    if (total > 0) log.info("Purged {} sent outbox messages older than {}", total, cutoff);
+  }
+
+  List<OrderOutboxMessage> claimBatch() {
+
+    LocalDateTime now = LocalDateTime.now();
+    List<OrderOutboxMessage> messages = orderOutboxRepository.lockDispatchable(now, batchSize);
+
+    messages.forEach(message -> message.setNextAttemptAt(now.plus(CLAIM_LEASE)));
+
+    return messages;
+  }
+
+  private void deliver(List<OrderOutboxMessage> messages) {
+
+    Map<Long, CompletableFuture<Void>> pushes = new LinkedHashMap<>();
+    Map<Long, Exception> failures = new HashMap<>();
+
+    for (OrderOutboxMessage message : messages) {
+      try {
+        if (message.getType() == OrderOutboxMessageType.WEBSOCKET_PUSH) {
+          pushes.put(message.getId(), push(message));
+        } else {
+          sendMail(message);
+        }
+      } catch (Exception e) {
+        failures.put(message.getId(), e);
+      }
+    }
+
+    pushes.forEach(
+        (id, receipt) -> {
+          try {
+            receipt.get(PUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+          } catch (ExecutionException e) {
+            failures.put(id, e.getCause() instanceof Exception cause ? cause : e);
+          } catch (Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            failures.put(id, e);
+          }
+        });
+
+    transactionTemplate.execute(status -> record(messages, failures));
+  }
+
+  int record(List<OrderOutboxMessage> messages, Map<Long, Exception> failures) {
+
+    LocalDateTime now = LocalDateTime.now();
+    List<OrderOutboxMessage> current =
+        orderOutboxRepository.findAllById(
+            messages.stream().map(OrderOutboxMessage::getId).toList());
+
+    for (OrderOutboxMessage message : current) {
+      Exception failure = failures.get(message.getId());
+
+      if (failure != null) {
+        handleFailure(message, failure, now);
+      } else {
+        message.setStatus(OrderOutboxMessageStatus.SENT);
+        message.setNextAttemptAt(now);
+        message.setLastError(null);
+      }
+    }
+
+    return current.size();
+  }
+
+  private CompletableFuture<Void> push(OrderOutboxMessage message) throws Exception {
+    return orderUpdatePublisher.publish(
+        message.getDestination(),
+        message.getOrderId(),
+        objectMapper.readTree(message.getPayload()));
+  }
+
+  private void sendMail(OrderOutboxMessage message) throws Exception {
+
+    boolean polish = "pl".equals(message.getLanguage());
+
+    switch (message.getType()) {
+      case THANKS_FOR_ORDER_MAIL -> {
+        OrderMailPayload payload = readMailPayload(message);
+
+        if (polish)
+          thanksForOrderMailUtil.sendPl(
+              payload.customerEmail(),
+              payload.customerPhone(),
+              payload.orderCount(),
+              payload.orderId());
+        else
+          thanksForOrderMailUtil.sendEng(
+              payload.customerEmail(),
+              payload.customerPhone(),
+              payload.orderCount(),
+              payload.orderId());
+      }
+      case TEN_ORDERS_REWARD_MAIL -> {
+        OrderMailPayload payload = readMailPayload(message);
+        DiscountCode discountCode = findDiscountCode(payload.discountCode());
+
+        if (polish) tenOrdersRewardMailUtil.sendPl(payload.customerEmail(), discountCode);
+        else tenOrdersRewardMailUtil.sendEng(payload.customerEmail(), discountCode);
+      }
+      case HIGH_VALUE_ORDER_REWARD_MAIL -> {
+        OrderMailPayload payload = readMailPayload(message);
+        DiscountCode discountCode = findDiscountCode(payload.discountCode());
+
+        if (polish) highValueOrderRewardMailUtil.sendPl(payload.customerEmail(), discountCode);
+        else highValueOrderRewardMailUtil.sendEng(payload.customerEmail(), discountCode);
+      }
+    }
+  }
+
+  private OrderMailPayload readMailPayload(OrderOutboxMessage message) throws Exception {
+    return objectMapper.readValue(message.getPayload(), OrderMailPayload.class);
+  }
+
+  private DiscountCode findDiscountCode(String code) {
+    return discountCodesRepository
+        .findByCode(code)
+        .orElseThrow(() -> new DiscountCodeNotFoundException(code));
+  }
+
+  private void handleFailure(OrderOutboxMessage message, Exception e, LocalDateTime now) {
+
+    int attempts = message.getAttempts() + 1;
+    String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+
+    message.setAttempts(attempts);
+    message.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+
+    if (attempts >= maxAttempts) {
+      message.setStatus(OrderOutboxMessageStatus.FAILED);
+
+      log.error(
+          "Giving up on outbox message with id '{}' after {} attempts",
+          message.getId(),
+          attempts,
+          e);
+      return;
+    }
+
+    Duration delay = BASE_RETRY_DELAY.multipliedBy(1L << Math.min(attempts - 1, 16));
+    if (delay.compareTo(MAX_RETRY_DELAY) > 0) delay = MAX_RETRY_DELAY;
+
+    message.setNextAttemptAt(now.plus(delay));
+
+    log.warn(
+        "Failed to dispatch outbox message with id '{}' (attempt {}): {}",
+        message.getId(),
+        attempts,
+        error);
+  }
+}
@@ -0,0 +1,60 @@
+package com.p4zd4n.kebab.services.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.entities.OrderOutboxMessage;
+import com.p4zd4n.kebab.enums.OrderOutboxMessageType;
+import com.p4zd4n.kebab.repositories.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class OrderOutboxService {
+
+  private final OrderOutboxRepository orderOutboxRepository;
+  private final ObjectMapper objectMapper;
+
+  public OrderOutboxService(
+      OrderOutboxRepository orderOutboxRepository, ObjectMapper objectMapper) {
+    this.orderOutboxRepository = orderOutboxRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  public void enqueueMail(
+      OrderOutboxMessageType type, String language, OrderMailPayload payload) {
+
+    OrderOutboxMessage message =
+        OrderOutboxMessage.builder()
+            .type(type)
+            .orderId(payload.orderId())
+            .language(language)
+            .payload(toJson(payload))
+            .build();
+
+    orderOutboxRepository.save(message);
+
+    log.info("Enqueued {} for order with id '{}'", type, payload.orderId());
+  }
+
+  public void enqueuePush(Long orderId, String destination, Object payload) {
+
+    OrderOutboxMessage message =
+        OrderOutboxMessage.builder()
+            .type(OrderOutboxMessageType.WEBSOCKET_PUSH)
+            .orderId(orderId)
+            .destination(destination)
+            .payload(toJson(payload))
+            .build();
+
+    orderOutboxRepository.save(message);
+  }
+
+  private String toJson(Object payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize outbox payload", e);
+    }
+  }
+}
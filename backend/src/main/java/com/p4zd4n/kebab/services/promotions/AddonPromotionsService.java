@@ -1,6 +1,7 @@
 package com.p4zd4n.kebab.services.promotions;
 
 import com.p4zd4n.kebab.entities.*;
+import com.p4zd4n.kebab.enums.MenuSection;
 import com.p4zd4n.kebab.exceptions.notfound.AddonPromotionNotFoundException;
 import com.p4zd4n.kebab.repositories.AddonPromotionsRepository;
 import com.p4zd4n.kebab.repositories.AddonRepository;
@@ -10,6 +11,7 @@ import com.p4zd4n.kebab.responses.promotions.addonpromotions.AddonPromotionRespo
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.NewAddonPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.RemovedAddonPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.UpdatedAddonPromotionResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import com.p4zd4n.kebab.utils.mails.PromotionMailUtil;
 import jakarta.mail.MessagingException;
 import java.util.ArrayList;
@@ -27,14 +29,17 @@ public class AddonPromotionsService {
   private final AddonRepository addonRepository;
   private final AddonPromotionsRepository addonPromotionsRepository;
   private final PromotionMailUtil promotionMailUtil;
+  private final MenuCatalogService menuCatalogService;
 
   public AddonPromotionsService(
       AddonRepository addonRepository,
       AddonPromotionsRepository addonPromotionsRepository,
-      PromotionMailUtil promotionMailUtil) {
+      PromotionMailUtil promotionMailUtil,
+      MenuCatalogService menuCatalogService) {
     this.addonRepository = addonRepository;
     this.addonPromotionsRepository = addonPromotionsRepository;
     this.promotionMailUtil = promotionMailUtil;
+    this.menuCatalogService = menuCatalogService;
   }
 
   public List<AddonPromotionResponse> getAddonPromotions() {
@@ -93,6 +98,7 @@ public class AddonPromotionsService {
                 addonRepository.save(addon);
               });
 
+    menuCatalogService.refresh(MenuSection.ADDON_PROMOTIONS);
     savedAddonPromotion.notifyObservers();
 
     return NewAddonPromotionResponse.builder()
@@ -156,6 +162,7 @@ public class AddonPromotionsService {
     }
 
     addonPromotionsRepository.save(addonPromotion);
+    menuCatalogService.refresh(MenuSection.ADDON_PROMOTIONS);
 
     return response;
   }
@@ -173,6 +180,7 @@ public class AddonPromotionsService {
             });
 
     addonPromotionsRepository.delete(addonPromotion);
+    menuCatalogService.refresh(MenuSection.ADDON_PROMOTIONS);
 
     RemovedAddonPromotionResponse response =
         RemovedAddonPromotionResponse.builder()
@@ -2,6 +2,7 @@ package com.p4zd4n.kebab.services.promotions;
 
 import com.p4zd4n.kebab.entities.Beverage;
 import com.p4zd4n.kebab.entities.BeveragePromotion;
+import com.p4zd4n.kebab.enums.MenuSection;
 import com.p4zd4n.kebab.exceptions.notfound.BeveragePromotionNotFoundException;
 import com.p4zd4n.kebab.repositories.BeveragePromotionsRepository;
 import com.p4zd4n.kebab.repositories.BeverageRepository;
@@ -11,6 +12,7 @@ import com.p4zd4n.kebab.responses.promotions.beveragepromotions.BeveragePromotio
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.NewBeveragePromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.RemovedBeveragePromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.UpdatedBeveragePromotionResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import com.p4zd4n.kebab.utils.mails.PromotionMailUtil;
 import jakarta.mail.MessagingException;
 import java.math.BigDecimal;
@@ -29,14 +31,17 @@ public class BeveragePromotionsService {
   private final BeveragePromotionsRepository beveragePromotionsRepository;
   private final BeverageRepository beverageRepository;
   private final PromotionMailUtil promotionMailUtil;
+  private final MenuCatalogService menuCatalogService;
 
   public BeveragePromotionsService(
       BeveragePromotionsRepository beveragePromotionsRepository,
       BeverageRepository beverageRepository,
-      PromotionMailUtil promotionMailUtil) {
+      PromotionMailUtil promotionMailUtil,
+      MenuCatalogService menuCatalogService) {
     this.beveragePromotionsRepository = beveragePromotionsRepository;
     this.beverageRepository = beverageRepository;
     this.promotionMailUtil = promotionMailUtil;
+    this.menuCatalogService = menuCatalogService;
   }
 
   public List<BeveragePromotionResponse> getBeveragePromotions() {
@@ -104,6 +109,7 @@ public class BeveragePromotionsService {
                 beverageRepository.save(beverage);
               });
 
+    menuCatalogService.refresh(MenuSection.BEVERAGE_PROMOTIONS);
     savedBeveragePromotion.notifyObservers();
 
     return NewBeveragePromotionResponse.builder()
@@ -177,6 +183,7 @@ public class BeveragePromotionsService {
       beveragePromotion.setDiscountPercentage(request.updatedDiscountPercentage());
 
     beveragePromotionsRepository.save(beveragePromotion);
+    menuCatalogService.refresh(MenuSection.BEVERAGE_PROMOTIONS);
 
     return response;
   }
@@ -195,6 +202,7 @@ public class BeveragePromotionsService {
             });
 
     beveragePromotionsRepository.delete(beveragePromotion);
+    menuCatalogService.refresh(MenuSection.BEVERAGE_PROMOTIONS);
 
     RemovedBeveragePromotionResponse response =
         RemovedBeveragePromotionResponse.builder()
@@ -2,6 +2,7 @@ package com.p4zd4n.kebab.services.promotions;
 
 import com.p4zd4n.kebab.entities.Meal;
 import com.p4zd4n.kebab.entities.MealPromotion;
+import com.p4zd4n.kebab.enums.MenuSection;
 import com.p4zd4n.kebab.exceptions.alreadyexists.MealPromotionAlreadyExists;
 import com.p4zd4n.kebab.exceptions.notfound.MealPromotionNotFoundException;
 import com.p4zd4n.kebab.repositories.MealPromotionsRepository;
@@ -12,6 +13,7 @@ import com.p4zd4n.kebab.responses.promotions.mealpromotions.MealPromotionRespons
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.NewMealPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.RemovedMealPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.UpdatedMealPromotionResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import com.p4zd4n.kebab.utils.mails.PromotionMailUtil;
 import jakarta.mail.MessagingException;
 import lombok.extern.slf4j.Slf4j;
@@ -29,14 +31,17 @@ public class MealPromotionsService {
   private final MealRepository mealRepository;
   private final MealPromotionsRepository mealPromotionsRepository;
   private final PromotionMailUtil promotionMailUtil;
+  private final MenuCatalogService menuCatalogService;
 
   public MealPromotionsService(
       MealRepository mealRepository,
       MealPromotionsRepository mealPromotionsRepository,
-      PromotionMailUtil promotionMailUtil) {
+      PromotionMailUtil promotionMailUtil,
+      MenuCatalogService menuCatalogService) {
     this.mealRepository = mealRepository;
     this.mealPromotionsRepository = mealPromotionsRepository;
     this.promotionMailUtil = promotionMailUtil;
+    this.menuCatalogService = menuCatalogService;
   }
 
   public List<MealPromotionResponse> getMealPromotions() {
@@ -70,7 +75,7 @@ public class MealPromotionsService {
       throws MessagingException {
 
     if (request.mealNames() != null && request.sizes() != null) {
-      mealRepository.findAll().stream()
+      mealRepository.findAllWithPromotions().stream()
           .filter(meal -> request.mealNames().contains(meal.getName()))
           .forEach(
               meal -> {
@@ -94,7 +99,7 @@ public class MealPromotionsService {
 
     if (request.mealNames() != null) {
       List<Meal> meals =
-          mealRepository.findAll().stream()
+          mealRepository.findAllWithPromotions().stream()
               .filter(meal -> request.mealNames().contains(meal.getName()))
               .toList();
       mealPromotion.getMeals().addAll(meals);
@@ -104,7 +109,7 @@ public class MealPromotionsService {
     savedMealPromotion.registerObserver(promotionMailUtil);
 
     if (request.mealNames() != null)
-      mealRepository.findAll().stream()
+      mealRepository.findAllWithPromotions().stream()
           .filter(meal -> request.mealNames().contains(meal.getName()))
           .forEach(
               meal -> {
@@ -112,6 +117,7 @@ public class MealPromotionsService {
                 mealRepository.save(meal);
               });
 
+    menuCatalogService.refresh(MenuSection.MEAL_PROMOTIONS);
     savedMealPromotion.notifyObservers();
 
     return NewMealPromotionResponse.builder()
@@ -139,7 +145,7 @@ public class MealPromotionsService {
       MealPromotion mealPromotion, UpdatedMealPromotionRequest request) {
 
     if (request.updatedMealNames() != null && request.updatedSizes() != null) {
-      mealRepository.findAll().stream()
+      mealRepository.findAllWithPromotions().stream()
           .filter(meal -> request.updatedMealNames().contains(meal.getName()))
           .forEach(
               meal -> {
@@ -171,7 +177,7 @@ public class MealPromotionsService {
 
     if (request.updatedMealNames() != null) {
       List<Meal> updatedMeals =
-          mealRepository.findAll().stream()
+          mealRepository.findAllWithPromotions().stream()
               .filter(meal -> request.updatedMealNames().contains(meal.getName()))
               .toList();
       List<Meal> existingMeals = new ArrayList<>(mealPromotion.getMeals());
@@ -193,6 +199,7 @@ public class MealPromotionsService {
     }
 
     mealPromotionsRepository.save(mealPromotion);
+    menuCatalogService.refresh(MenuSection.MEAL_PROMOTIONS);
 
     return response;
   }
@@ -210,6 +217,7 @@ public class MealPromotionsService {
             });
 
     mealPromotionsRepository.delete(mealPromotion);
+    menuCatalogService.refresh(MenuSection.MEAL_PROMOTIONS);
 
     RemovedMealPromotionResponse response =
         RemovedMealPromotionResponse.builder()
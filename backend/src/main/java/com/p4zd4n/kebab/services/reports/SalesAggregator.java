@@ -0,0 +1,49 @@
+package com.p4zd4n.kebab.services.reports;
+
+import com.p4zd4n.kebab.repositories.DailyItemSalesRepository;
+import com.p4zd4n.kebab.repositories.HourlySalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Slf4j
+public class SalesAggregator {
+
+  private final HourlySalesRepository hourlySalesRepository;
+  private final DailyItemSalesRepository dailyItemSalesRepository;
+
+  public SalesAggregator(
+      HourlySalesRepository hourlySalesRepository,
+      DailyItemSalesRepository dailyItemSalesRepository) {
+    this.hourlySalesRepository = hourlySalesRepository;
+    this.dailyItemSalesRepository = dailyItemSalesRepository;
+  }
+
+  @Transactional
+  public void apply(SalesDelta delta) {
+
+    delta
+        .hourly()
+        .forEach(
+            (key, totals) ->
+                hourlySalesRepository.upsert(
+                    key.bucketStart(), key.orderType().name(), totals.count(), totals.revenue()));
+    delta
+        .items()
+        .forEach(
+            (key, totals) ->
+                dailyItemSalesRepository.upsert(
+                    key.salesDate(),
+                    key.type().name(),
+                    key.name(),
+                    key.variant(),
+                    totals.count(),
+                    totals.revenue()));
+
+    log.info(
+        "Applied sales aggregates for {} hourly and {} item buckets",
+        delta.hourly().size(),
+        delta.items().size());
+  }
+}
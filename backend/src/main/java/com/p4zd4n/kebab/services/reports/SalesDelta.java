@@ -0,0 +1,142 @@
+package com.p4zd4n.kebab.services.reports;
+
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.enums.SalesItemType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class SalesDelta {
+
+  private final Map<HourlyKey, Totals> hourly = new TreeMap<>();
+  private final Map<ItemKey, Totals> items = new TreeMap<>();
+
+  static SalesDelta of(Order order, int sign) {
+
+    SalesDelta delta = new SalesDelta();
+
+    LocalDateTime createdAt =
+        order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+    LocalDate salesDate = createdAt.toLocalDate();
+    BigDecimal multiplier = BigDecimal.valueOf(sign);
+
+    delta.addHourly(
+        new HourlyKey(createdAt.truncatedTo(ChronoUnit.HOURS), order.getOrderType()),
+        sign,
+        order.getTotalPrice().multiply(multiplier));
+
+    order
+        .getOrderMeals()
+        .forEach(
+            meal ->
+                delta.addItem(
+                    new ItemKey(
+                        salesDate, SalesItemType.MEAL, meal.getMealName(), meal.getSize().name()),
+                    (long) sign * meal.getQuantity(),
+                    meal.getFinalPrice().multiply(multiplier)));
+    order
+        .getOrderBeverages()
+        .forEach(
+            beverage ->
+                delta.addItem(
+                    new ItemKey(
+                        salesDate,
+                        SalesItemType.BEVERAGE,
+                        beverage.getBeverageName(),
+                        beverage.getCapacity().stripTrailingZeros().toPlainString()),
+                    (long) sign * beverage.getQuantity(),
+                    beverage.getFinalPrice().multiply(multiplier)));
+    order
+        .getOrderAddons()
+        .forEach(
+            addon ->
+                delta.addItem(
+                    new ItemKey(salesDate, SalesItemType.ADDON, addon.getAddonName(), ""),
+                    (long) sign * addon.getQuantity(),
+                    addon.getFinalPrice().multiply(multiplier)));
+
+    return delta;
+  }
+
+  void merge(SalesDelta other) {
+    other.hourly.forEach((key, totals) -> addHourly(key, totals.count, totals.revenue));
+    other.items.forEach((key, totals) -> addItem(key, totals.count, totals.revenue));
+  }
+
+  boolean isEmpty() {
+    return hourly.isEmpty() && items.isEmpty();
+  }
+
+  Map<HourlyKey, Totals> hourly() {
+    return Collections.unmodifiableMap(hourly);
+  }
+
+  Map<ItemKey, Totals> items() {
+    return Collections.unmodifiableMap(items);
+  }
+
+  private void addHourly(HourlyKey key, long count, BigDecimal revenue) {
+    add(hourly, key, count, revenue);
+  }
+
+  private void addItem(ItemKey key, long count, BigDecimal revenue) {
+    add(items, key, count, revenue);
+  }
+
+  private static <K> void add(Map<K, Totals> totals, K key, long count, BigDecimal revenue) {
+
+    Totals merged = totals.getOrDefault(key, Totals.ZERO).plus(count, revenue);
+
+    if (merged.isZero()) {
+      totals.remove(key);
+    } else {
+      totals.put(key, merged);
+    }
+  }
+
+  record HourlyKey(LocalDateTime bucketStart, OrderType orderType)
+      implements Comparable<HourlyKey> {
+
+    private static final Comparator<HourlyKey> ORDER =
+        Comparator.comparing(HourlyKey::bucketStart).thenComparing(HourlyKey::orderType);
+
+    @Override
+    public int compareTo(HourlyKey other) {
+      return ORDER.compare(this, other);
+    }
+  }
+
+  record ItemKey(LocalDate salesDate, SalesItemType type, String name, String variant)
+      implements Comparable<ItemKey> {
+
+    private static final Comparator<ItemKey> ORDER =
+        Comparator.comparing(ItemKey::salesDate)
+            .thenComparing(ItemKey::type)
+            .thenComparing(ItemKey::name)
+            .thenComparing(ItemKey::variant);
+
+    @Override
+    public int compareTo(ItemKey other) {
+      return ORDER.compare(this, other);
+    }
+  }
+
+  record Totals(long count, BigDecimal revenue) {
+
+    private static final Totals ZERO = new Totals(0, BigDecimal.ZERO);
+
+    private Totals plus(long count, BigDecimal revenue) {
+      return new Totals(this.count + count, this.revenue.add(revenue));
+    }
+
+    private boolean isZero() {
+      return count == 0 && revenue.signum() == 0;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.p4zd4n.kebab.services.reports;
+
+import com.p4zd4n.kebab.entities.DailyItemSales;
+import com.p4zd4n.kebab.entities.HourlySales;
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.enums.SalesItemType;
+import com.p4zd4n.kebab.exceptions.invalid.InvalidDateOrderException;
+import com.p4zd4n.kebab.repositories.DailyItemSalesRepository;
+import com.p4zd4n.kebab.repositories.HourlySalesRepository;
+import com.p4zd4n.kebab.responses.reports.DailyRevenueResponse;
+import com.p4zd4n.kebab.responses.reports.HourlyRevenueResponse;
+import com.p4zd4n.kebab.responses.reports.ItemSalesResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@Slf4j
+public class SalesReportService {
+
+  private static final Set<OrderStatus> UNCOUNTED_STATUSES =
+      Set.of(OrderStatus.CANCELED, OrderStatus.RETURNED);
+
+  private final HourlySalesRepository hourlySalesRepository;
+  private final DailyItemSalesRepository dailyItemSalesRepository;
+  private final SalesAggregator salesAggregator;
+
+  public SalesReportService(
+      HourlySalesRepository hourlySalesRepository,
+      DailyItemSalesRepository dailyItemSalesRepository,
+      SalesAggregator salesAggregator) {
+    this.hourlySalesRepository = hourlySalesRepository;
+    this.dailyItemSalesRepository = dailyItemSalesRepository;
+    this.salesAggregator = salesAggregator;
+  }
+
+  public void recordOrder(Order order) {
+    if (isCounted(order.getOrderStatus())) stage(order, 1);
+  }
+
+  public void revertOrder(Order order) {
+    if (isCounted(order.getOrderStatus())) stage(order, -1);
+  }
+
+  public void recordStatusChange(Order order, OrderStatus previousStatus) {
+    if (affectsSales(previousStatus, order.getOrderStatus())) {
+      stage(order, isCounted(order.getOrderStatus()) ? 1 : -1);
+    }
+  }
+
+  public boolean affectsSales(OrderStatus previousStatus, OrderStatus currentStatus) {
+    return isCounted(previousStatus) != isCounted(currentStatus);
+  }
+
+  private boolean isCounted(OrderStatus status) {
+    return status != null && !UNCOUNTED_STATUSES.contains(status);
+  }
+
+  private void stage(Order order, int sign) {
+
+    SalesDelta delta = SalesDelta.of(order, sign);
+
+    log.info(
+        "{} sales aggregates for order with id '{}'",
+        sign > 0 ? "Recorded" : "Reverted",
+        order.getId());
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      salesAggregator.apply(delta);
+      return;
+    }
+
+    SalesDelta pending = (SalesDelta) TransactionSynchronizationManager.getResource(this);
+
+    if (pending != null) {
+      pending.merge(delta);
+      return;
+    }
+
+    TransactionSynchronizationManager.bindResource(this, delta);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void beforeCommit(boolean readOnly) {
+            if (!delta.isEmpty()) salesAggregator.apply(delta);
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SalesReportService.this);
+          }
+        });
+  }
+
+  @Transactional(readOnly = true)
+  public List<HourlyRevenueResponse> getHourlyRevenue(LocalDate from, LocalDate to) {
+
+    return findHourlySales(from, to).stream()
+        .map(
+            sales ->
+                HourlyRevenueResponse.builder()
+                    .bucketStart(sales.getBucketStart())
+                    .orderType(sales.getOrderType())
+                    .orderCount(sales.getOrderCount())
+                    .revenue(sales.getRevenue())
+                    .build())
+        .toList();
+  }
+
+  @Transactional(readOnly = true)
+  public List<DailyRevenueResponse> getDailyRevenue(LocalDate from, LocalDate to) {
+
+    Map<LocalDate, Map<OrderType, DailyTotals>> days = new TreeMap<>();
+
+    findHourlySales(from, to)
+        .forEach(
+            sales ->
+                days.computeIfAbsent(sales.getBucketStart().toLocalDate(), day -> new TreeMap<>())
+                    .computeIfAbsent(sales.getOrderType(), type -> new DailyTotals())
+                    .add(sales.getOrderCount(), sales.getRevenue()));
+
+    List<DailyRevenueResponse> response = new ArrayList<>();
+
+    days.forEach(
+        (date, types) ->
+            types.forEach(
+                (type, totals) ->
+                    response.add(
+                        DailyRevenueResponse.builder()
+                            .date(date)
+                            .orderType(type)
+                            .orderCount(totals.orderCount)
+                            .revenue(totals.revenue)
+                            .build())));
+
+    return response;
+  }
+
+  @Transactional(readOnly = true)
+  public List<ItemSalesResponse> getItemSales(
+      LocalDate from, LocalDate to, SalesItemType itemType) {
+
+    validateRange(from, to);
+
+    List<DailyItemSales> sales =
+        itemType == null
+            ? dailyItemSalesRepository.findAllBySalesDateBetweenOrderBySalesDateAscQuantityDesc(
+                from, to)
+            : dailyItemSalesRepository
+                .findAllByItemTypeAndSalesDateBetweenOrderBySalesDateAscQuantityDesc(
+                    itemType, from, to);
+
+    return sales.stream()
+        .filter(item -> item.getQuantity() > 0)
+        .map(
+            item ->
+                ItemSalesResponse.builder()
+                    .date(item.getSalesDate())
+                    .itemType(item.getItemType())
+                    .itemName(item.getItemName())
+                    .variant(item.getVariant())
+                    .quantity(item.getQuantity())
+                    .revenue(item.getRevenue())
+                    .build())
+        .toList();
+  }
+
+  private List<HourlySales> findHourlySales(LocalDate from, LocalDate to) {
+
+    validateRange(from, to);
+
+    return hourlySalesRepository
+        .findAllByBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+            from.atStartOfDay(), to.plusDays(1).atStartOfDay())
+        .stream()
+        .filter(sales -> sales.getOrderCount() > 0)
+        .toList();
+  }
+
+  private void validateRange(LocalDate from, LocalDate to) {
+    if (from.isAfter(to)) throw new InvalidDateOrderException();
+  }
+
+  private static final class DailyTotals {
+
+    private long orderCount;
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    private void add(Long orderCount, BigDecimal revenue) {
+      this.orderCount += orderCount;
+      this.revenue = this.revenue.add(revenue);
+    }
+  }
+}
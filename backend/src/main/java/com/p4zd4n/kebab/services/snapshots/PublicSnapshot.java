@@ -0,0 +1,30 @@
+package com.p4zd4n.kebab.services.snapshots;
+
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum PublicSnapshot {
+  MEALS,
+  BEVERAGES,
+  ADDONS,
+  INGREDIENTS,
+  MEAL_PROMOTIONS,
+  BEVERAGE_PROMOTIONS,
+  ADDON_PROMOTIONS,
+  OPENING_HOURS,
+  CONTACTS,
+  JOB_OFFERS;
+
+  public static Set<PublicSnapshot> affectedBy(MenuChangedEvent change) {
+
+    Set<PublicSnapshot> affected = EnumSet.noneOf(PublicSnapshot.class);
+
+    if (change.affectsMeals()) affected.addAll(EnumSet.of(MEALS, MEAL_PROMOTIONS));
+    if (change.affectsBeverages()) affected.addAll(EnumSet.of(BEVERAGES, BEVERAGE_PROMOTIONS));
+    if (change.affectsAddons()) affected.addAll(EnumSet.of(ADDONS, ADDON_PROMOTIONS));
+    if (change.affectsIngredients()) affected.add(INGREDIENTS);
+
+    return affected;
+  }
+}
@@ -0,0 +1,53 @@
+package com.p4zd4n.kebab.services.snapshots;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+public record ResponseSnapshot(byte[] json, byte[] gzip, String etag) {
+
+  public static ResponseSnapshot of(byte[] json) {
+    return new ResponseSnapshot(json, gzip(json), etag(json));
+  }
+
+  public boolean matches(String ifNoneMatch) {
+
+    if (ifNoneMatch == null) return false;
+
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+
+      if (tag.equals("*")) return true;
+      if (tag.startsWith("W/")) tag = tag.substring(2);
+      if (tag.equals(etag)) return true;
+    }
+
+    return false;
+  }
+
+  private static byte[] gzip(byte[] json) {
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 32);
+
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(json);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not compress response snapshot", e);
+    }
+
+    return compressed.toByteArray();
+  }
+
+  private static String etag(byte[] json) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+
+      return "\"" + HexFormat.of().formatHex(digest) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Could not hash response snapshot", e);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.p4zd4n.kebab.services.snapshots;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import com.p4zd4n.kebab.services.menu.catalog.MenuRebuildFailedEvent;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Slf4j
+public class ResponseSnapshotStore {
+
+  private static final String GZIP = "gzip";
+
+  private final ObjectMapper objectMapper;
+  private final Cache<PublicSnapshot, ResponseSnapshot> snapshots =
+      Caffeine.newBuilder().maximumSize(PublicSnapshot.values().length).build();
+
+  public ResponseSnapshotStore(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public ResponseEntity<byte[]> respond(
+      PublicSnapshot key, Supplier<?> loader, String ifNoneMatch, String acceptEncoding) {
+
+    ResponseSnapshot snapshot = get(key, loader);
+
+    if (snapshot.matches(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(snapshot.etag())
+          .cacheControl(CacheControl.noCache())
+          .varyBy(HttpHeaders.ACCEPT_ENCODING)
+          .build();
+    }
+
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .eTag(snapshot.etag())
+            .cacheControl(CacheControl.noCache())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.APPLICATION_JSON);
+
+    if (acceptsGzip(acceptEncoding)) {
+      return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(snapshot.gzip());
+    }
+
+    return response.body(snapshot.json());
+  }
+
+  public ResponseSnapshot get(PublicSnapshot key, Supplier<?> loader) {
+    return snapshots.get(key, missing -> build(missing, loader.get()));
+  }
+
+  public void invalidate(PublicSnapshot key) {
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              snapshots.invalidate(key);
+            }
+          });
+    }
+
+    snapshots.invalidate(key);
+  }
+
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+  public void onMenuRebuildFailed(MenuRebuildFailedEvent failure) {
+    onMenuChanged(failure.asChange());
+  }
+
+  @EventListener
+  @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+  public void onMenuChanged(MenuChangedEvent change) {
+
+    Set<PublicSnapshot> stale = PublicSnapshot.affectedBy(change);
+
+    snapshots.invalidateAll(stale);
+
+    log.info("Invalidated response snapshots {}", stale);
+  }
+
+  private ResponseSnapshot build(PublicSnapshot key, Object body) {
+    try {
+      ResponseSnapshot snapshot = ResponseSnapshot.of(objectMapper.writeValueAsBytes(body));
+
+      log.info(
+          "Built {} response snapshot ({} bytes, {} gzipped)",
+          key,
+          snapshot.json().length,
+          snapshot.gzip().length);
+
+      return snapshot;
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize " + key + " response snapshot", e);
+    }
+  }
+
+  private static boolean acceptsGzip(String acceptEncoding) {
+
+    if (acceptEncoding == null) return false;
+
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+
+      if (!parts[0].trim().equalsIgnoreCase(GZIP)) continue;
+
+      return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0{0,3})?");
+    }
+
+    return false;
+  }
+}
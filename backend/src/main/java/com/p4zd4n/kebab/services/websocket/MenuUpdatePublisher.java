@@ -0,0 +1,46 @@
+package com.p4zd4n.kebab.services.websocket;
+
+import com.p4zd4n.kebab.responses.menu.MenuUpdatedEvent;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class MenuUpdatePublisher {
+
+  public static final String MENU_TOPIC = "/topic/menu";
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final Counter framesSent;
+
+  public MenuUpdatePublisher(SimpMessagingTemplate messagingTemplate, MeterRegistry registry) {
+    this.messagingTemplate = messagingTemplate;
+    this.framesSent = registry.counter("menu.websocket.frames.sent");
+  }
+
+  @EventListener
+  public void onMenuChanged(MenuChangedEvent change) {
+
+    MenuUpdatedEvent event =
+        MenuUpdatedEvent.builder()
+            .version(change.version())
+            .sections(change.sections())
+            .staleResources(PublicSnapshot.affectedBy(change))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+    try {
+      messagingTemplate.convertAndSend(MENU_TOPIC, event);
+      framesSent.increment();
+    } catch (Exception e) {
+      log.warn("Failed to send menu update for version '{}': {}", change.version(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.p4zd4n.kebab.services.websocket;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class OrderUpdatePublisher {
+
+  private static final Set<String> BATCHED_DESTINATIONS = Set.of("/topic/staff/orders");
+  private static final String OLD_STATUS = "old_status";
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final Counter updatesReceived;
+  private final Counter updatesCoalesced;
+  private final Counter framesSent;
+  private final long coalesceWindowMs;
+
+  private Map<String, Map<Object, PendingFrame>> pending = new LinkedHashMap<>();
+  private ScheduledExecutorService flusher;
+
+  public OrderUpdatePublisher(
+      SimpMessagingTemplate messagingTemplate,
+      MeterRegistry registry,
+      @Value("${orders.websocket.coalesce-window-ms:50}") long coalesceWindowMs) {
+    this.messagingTemplate = messagingTemplate;
+    this.updatesReceived = registry.counter("orders.websocket.updates.received");
+    this.updatesCoalesced = registry.counter("orders.websocket.updates.coalesced");
+    this.framesSent = registry.counter("orders.websocket.frames.sent");
+    this.coalesceWindowMs = coalesceWindowMs;
+  }
+
+  @PostConstruct
+  public void start() {
+    flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "order-update-flusher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    flusher.scheduleWithFixedDelay(
+        this::flushSafely, coalesceWindowMs, coalesceWindowMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (flusher != null) flusher.shutdown();
+
+    flush();
+  }
+
+  public synchronized CompletableFuture<Void> publish(
+      String destination, Long orderId, Object payload) {
+
+    updatesReceived.increment();
+
+    Map<Object, PendingFrame> updates =
+        pending.computeIfAbsent(destination, key -> new LinkedHashMap<>());
+    Object key = orderId != null ? orderId : new Object();
+    PendingFrame frame = new PendingFrame(payload);
+    PendingFrame previous = updates.remove(key);
+
+    if (previous != null) {
+      updatesCoalesced.increment();
+      frame = new PendingFrame(keepFirstOldStatus(previous.payload(), payload));
+      frame.receipts().addAll(previous.receipts());
+    }
+
+    CompletableFuture<Void> receipt = new CompletableFuture<>();
+    frame.receipts().add(receipt);
+    updates.put(key, frame);
+
+    return receipt;
+  }
+
+  public void flush() {
+
+    Map<String, Map<Object, PendingFrame>> updates;
+
+    synchronized (this) {
+      if (pending.isEmpty()) return;
+
+      updates = pending;
+      pending = new LinkedHashMap<>();
+    }
+
+    updates.forEach(
+        (destination, frames) -> {
+          if (BATCHED_DESTINATIONS.contains(destination)) {
+            List<Object> payloads = new ArrayList<>();
+            List<CompletableFuture<Void>> receipts = new ArrayList<>();
+
+            frames
+                .values()
+                .forEach(
+                    frame -> {
+                      payloads.add(frame.payload());
+                      receipts.addAll(frame.receipts());
+                    });
+            send(destination, payloads, receipts);
+          } else {
+            frames.values().forEach(frame -> send(destination, frame.payload(), frame.receipts()));
+          }
+        });
+  }
+
+  private void flushSafely() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Failed to flush order websocket updates", e);
+    }
+  }
+
+  private Object keepFirstOldStatus(Object previous, Object payload) {
+
+    if (previous instanceof ObjectNode first
+        && payload instanceof ObjectNode latest
+        && first.has(OLD_STATUS)
+        && latest.has(OLD_STATUS)) {
+      ObjectNode merged = latest.deepCopy();
+      merged.set(OLD_STATUS, first.get(OLD_STATUS));
+
+      return merged;
+    }
+
+    return payload;
+  }
+
+  private void send(String destination, Object payload, List<CompletableFuture<Void>> receipts) {
+    try {
+      messagingTemplate.convertAndSend(destination, payload);
+      framesSent.increment();
+      receipts.forEach(receipt -> receipt.complete(null));
+    } catch (Exception e) {
+      log.warn("Failed to send websocket frame to '{}': {}", destination, e.getMessage());
+      receipts.forEach(receipt -> receipt.completeExceptionally(e));
+    }
+  }
+
+  private record PendingFrame(Object payload, List<CompletableFuture<Void>> receipts) {
+
+    PendingFrame(Object payload) {
+      this(payload, new ArrayList<>());
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.p4zd4n.kebab.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class PriceUtil {
+
+  private static final int MINOR_UNITS_SCALE = 2;
+  private static final long PERCENT = 100;
+
+  private PriceUtil() {}
+
+  public static long toGrosze(BigDecimal amount) {
+    if (amount == null) return 0;
+
+    return amount
+        .setScale(MINOR_UNITS_SCALE, RoundingMode.HALF_UP)
+        .unscaledValue()
+        .longValueExact();
+  }
+
+  public static BigDecimal toAmount(long grosze) {
+    return BigDecimal.valueOf(grosze, MINOR_UNITS_SCALE);
+  }
+
+  public static int toDiscountPercent(BigDecimal discountPercentage) {
+    if (discountPercentage == null) return 0;
+
+    return discountPercentage.setScale(0, RoundingMode.HALF_UP).intValueExact();
+  }
+
+  public static long applyDiscount(long priceGrosze, int discountPercent, int quantity) {
+    return roundToGrosze(applyDiscountUnrounded(priceGrosze, discountPercent, quantity));
+  }
+
+  public static long applyDiscountUnrounded(long priceGrosze, int discountPercent, int quantity) {
+    return Math.multiplyExact(
+        Math.multiplyExact(priceGrosze, PERCENT - discountPercent), quantity);
+  }
+
+  public static long applyOrderDiscount(long unroundedTotal, int discountPercent) {
+    return divideHalfUp(
+        Math.multiplyExact(unroundedTotal, PERCENT - discountPercent), PERCENT * PERCENT);
+  }
+
+  public static long roundToGrosze(long unroundedAmount) {
+    return divideHalfUp(unroundedAmount, PERCENT);
+  }
+
+  public static BigDecimal applyDiscount(
+      BigDecimal price, BigDecimal discountPercentage, int quantity) {
+    return toAmount(
+        applyDiscount(toGrosze(price), toDiscountPercent(discountPercentage), quantity));
+  }
+
+  private static long divideHalfUp(long dividend, long divisor) {
+    long quotient = dividend / divisor;
+    long remainder = dividend % divisor;
+
+    if (Math.abs(remainder) * 2 >= divisor) quotient += Long.signum(dividend);
+
+    return quotient;
+  }
+}
@@ -492,7 +492,7 @@ public class SampleDataInitializer implements CommandLineRunner {
     mealPromotionsRepository.save(largeSizePromotion);
 
     mealRepository
-        .findAll()
+        .findAllWithPromotions()
         .forEach(
             meal -> {
               meal.getPromotions().add(largeSizePromotion);
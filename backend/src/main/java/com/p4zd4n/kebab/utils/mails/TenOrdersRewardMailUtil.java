@@ -2,12 +2,10 @@ package com.p4zd4n.kebab.utils.mails;
 
 import com.p4zd4n.kebab.entities.DiscountCode;
 import com.p4zd4n.kebab.enums.NewsletterMessagesLanguage;
-import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
@@ -48,31 +46,28 @@ public class TenOrdersRewardMailUtil implements DiscountCodeSendable {
     this.templateEngine = templateEngine;
   }
 
-  @Async
-  public void sendEng(NewOrderRequest request, DiscountCode discountCode)
-      throws MessagingException {
+  public void sendEng(String customerEmail, DiscountCode discountCode) throws MessagingException {
 
     MimeMessage message = javaMailSender.createMimeMessage();
     MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true, "UTF-8");
     Context context = getContext(discountCode, NewsletterMessagesLanguage.ENGLISH);
     String htmlContent = templateEngine.process("ten-orders-reward-mail", context);
 
-    mimeMessageHelper.setTo(request.customerEmail());
+    mimeMessageHelper.setTo(customerEmail);
     mimeMessageHelper.setSubject(SUBJECT_ENG);
     mimeMessageHelper.setText(htmlContent, true);
 
     javaMailSender.send(message);
   }
 
-  @Async
-  public void sendPl(NewOrderRequest request, DiscountCode discountCode) throws MessagingException {
+  public void sendPl(String customerEmail, DiscountCode discountCode) throws MessagingException {
 
     MimeMessage message = javaMailSender.createMimeMessage();
     MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true, "UTF-8");
     Context context = getContext(discountCode, NewsletterMessagesLanguage.POLISH);
     String htmlContent = templateEngine.process("ten-orders-reward-mail", context);
 
-    mimeMessageHelper.setTo(request.customerEmail());
+    mimeMessageHelper.setTo(customerEmail);
     mimeMessageHelper.setSubject(SUBJECT_PL);
     mimeMessageHelper.setText(htmlContent, true);
 
@@ -1,15 +1,12 @@
 package com.p4zd4n.kebab.utils.mails;
 
-import com.p4zd4n.kebab.entities.Customer;
 import com.p4zd4n.kebab.enums.NewsletterMessagesLanguage;
-import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.time.LocalDate;
 import java.util.Map;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
@@ -58,42 +55,32 @@ public class ThanksForOrderMailUtil {
     this.templateEngine = templateEngine;
   }
 
-  @Async
-  public void sendEng(NewOrderRequest request, Customer customer, Long orderId)
+  public void sendEng(String customerEmail, String customerPhone, Long orderCount, Long orderId)
       throws MessagingException {
 
     MimeMessage message = javaMailSender.createMimeMessage();
     MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true, "UTF-8");
     Context context =
-        getContext(
-            customer.getOrderCount(),
-            request.customerPhone(),
-            orderId,
-            NewsletterMessagesLanguage.ENGLISH);
+        getContext(orderCount, customerPhone, orderId, NewsletterMessagesLanguage.ENGLISH);
     String htmlContent = templateEngine.process("thanks-for-order-mail", context);
 
-    mimeMessageHelper.setTo(request.customerEmail());
+    mimeMessageHelper.setTo(customerEmail);
     mimeMessageHelper.setSubject(SUBJECT_ENG);
     mimeMessageHelper.setText(htmlContent, true);
 
     javaMailSender.send(message);
   }
 
-  @Async
-  public void sendPl(NewOrderRequest request, Customer customer, Long orderId)
+  public void sendPl(String customerEmail, String customerPhone, Long orderCount, Long orderId)
       throws MessagingException {
 
     MimeMessage message = javaMailSender.createMimeMessage();
     MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true, "UTF-8");
     Context context =
-        getContext(
-            customer.getOrderCount(),
-            request.customerPhone(),
-            orderId,
-            NewsletterMessagesLanguage.POLISH);
+        getContext(orderCount, customerPhone, orderId, NewsletterMessagesLanguage.POLISH);
     String htmlContent = templateEngine.process("thanks-for-order-mail", context);
 
-    mimeMessageHelper.setTo(request.customerEmail());
+    mimeMessageHelper.setTo(customerEmail);
     mimeMessageHelper.setSubject(SUBJECT_PL);
     mimeMessageHelper.setText(htmlContent, true);
 
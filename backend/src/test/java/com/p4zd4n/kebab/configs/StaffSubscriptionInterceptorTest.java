@@ -0,0 +1,77 @@
+package com.p4zd4n.kebab.configs;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public class StaffSubscriptionInterceptorTest {
+
+  private StaffSubscriptionInterceptor interceptor;
+
+  private MessageChannel channel;
+
+  @BeforeEach
+  public void setUp() {
+    interceptor = new StaffSubscriptionInterceptor();
+    channel = mock(MessageChannel.class);
+  }
+
+  @Test
+  public void preSend_ShouldRejectAnonymousSubscription_WhenDestinationIsStaffTopic() {
+
+    assertThrows(
+        AccessDeniedException.class,
+        () -> interceptor.preSend(subscribe("/topic/staff/orders", null), channel));
+    assertThrows(
+        AccessDeniedException.class,
+        () -> interceptor.preSend(subscribe("/topic//staff/orders", null), channel));
+  }
+
+  @Test
+  public void preSend_ShouldRejectAnonymousSubscription_WhenDestinationIsWildcard() {
+
+    for (String destination :
+        List.of("/topic/**", "/topic/*/orders", "/topic/st?ff/orders", "/topic/{name}/orders")) {
+      assertThrows(
+          AccessDeniedException.class,
+          () -> interceptor.preSend(subscribe(destination, null), channel),
+          destination);
+    }
+  }
+
+  @Test
+  public void preSend_ShouldAllowSubscription_WhenPublicTopicOrStaffUser() {
+
+    Message<byte[]> publicSubscription = subscribe("/topic/orders/status-changes", null);
+    Message<byte[]> staffSubscription =
+        subscribe(
+            "/topic/**",
+            new UsernamePasswordAuthenticationToken(
+                "employee", null, List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))));
+
+    assertSame(publicSubscription, interceptor.preSend(publicSubscription, channel));
+    assertSame(staffSubscription, interceptor.preSend(staffSubscription, channel));
+  }
+
+  private Message<byte[]> subscribe(
+      String destination, UsernamePasswordAuthenticationToken user) {
+
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setDestination(destination);
+    accessor.setUser(user);
+    accessor.setLeaveMutable(true);
+
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
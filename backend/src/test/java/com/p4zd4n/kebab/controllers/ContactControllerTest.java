@@ -10,6 +10,7 @@ import com.p4zd4n.kebab.requests.contact.UpdatedContactRequest;
 import com.p4zd4n.kebab.responses.contact.ContactResponse;
 import com.p4zd4n.kebab.responses.contact.UpdatedContactResponse;
 import com.p4zd4n.kebab.services.contact.ContactService;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -19,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -38,12 +40,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(ContactController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(ResponseSnapshotStore.class)
 public class ContactControllerTest {
 
   @Autowired private ObjectMapper objectMapper;
 
   @Autowired private MockMvc mockMvc;
 
+  @Autowired private ResponseSnapshotStore responseSnapshotStore;
+
   @MockBean private ContactService contactService;
 
   @InjectMocks private ContactController contactController;
@@ -141,7 +146,8 @@ public class ContactControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new ContactController(contactService))
+        MockMvcBuilders.standaloneSetup(
+                new ContactController(contactService, responseSnapshotStore))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -180,7 +186,8 @@ public class ContactControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new ContactController(contactService))
+        MockMvcBuilders.standaloneSetup(
+                new ContactController(contactService, responseSnapshotStore))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -17,6 +18,8 @@ import com.p4zd4n.kebab.requests.hour.UpdatedHourRequest;
 import com.p4zd4n.kebab.responses.hours.OpeningHoursResponse;
 import com.p4zd4n.kebab.responses.hours.UpdatedHourResponse;
 import com.p4zd4n.kebab.services.hours.HoursService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
@@ -28,18 +31,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(HoursController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(ResponseSnapshotStore.class)
 public class HoursControllerTest {
 
   @Autowired private ObjectMapper objectMapper;
 
   @Autowired private MockMvc mockMvc;
 
+  @Autowired private ResponseSnapshotStore responseSnapshotStore;
+
   @MockBean private HoursService hoursService;
 
   @MockBean private EmployeesRepository employeeRepository;
@@ -51,6 +58,7 @@ public class HoursControllerTest {
   @BeforeEach
   public void setUp() {
     MockitoAnnotations.openMocks(this);
+    responseSnapshotStore.invalidate(PublicSnapshot.OPENING_HOURS);
   }
 
   @Test
@@ -74,6 +82,33 @@ public class HoursControllerTest {
     verify(hoursService, times(1)).getOpeningHours();
   }
 
+  @Test
+  public void getOpeningHours_ShouldReturnNotModified_WhenEtagMatchesSnapshot() throws Exception {
+
+    when(hoursService.getOpeningHours())
+        .thenReturn(
+            List.of(
+                new OpeningHoursResponse(
+                    DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0))));
+
+    String etag =
+        mockMvc
+            .perform(get("/api/v1/hours/opening-hours").header("Accept-Encoding", "gzip, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(header().string("Vary", "Accept-Encoding"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(get("/api/v1/hours/opening-hours").header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", etag));
+
+    verify(hoursService, times(1)).getOpeningHours();
+  }
+
   @Test
   public void updateOpeningHour_ShouldUpdateOpeningHourSuccessfully_WhenValidRequest()
       throws Exception {
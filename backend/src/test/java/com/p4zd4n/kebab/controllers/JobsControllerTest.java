@@ -14,6 +14,7 @@ import com.p4zd4n.kebab.requests.jobs.*;
 import com.p4zd4n.kebab.responses.jobs.*;
 import com.p4zd4n.kebab.services.jobs.JobApplicationService;
 import com.p4zd4n.kebab.services.jobs.JobOfferService;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
@@ -27,6 +28,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -38,12 +40,15 @@ import org.springframework.web.multipart.MultipartFile;
 
 @WebMvcTest(JobsController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(ResponseSnapshotStore.class)
 public class JobsControllerTest {
 
   @Autowired private ObjectMapper objectMapper;
 
   @Autowired private MockMvc mockMvc;
 
+  @Autowired private ResponseSnapshotStore responseSnapshotStore;
+
   @MockBean private JobOfferService jobOfferService;
 
   @MockBean private JobApplicationService jobApplicationService;
@@ -162,7 +167,8 @@ public class JobsControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new JobsController(jobOfferService, jobApplicationService))
+        MockMvcBuilders.standaloneSetup(
+                new JobsController(jobOfferService, jobApplicationService, responseSnapshotStore))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -280,7 +286,8 @@ public class JobsControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new JobsController(jobOfferService, jobApplicationService))
+        MockMvcBuilders.standaloneSetup(
+                new JobsController(jobOfferService, jobApplicationService, responseSnapshotStore))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -6,6 +6,7 @@ import com.p4zd4n.kebab.entities.Beverage;
 import com.p4zd4n.kebab.entities.Ingredient;
 import com.p4zd4n.kebab.entities.Meal;
 import com.p4zd4n.kebab.enums.IngredientType;
+import com.p4zd4n.kebab.enums.MenuSection;
 import com.p4zd4n.kebab.enums.Size;
 import com.p4zd4n.kebab.exceptions.*;
 import com.p4zd4n.kebab.exceptions.alreadyexists.AddonAlreadyExistsException;
@@ -39,10 +40,16 @@ import com.p4zd4n.kebab.responses.menu.ingredients.IngredientResponse;
 import com.p4zd4n.kebab.responses.menu.ingredients.NewIngredientResponse;
 import com.p4zd4n.kebab.responses.menu.ingredients.RemovedIngredientResponse;
 import com.p4zd4n.kebab.responses.menu.meals.*;
+import com.p4zd4n.kebab.responses.menu.search.MenuSearchResponse;
 import com.p4zd4n.kebab.services.menu.AddonService;
 import com.p4zd4n.kebab.services.menu.BeverageService;
 import com.p4zd4n.kebab.services.menu.IngredientService;
 import com.p4zd4n.kebab.services.menu.MealService;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.menu.search.MenuSearchService;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -52,6 +59,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -70,12 +78,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(MenuController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(ResponseSnapshotStore.class)
 public class MenuControllerTest {
 
   @Autowired private ObjectMapper objectMapper;
 
   @Autowired private MockMvc mockMvc;
 
+  @Autowired private ResponseSnapshotStore responseSnapshotStore;
+
   @MockBean private BeverageService beverageService;
 
   @MockBean private AddonService addonService;
@@ -84,6 +95,10 @@ public class MenuControllerTest {
 
   @MockBean private IngredientService ingredientService;
 
+  @MockBean private MenuSearchService menuSearchService;
+
+  @MockBean private MenuCatalogService menuCatalogService;
+
   @MockBean private BeverageRepository beverageRepository;
 
   @MockBean private IngredientRepository ingredientRepository;
@@ -180,7 +195,14 @@ public class MenuControllerTest {
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
         MockMvcBuilders.standaloneSetup(
-                new MenuController(beverageService, addonService, mealService, ingredientService))
+                new MenuController(
+                    beverageService,
+                    addonService,
+                    mealService,
+                    ingredientService,
+                    responseSnapshotStore,
+                    menuSearchService,
+                    menuCatalogService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -307,7 +329,14 @@ public class MenuControllerTest {
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
         MockMvcBuilders.standaloneSetup(
-                new MenuController(beverageService, addonService, mealService, ingredientService))
+                new MenuController(
+                    beverageService,
+                    addonService,
+                    mealService,
+                    ingredientService,
+                    responseSnapshotStore,
+                    menuSearchService,
+                    menuCatalogService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -464,7 +493,14 @@ public class MenuControllerTest {
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
         MockMvcBuilders.standaloneSetup(
-                new MenuController(beverageService, addonService, mealService, ingredientService))
+                new MenuController(
+                    beverageService,
+                    addonService,
+                    mealService,
+                    ingredientService,
+                    responseSnapshotStore,
+                    menuSearchService,
+                    menuCatalogService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -709,7 +745,14 @@ public class MenuControllerTest {
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
         MockMvcBuilders.standaloneSetup(
-                new MenuController(beverageService, addonService, mealService, ingredientService))
+                new MenuController(
+                    beverageService,
+                    addonService,
+                    mealService,
+                    ingredientService,
+                    responseSnapshotStore,
+                    menuSearchService,
+                    menuCatalogService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -1008,7 +1051,14 @@ public class MenuControllerTest {
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
         MockMvcBuilders.standaloneSetup(
-                new MenuController(beverageService, addonService, mealService, ingredientService))
+                new MenuController(
+                    beverageService,
+                    addonService,
+                    mealService,
+                    ingredientService,
+                    responseSnapshotStore,
+                    menuSearchService,
+                    menuCatalogService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -1067,6 +1117,7 @@ public class MenuControllerTest {
         RemovedIngredientResponse.builder()
             .statusCode(HttpStatus.OK.value())
             .message("Successfully removed ingredient with name 'Jalapeno'")
+            .affectedMeals(List.of("Spicy Kebab"))
             .build();
 
     when(ingredientService.findIngredientByName(request.name())).thenReturn(existingIngredient);
@@ -1080,9 +1131,60 @@ public class MenuControllerTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.status_code", is(HttpStatus.OK.value())))
         .andExpect(
-            jsonPath("$.message", is("Successfully removed ingredient with name 'Jalapeno'")));
+            jsonPath("$.message", is("Successfully removed ingredient with name 'Jalapeno'")))
+        .andExpect(jsonPath("$.affected_meals", Matchers.contains("Spicy Kebab")));
 
     verify(ingredientService, times(1)).findIngredientByName(request.name());
     verify(ingredientService, times(1)).removeIngredient(existingIngredient);
   }
+
+  @Test
+  public void search_ShouldReturnMatches_WhenQueryGiven() throws Exception {
+
+    List<MenuSearchResponse> results =
+        List.of(
+            MenuSearchResponse.builder()
+                .name("Coca-Cola")
+                .section(MenuSection.BEVERAGES)
+                .capacity(BigDecimal.valueOf(0.5))
+                .build());
+
+    when(menuSearchService.search("cola", 5)).thenReturn(results);
+
+    mockMvc
+        .perform(get("/api/v1/menu/search").param("q", "cola").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].name", is("Coca-Cola")))
+        .andExpect(jsonPath("$[0].section", is("BEVERAGES")))
+        .andExpect(jsonPath("$[0].capacity", is(0.5)));
+
+    verify(menuSearchService, times(1)).search("cola", 5);
+  }
+
+  @Test
+  public void search_ShouldUseDefaultLimit_WhenLimitMissing() throws Exception {
+
+    when(menuSearchService.search("keb", 10)).thenReturn(List.of());
+
+    mockMvc
+        .perform(get("/api/v1/menu/search").param("q", "keb"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(0)));
+
+    verify(menuSearchService, times(1)).search("keb", 10);
+  }
+
+  @Test
+  public void getVersion_ShouldReturnCatalogVersion_WhenCalled() throws Exception {
+
+    when(menuCatalogService.getCatalog()).thenReturn(MenuCatalog.empty());
+
+    mockMvc
+        .perform(get("/api/v1/menu/version"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.version", is(0)));
+
+    verify(menuCatalogService, times(1)).getCatalog();
+  }
 }
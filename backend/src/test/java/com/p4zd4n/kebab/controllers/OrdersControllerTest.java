@@ -3,6 +3,7 @@ package com.p4zd4n.kebab.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.p4zd4n.kebab.entities.Order;
 import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderStatusUpdateOutcome;
 import com.p4zd4n.kebab.enums.OrderType;
 import com.p4zd4n.kebab.exceptions.GlobalExceptionHandler;
 import com.p4zd4n.kebab.exceptions.expired.DiscountCodeExpiredException;
@@ -14,10 +15,16 @@ import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
 import com.p4zd4n.kebab.requests.orders.RemovedOrderRequest;
 import com.p4zd4n.kebab.requests.orders.TrackOrderRequest;
 import com.p4zd4n.kebab.requests.orders.UpdatedOrderRequest;
+import com.p4zd4n.kebab.requests.orders.UpdatedOrdersStatusRequest;
 import com.p4zd4n.kebab.responses.orders.NewOrderResponse;
 import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.responses.orders.OrderStatusUpdateResult;
+import com.p4zd4n.kebab.responses.orders.OrdersPageResponse;
 import com.p4zd4n.kebab.responses.orders.RemovedOrderResponse;
 import com.p4zd4n.kebab.responses.orders.UpdatedOrderResponse;
+import com.p4zd4n.kebab.responses.orders.UpdatedOrdersStatusResponse;
+import com.p4zd4n.kebab.services.orders.OrderArchiveService;
+import com.p4zd4n.kebab.services.orders.OrderIdempotencyStore;
 import com.p4zd4n.kebab.services.orders.OrdersService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,11 +34,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -45,14 +54,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(OrdersController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(OrderIdempotencyStore.class)
 public class OrdersControllerTest {
 
   @Autowired private ObjectMapper objectMapper;
 
   @Autowired private MockMvc mockMvc;
 
+  @Autowired private OrderIdempotencyStore orderIdempotencyStore;
+
   @MockBean private OrdersService ordersService;
 
+  @MockBean private OrderArchiveService orderArchiveService;
+
   @BeforeEach
   public void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -90,6 +104,83 @@ public class OrdersControllerTest {
     verify(ordersService, times(1)).getOrders();
   }
 
+  @Test
+  public void getArchivedOrders_ShouldReturnArchivedOrders_WhenRangeGiven() throws Exception {
+
+    LocalDateTime from = LocalDateTime.of(2024, 9, 1, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2024, 10, 1, 0, 0);
+
+    when(orderArchiveService.getArchivedOrders(from, to, null))
+        .thenReturn(
+            List.of(
+                OrderResponse.builder()
+                    .id(7L)
+                    .orderType(OrderType.TAKEAWAY)
+                    .orderStatus(OrderStatus.RECEIVED)
+                    .build()));
+
+    mockMvc
+        .perform(
+            get("/api/v1/orders/archive")
+                .header("Accept-Language", "en")
+                .param("from", "2024-09-01T00:00:00")
+                .param("to", "2024-10-01T00:00:00"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].id", is(7)))
+        .andExpect(jsonPath("$[0].order_status", is("RECEIVED")));
+
+    verify(orderArchiveService, times(1)).getArchivedOrders(from, to, null);
+    verifyNoInteractions(ordersService);
+  }
+
+  @Test
+  public void getOrdersPage_ShouldReturnPageWithCursor_WhenFiltersGiven() throws Exception {
+
+    OrdersPageResponse page =
+        OrdersPageResponse.builder()
+            .orders(
+                List.of(
+                    OrderResponse.builder()
+                        .id(2L)
+                        .orderType(OrderType.TAKEAWAY)
+                        .orderStatus(OrderStatus.RECEIVED)
+                        .build()))
+            .nextCursor("next")
+            .build();
+
+    when(ordersService.getOrdersPage(
+            OrderStatus.RECEIVED,
+            OrderType.TAKEAWAY,
+            LocalDateTime.of(2024, 10, 1, 0, 0),
+            null,
+            null,
+            1))
+        .thenReturn(page);
+
+    mockMvc
+        .perform(
+            get("/api/v1/orders/page")
+                .header("Accept-Language", "en")
+                .param("status", "RECEIVED")
+                .param("type", "TAKEAWAY")
+                .param("from", "2024-10-01T00:00:00")
+                .param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.orders", hasSize(1)))
+        .andExpect(jsonPath("$.orders[0].order_type", is("TAKEAWAY")))
+        .andExpect(jsonPath("$.next_cursor", is("next")));
+
+    verify(ordersService, times(1))
+        .getOrdersPage(
+            OrderStatus.RECEIVED,
+            OrderType.TAKEAWAY,
+            LocalDateTime.of(2024, 10, 1, 0, 0),
+            null,
+            null,
+            1);
+  }
+
   @Test
   public void addOrder_ShouldReturnOk_WhenValidRequest() throws Exception {
 
@@ -122,6 +213,103 @@ public class OrdersControllerTest {
         .andExpect(jsonPath("$.message", is("Successfully added new order")));
   }
 
+  @Test
+  public void updateOrdersStatus_ShouldReturnPerIdOutcomes_WhenValidRequest() throws Exception {
+
+    UpdatedOrdersStatusRequest request =
+        UpdatedOrdersStatusRequest.builder()
+            .orderIds(List.of(1L, 2L))
+            .orderStatus(OrderStatus.SHIPPED)
+            .build();
+
+    UpdatedOrdersStatusResponse response =
+        UpdatedOrdersStatusResponse.builder()
+            .statusCode(HttpStatus.OK.value())
+            .message("Successfully updated status of 1 orders")
+            .results(
+                List.of(
+                    OrderStatusUpdateResult.builder()
+                        .id(1L)
+                        .outcome(OrderStatusUpdateOutcome.UPDATED)
+                        .previousStatus(OrderStatus.READY)
+                        .build(),
+                    OrderStatusUpdateResult.builder()
+                        .id(2L)
+                        .outcome(OrderStatusUpdateOutcome.NOT_FOUND)
+                        .build()))
+            .build();
+
+    when(ordersService.updateOrdersStatus(request)).thenReturn(response);
+
+    mockMvc
+        .perform(
+            put("/api/v1/orders/update-orders-status")
+                .header("Accept-Language", "en")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results", hasSize(2)))
+        .andExpect(jsonPath("$.results[0].outcome", is("UPDATED")))
+        .andExpect(jsonPath("$.results[0].previous_status", is("READY")))
+        .andExpect(jsonPath("$.results[1].outcome", is("NOT_FOUND")));
+
+    verify(ordersService, times(1)).updateOrdersStatus(request);
+  }
+
+  @Test
+  public void updateOrdersStatus_ShouldReturnBadRequest_WhenNoOrderIds() throws Exception {
+
+    UpdatedOrdersStatusRequest request =
+        UpdatedOrdersStatusRequest.builder()
+            .orderIds(List.of())
+            .orderStatus(OrderStatus.SHIPPED)
+            .build();
+
+    mockMvc
+        .perform(
+            put("/api/v1/orders/update-orders-status")
+                .header("Accept-Language", "en")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest());
+
+    verify(ordersService, never()).updateOrdersStatus(any());
+  }
+
+  @Test
+  public void addOrder_ShouldReplayStoredResponse_WhenIdempotencyKeyRepeated() throws Exception {
+
+    NewOrderRequest request =
+        NewOrderRequest.builder()
+            .orderType(OrderType.TAKEAWAY)
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .customerPhone("321456789")
+            .build();
+
+    NewOrderResponse response =
+        NewOrderResponse.builder()
+            .statusCode(HttpStatus.OK.value())
+            .message("Successfully added new order with id '7'")
+            .id(7L)
+            .build();
+
+    when(ordersService.addOrder(request, "en")).thenReturn(response);
+
+    for (int attempt = 0; attempt < 2; attempt++) {
+      mockMvc
+          .perform(
+              post("/api/v1/orders/add-order")
+                  .header("Accept-Language", "en")
+                  .header("Idempotency-Key", "4f1c2d0e-retry")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.id", is(7)));
+    }
+
+    verify(ordersService, times(1)).addOrder(request, "en");
+  }
+
   @Test
   public void addOrder_ShouldReturnNotFound_WhenEnteredDiscountCodeNotExist() throws Exception {
 
@@ -145,7 +333,8 @@ public class OrdersControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new OrdersController(ordersService))
+        MockMvcBuilders.standaloneSetup(
+                new OrdersController(ordersService, orderIdempotencyStore, orderArchiveService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -185,7 +374,8 @@ public class OrdersControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new OrdersController(ordersService))
+        MockMvcBuilders.standaloneSetup(
+                new OrdersController(ordersService, orderIdempotencyStore, orderArchiveService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -289,7 +479,8 @@ public class OrdersControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new OrdersController(ordersService))
+        MockMvcBuilders.standaloneSetup(
+                new OrdersController(ordersService, orderIdempotencyStore, orderArchiveService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -321,7 +512,8 @@ public class OrdersControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new OrdersController(ordersService))
+        MockMvcBuilders.standaloneSetup(
+                new OrdersController(ordersService, orderIdempotencyStore, orderArchiveService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -355,7 +547,8 @@ public class OrdersControllerTest {
 
     GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler(messageSource);
     mockMvc =
-        MockMvcBuilders.standaloneSetup(new OrdersController(ordersService))
+        MockMvcBuilders.standaloneSetup(
+                new OrdersController(ordersService, orderIdempotencyStore, orderArchiveService))
             .setControllerAdvice(exceptionHandler)
             .build();
 
@@ -0,0 +1,102 @@
+package com.p4zd4n.kebab.controllers;
+
+import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.enums.SalesItemType;
+import com.p4zd4n.kebab.responses.reports.DailyRevenueResponse;
+import com.p4zd4n.kebab.responses.reports.ItemSalesResponse;
+import com.p4zd4n.kebab.services.reports.SalesReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReportsController.class)
+@AutoConfigureMockMvc(addFilters = false)
+public class ReportsControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockBean private SalesReportService salesReportService;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  @Test
+  public void getDailyRevenue_ShouldReturnRevenue_WhenRangeGiven() throws Exception {
+
+    LocalDate day = LocalDate.of(2024, 10, 1);
+
+    when(salesReportService.getDailyRevenue(day, day))
+        .thenReturn(
+            List.of(
+                DailyRevenueResponse.builder()
+                    .date(day)
+                    .orderType(OrderType.TAKEAWAY)
+                    .orderCount(12L)
+                    .revenue(BigDecimal.valueOf(480))
+                    .build()));
+
+    mockMvc
+        .perform(
+            get("/api/v1/reports/daily-revenue")
+                .header("Accept-Language", "en")
+                .param("from", "2024-10-01")
+                .param("to", "2024-10-01"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].order_type", is("TAKEAWAY")))
+        .andExpect(jsonPath("$[0].order_count", is(12)));
+
+    verify(salesReportService, times(1)).getDailyRevenue(day, day);
+  }
+
+  @Test
+  public void getItemSales_ShouldReturnItemSales_WhenTypeGiven() throws Exception {
+
+    LocalDate from = LocalDate.of(2024, 10, 1);
+    LocalDate to = LocalDate.of(2024, 10, 7);
+
+    when(salesReportService.getItemSales(from, to, SalesItemType.MEAL))
+        .thenReturn(
+            List.of(
+                ItemSalesResponse.builder()
+                    .date(from)
+                    .itemType(SalesItemType.MEAL)
+                    .itemName("Kebab")
+                    .variant("XL")
+                    .quantity(7L)
+                    .revenue(BigDecimal.valueOf(210))
+                    .build()));
+
+    mockMvc
+        .perform(
+            get("/api/v1/reports/item-sales")
+                .header("Accept-Language", "en")
+                .param("from", "2024-10-01")
+                .param("to", "2024-10-07")
+                .param("type", "MEAL"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].item_name", is("Kebab")))
+        .andExpect(jsonPath("$[0].variant", is("XL")))
+        .andExpect(jsonPath("$[0].quantity", is(7)));
+
+    verify(salesReportService, times(1)).getItemSales(from, to, SalesItemType.MEAL);
+  }
+}
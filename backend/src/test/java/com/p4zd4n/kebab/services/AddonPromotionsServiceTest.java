@@ -10,6 +10,7 @@ import com.p4zd4n.kebab.responses.promotions.addonpromotions.AddonPromotionRespo
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.NewAddonPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.RemovedAddonPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.addonpromotions.UpdatedAddonPromotionResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import com.p4zd4n.kebab.services.promotions.AddonPromotionsService;
 import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +32,8 @@ public class AddonPromotionsServiceTest {
 
   @Mock private AddonPromotionsRepository addonPromotionsRepository;
 
+  @Mock private MenuCatalogService menuCatalogService;
+
   @InjectMocks private AddonPromotionsService addonPromotionsService;
 
   @BeforeEach
@@ -14,6 +14,9 @@ import com.p4zd4n.kebab.responses.menu.addons.NewAddonResponse;
 import com.p4zd4n.kebab.responses.menu.addons.RemovedAddonResponse;
 import com.p4zd4n.kebab.responses.menu.addons.UpdatedAddonResponse;
 import com.p4zd4n.kebab.services.menu.AddonService;
+import com.p4zd4n.kebab.services.menu.MenuResponseCache;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
@@ -23,12 +26,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 
 public class AddonServiceTest {
 
   @Mock private AddonRepository addonRepository;
 
+  @Mock private MenuCatalogService menuCatalogService;
+
+  @Spy
+  private MenuResponseCache menuResponseCache = new MenuResponseCache(new SimpleMeterRegistry());
+
   @InjectMocks private AddonService addonService;
 
   @BeforeEach
@@ -13,6 +13,7 @@ import com.p4zd4n.kebab.responses.promotions.beveragepromotions.BeveragePromotio
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.NewBeveragePromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.RemovedBeveragePromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.beveragepromotions.UpdatedBeveragePromotionResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import com.p4zd4n.kebab.services.promotions.BeveragePromotionsService;
 import jakarta.mail.MessagingException;
 import java.math.BigDecimal;
@@ -30,6 +31,8 @@ public class BeveragePromotionsServiceTest {
 
   @Mock private BeverageRepository beverageRepository;
 
+  @Mock private MenuCatalogService menuCatalogService;
+
   @InjectMocks private BeveragePromotionsService beveragePromotionsService;
 
   @BeforeEach
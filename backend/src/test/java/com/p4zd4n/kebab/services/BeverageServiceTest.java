@@ -11,11 +11,15 @@ import com.p4zd4n.kebab.responses.menu.beverages.NewBeverageResponse;
 import com.p4zd4n.kebab.responses.menu.beverages.RemovedBeverageResponse;
 import com.p4zd4n.kebab.responses.menu.beverages.UpdatedBeverageResponse;
 import com.p4zd4n.kebab.services.menu.BeverageService;
+import com.p4zd4n.kebab.services.menu.MenuResponseCache;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 
 import java.math.BigDecimal;
@@ -31,6 +35,11 @@ public class BeverageServiceTest {
 
   @Mock private BeverageRepository beverageRepository;
 
+  @Mock private MenuCatalogService menuCatalogService;
+
+  @Spy
+  private MenuResponseCache menuResponseCache = new MenuResponseCache(new SimpleMeterRegistry());
+
   @InjectMocks private BeverageService beverageService;
 
   @BeforeEach
@@ -9,6 +9,8 @@ import com.p4zd4n.kebab.requests.contact.UpdatedContactRequest;
 import com.p4zd4n.kebab.responses.contact.ContactResponse;
 import com.p4zd4n.kebab.responses.contact.UpdatedContactResponse;
 import com.p4zd4n.kebab.services.contact.ContactService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -27,6 +29,8 @@ public class ContactServiceTest {
 
   @Mock private ContactRepository contactRepository;
 
+  @Mock private ResponseSnapshotStore responseSnapshotStore;
+
   @InjectMocks private ContactService contactService;
 
   @BeforeEach
@@ -110,6 +114,7 @@ public class ContactServiceTest {
     assertEquals("email@gmail.com", existingContact.getValue());
 
     verify(contactRepository, times(1)).save(any(Contact.class));
+    verify(responseSnapshotStore, times(1)).invalidate(PublicSnapshot.CONTACTS);
   }
 
   @Test
@@ -0,0 +1,112 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.p4zd4n.kebab.entities.DiscountCode;
+import com.p4zd4n.kebab.repositories.DiscountCodesRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DiscountCodeRedemptionConcurrencyTest {
+
+  private static final int THREADS = 32;
+  private static final int ATTEMPTS_PER_THREAD = 4;
+
+  @Autowired private DiscountCodesRepository discountCodesRepository;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  public void tearDown() {
+    discountCodesRepository.deleteAll();
+  }
+
+  @Test
+  public void redeem_ShouldRedeemExactlyRemainingUses_WhenRedeemedConcurrently()
+      throws Exception {
+
+    long uses = 10;
+    saveDiscountCode("STRESS10", uses, LocalDate.now().plusDays(1));
+
+    assertEquals(uses, redeemConcurrently("STRESS10"));
+    assertEquals(0L, discountCodesRepository.findByCode("STRESS10").get().getRemainingUses());
+  }
+
+  @Test
+  public void redeem_ShouldNotRedeem_WhenCodeExpired() throws Exception {
+
+    saveDiscountCode("EXPIRED", 5L, LocalDate.now().minusDays(1));
+
+    assertEquals(0, redeemConcurrently("EXPIRED"));
+    assertEquals(5L, discountCodesRepository.findByCode("EXPIRED").get().getRemainingUses());
+  }
+
+  private void saveDiscountCode(String code, Long remainingUses, LocalDate expirationDate) {
+
+    DiscountCode discountCode = new DiscountCode();
+    discountCode.setCode(code);
+    discountCode.setDiscountPercentage(BigDecimal.valueOf(15));
+    discountCode.setRemainingUses(remainingUses);
+    discountCode.setExpirationDate(expirationDate);
+
+    discountCodesRepository.save(discountCode);
+  }
+
+  private int redeemConcurrently(String code) throws Exception {
+
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+
+    try {
+      for (int i = 0; i < THREADS; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+
+                  int redeemed = 0;
+
+                  for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    Integer updated =
+                        transactionTemplate.execute(
+                            status -> discountCodesRepository.redeem(code, LocalDate.now()));
+                    redeemed += updated == null ? 0 : updated;
+                  }
+
+                  return redeemed;
+                }));
+      }
+
+      start.countDown();
+
+      int total = 0;
+      for (Future<Integer> result : results) total += result.get();
+
+      return total;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -7,6 +7,8 @@ import com.p4zd4n.kebab.requests.hour.UpdatedHourRequest;
 import com.p4zd4n.kebab.responses.hours.OpeningHoursResponse;
 import com.p4zd4n.kebab.responses.hours.UpdatedHourResponse;
 import com.p4zd4n.kebab.services.hours.HoursService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -27,6 +29,8 @@ public class HoursServiceTest {
 
   @Mock private OpeningHoursRepository openingHoursRepository;
 
+  @Mock private ResponseSnapshotStore responseSnapshotStore;
+
   @InjectMocks private HoursService hoursService;
 
   @BeforeEach
@@ -94,6 +98,7 @@ public class HoursServiceTest {
     assertEquals(LocalTime.of(18, 0), result.getClosingTime());
 
     verify(openingHoursRepository, times(1)).save(openingHour);
+    verify(responseSnapshotStore, times(1)).invalidate(PublicSnapshot.OPENING_HOURS);
   }
 
   @Test
@@ -8,12 +8,15 @@ import com.p4zd4n.kebab.enums.IngredientType;
 import com.p4zd4n.kebab.exceptions.alreadyexists.IngredientAlreadyExistsException;
 import com.p4zd4n.kebab.exceptions.notfound.IngredientNotFoundException;
 import com.p4zd4n.kebab.repositories.IngredientRepository;
-import com.p4zd4n.kebab.repositories.MealRepository;
+import com.p4zd4n.kebab.repositories.MealIngredientRepository;
 import com.p4zd4n.kebab.requests.menu.ingredients.NewIngredientRequest;
 import com.p4zd4n.kebab.responses.menu.ingredients.IngredientResponse;
 import com.p4zd4n.kebab.responses.menu.ingredients.NewIngredientResponse;
 import com.p4zd4n.kebab.responses.menu.ingredients.RemovedIngredientResponse;
 import com.p4zd4n.kebab.services.menu.IngredientService;
+import com.p4zd4n.kebab.services.menu.MenuResponseCache;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,13 +24,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 
 public class IngredientServiceTest {
 
   @Mock private IngredientRepository ingredientRepository;
 
-  @Mock private MealRepository mealRepository;
+  @Mock private MealIngredientRepository mealIngredientRepository;
+
+  @Mock private MenuCatalogService menuCatalogService;
+
+  @Spy
+  private MenuResponseCache menuResponseCache = new MenuResponseCache(new SimpleMeterRegistry());
 
   @InjectMocks private IngredientService ingredientService;
 
@@ -154,13 +163,18 @@ public class IngredientServiceTest {
         Ingredient.builder().name("Chicken").ingredientType(IngredientType.MEAT).build();
 
     doNothing().when(ingredientRepository).delete(ingredient);
+    when(mealIngredientRepository.findMealNamesByIngredient(ingredient))
+        .thenReturn(List.of("Chicken Kebab", "Chicken Wrap"));
+    when(mealIngredientRepository.deleteByIngredient(ingredient)).thenReturn(2);
 
     RemovedIngredientResponse response = ingredientService.removeIngredient(ingredient);
 
     assertNotNull(response);
     assertEquals(HttpStatus.OK.value(), response.statusCode());
     assertEquals("Successfully removed ingredient with name 'Chicken'", response.message());
+    assertEquals(List.of("Chicken Kebab", "Chicken Wrap"), response.affectedMeals());
 
+    verify(mealIngredientRepository, times(1)).deleteByIngredient(ingredient);
     verify(ingredientRepository, times(1)).delete(ingredient);
   }
 }
@@ -11,6 +11,8 @@ import com.p4zd4n.kebab.requests.jobs.NewJobOfferRequest;
 import com.p4zd4n.kebab.requests.jobs.UpdatedJobOfferRequest;
 import com.p4zd4n.kebab.responses.jobs.*;
 import com.p4zd4n.kebab.services.jobs.JobOfferService;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +28,8 @@ public class JobOfferServiceTest {
 
   @Mock private JobOfferRepository jobOfferRepository;
 
+  @Mock private ResponseSnapshotStore responseSnapshotStore;
+
   @InjectMocks private JobOfferService jobOfferService;
 
   @BeforeEach
@@ -119,6 +123,7 @@ public class JobOfferServiceTest {
 
     verify(jobOfferRepository, times(1)).findByPositionName(request.positionName());
     verify(jobOfferRepository, times(1)).save(any(JobOffer.class));
+    verify(responseSnapshotStore, times(1)).invalidate(PublicSnapshot.JOB_OFFERS);
   }
 
   @Test
@@ -222,6 +227,7 @@ public class JobOfferServiceTest {
 
     verify(jobOfferRepository, times(1)).findByPositionName(jobOffer.getPositionName());
     verify(jobOfferRepository, times(1)).save(jobOffer);
+    verify(responseSnapshotStore, times(1)).invalidate(PublicSnapshot.JOB_OFFERS);
   }
 
   @Test
@@ -282,5 +288,6 @@ public class JobOfferServiceTest {
     assertEquals("Successfully removed job offer with position name 'Cook'", response.message());
 
     verify(jobOfferRepository, times(1)).delete(jobOffer);
+    verify(responseSnapshotStore, times(1)).invalidate(PublicSnapshot.JOB_OFFERS);
   }
 }
@@ -0,0 +1,184 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.p4zd4n.kebab.entities.Ingredient;
+import com.p4zd4n.kebab.entities.Meal;
+import com.p4zd4n.kebab.entities.MealPromotion;
+import com.p4zd4n.kebab.enums.IngredientType;
+import com.p4zd4n.kebab.enums.Size;
+import com.p4zd4n.kebab.repositories.MealRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(
+    properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.p4zd4n.kebab.services.MealFetchPlanQueryCountTest$RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+public class MealFetchPlanQueryCountTest {
+
+  @Autowired private MealRepository mealRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private Ingredient tortilla;
+  private Ingredient chicken;
+  private MealPromotion promotion;
+
+  @BeforeEach
+  public void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    tortilla = Ingredient.builder().name("Tortilla").ingredientType(IngredientType.BREAD).build();
+    chicken = Ingredient.builder().name("Chicken").ingredientType(IngredientType.MEAT).build();
+    promotion =
+        MealPromotion.builder()
+            .description("Large -20%")
+            .sizes(Set.of(Size.LARGE, Size.XL))
+            .discountPercentage(BigDecimal.valueOf(20))
+            .build();
+
+    entityManager.persist(tortilla);
+    entityManager.persist(chicken);
+    entityManager.persist(promotion);
+  }
+
+  @Test
+  public void findAllForMenu_ShouldLoadWholeMenuInConstantQueries_WhenMealCountGrows() {
+
+    persistMeals(0, 3);
+    MenuFetch fewMeals = fetchMenu(3);
+
+    persistMeals(3, 20);
+    MenuFetch manyMeals = fetchMenu(20);
+
+    assertEquals(fewMeals.statements(), manyMeals.statements());
+    assertTrue(manyMeals.statements() <= 4);
+  }
+
+  @Test
+  public void findAllForMenu_ShouldReturnOneRowPerMealIngredient_WhenMealsHavePrices() {
+
+    persistMeals(0, 20);
+
+    MenuFetch menu = fetchMenu(20);
+
+    assertEquals(20 * 2, menu.rows());
+  }
+
+  @Test
+  public void findAllWithPromotions_ShouldNotLoadIngredientsOrPrices_WhenAdministeringPromotions() {
+
+    persistMeals(0, 5);
+
+    entityManager.clear();
+    statistics.clear();
+
+    List<Meal> meals = mealRepository.findAllWithPromotions();
+
+    assertTrue(statistics.getPrepareStatementCount() <= 2);
+
+    meals.forEach(
+        meal -> {
+          assertEquals(1, meal.getPromotions().size());
+          assertFalse(Hibernate.isInitialized(meal.getPrices()));
+          assertFalse(Hibernate.isInitialized(meal.getMealIngredients()));
+        });
+  }
+
+  private MenuFetch fetchMenu(int expectedMeals) {
+
+    entityManager.clear();
+    statistics.clear();
+    RecordingStatementInspector.STATEMENTS.clear();
+
+    List<Meal> meals = mealRepository.findAllForMenu();
+
+    assertEquals(expectedMeals, meals.size());
+    meals.forEach(
+        meal -> {
+          assertEquals(2, meal.getPrices().size());
+          assertEquals(2, meal.getMealIngredients().size());
+          assertEquals(
+              Set.of(Size.LARGE, Size.XL), meal.getPromotions().iterator().next().getSizes());
+        });
+
+    long statements = statistics.getPrepareStatementCount();
+    String menuQuery = RecordingStatementInspector.STATEMENTS.get(0);
+
+    entityManager.clear();
+
+    return new MenuFetch(statements, countRows(menuQuery));
+  }
+
+  private long countRows(String sql) {
+    return entityManager
+        .unwrap(Session.class)
+        .doReturningWork(
+            connection -> {
+              try (Statement statement = connection.createStatement();
+                  ResultSet resultSet = statement.executeQuery(sql)) {
+                long rows = 0;
+                while (resultSet.next()) rows++;
+                return rows;
+              }
+            });
+  }
+
+  private void persistMeals(int from, int to) {
+
+    IntStream.range(from, to)
+        .forEach(
+            i -> {
+              EnumMap<Size, BigDecimal> prices = new EnumMap<>(Size.class);
+              prices.put(Size.SMALL, BigDecimal.valueOf(19.99));
+              prices.put(Size.XL, BigDecimal.valueOf(39.99));
+
+              Meal meal = Meal.builder().name("Kebab " + i).prices(prices).build();
+              meal.addIngredient(tortilla);
+              meal.addIngredient(chicken);
+              meal.getPromotions().add(promotion);
+
+              entityManager.persist(meal);
+            });
+
+    entityManager.flush();
+  }
+
+  private record MenuFetch(long statements, long rows) {}
+
+  public static class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
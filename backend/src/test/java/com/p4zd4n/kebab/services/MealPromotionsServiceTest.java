@@ -14,6 +14,7 @@ import com.p4zd4n.kebab.responses.promotions.mealpromotions.MealPromotionRespons
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.NewMealPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.RemovedMealPromotionResponse;
 import com.p4zd4n.kebab.responses.promotions.mealpromotions.UpdatedMealPromotionResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
 import com.p4zd4n.kebab.services.promotions.MealPromotionsService;
 import jakarta.mail.MessagingException;
 import java.math.BigDecimal;
@@ -31,6 +32,8 @@ public class MealPromotionsServiceTest {
 
   @Mock private MealRepository mealRepository;
 
+  @Mock private MenuCatalogService menuCatalogService;
+
   @InjectMocks private MealPromotionsService mealPromotionsService;
 
   @BeforeEach
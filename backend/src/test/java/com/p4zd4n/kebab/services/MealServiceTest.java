@@ -16,6 +16,9 @@ import com.p4zd4n.kebab.requests.menu.meals.NewMealRequest;
 import com.p4zd4n.kebab.requests.menu.meals.UpdatedMealRequest;
 import com.p4zd4n.kebab.responses.menu.meals.*;
 import com.p4zd4n.kebab.services.menu.MealService;
+import com.p4zd4n.kebab.services.menu.MenuResponseCache;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.util.EnumMap;
 import java.util.List;
@@ -25,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 
 public class MealServiceTest {
@@ -33,6 +37,11 @@ public class MealServiceTest {
 
   @Mock private IngredientRepository ingredientRepository;
 
+  @Mock private MenuCatalogService menuCatalogService;
+
+  @Spy
+  private MenuResponseCache menuResponseCache = new MenuResponseCache(new SimpleMeterRegistry());
+
   @InjectMocks private MealService mealService;
 
   @BeforeEach
@@ -51,7 +60,7 @@ public class MealServiceTest {
             Meal.builder().name("Kebab1").prices(kebabPrices).build(),
             Meal.builder().name("Kebab2").prices(kebabPrices).build());
 
-    when(mealRepository.findAll()).thenReturn(meals);
+    when(mealRepository.findAllForMenu()).thenReturn(meals);
 
     List<MealResponse> result = mealService.getMeals();
 
@@ -63,7 +72,7 @@ public class MealServiceTest {
     assertEquals("Kebab2", result.getLast().name());
     assertEquals(BigDecimal.valueOf(39), result.getLast().prices().get(Size.XL));
 
-    verify(mealRepository, times(1)).findAll();
+    verify(mealRepository, times(1)).findAllForMenu();
   }
 
   @Test
@@ -208,7 +217,8 @@ public class MealServiceTest {
     assertEquals("Kebab", existingMeal.getName());
     assertEquals(request.updatedPrices(), existingMeal.getPrices());
     assertEquals(1, existingMeal.getMealIngredients().size());
-    assertEquals(chickenIngredient, existingMeal.getMealIngredients().getFirst().getIngredient());
+    assertEquals(
+        chickenIngredient, existingMeal.getMealIngredients().iterator().next().getIngredient());
   }
 
   @Test
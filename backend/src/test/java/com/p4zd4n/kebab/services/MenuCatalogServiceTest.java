@@ -0,0 +1,208 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.p4zd4n.kebab.entities.*;
+import com.p4zd4n.kebab.enums.IngredientType;
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.enums.Size;
+import com.p4zd4n.kebab.repositories.AddonRepository;
+import com.p4zd4n.kebab.repositories.BeverageRepository;
+import com.p4zd4n.kebab.repositories.IngredientRepository;
+import com.p4zd4n.kebab.repositories.MealRepository;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import com.p4zd4n.kebab.services.menu.catalog.MenuRebuildFailedEvent;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class MenuCatalogServiceTest {
+
+  @Mock private MealRepository mealRepository;
+
+  @Mock private BeverageRepository beverageRepository;
+
+  @Mock private AddonRepository addonRepository;
+
+  @Mock private IngredientRepository ingredientRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private TransactionTemplate transactionTemplate;
+
+  @InjectMocks private MenuCatalogService menuCatalogService;
+
+  private Meal meal;
+  private Beverage beverage;
+  private Addon addon;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+    EnumMap<Size, BigDecimal> prices = new EnumMap<>(Size.class);
+    prices.put(Size.SMALL, BigDecimal.valueOf(19.99));
+    prices.put(Size.XL, BigDecimal.valueOf(39.99));
+
+    meal = Meal.builder().name("Kebab").prices(prices).build();
+    meal.addIngredient(
+        Ingredient.builder().name("Tortilla").ingredientType(IngredientType.BREAD).build());
+    meal.getPromotions()
+        .add(
+            MealPromotion.builder()
+                .sizes(Set.of(Size.XL))
+                .discountPercentage(BigDecimal.valueOf(15))
+                .build());
+
+    beverage =
+        Beverage.builder()
+            .name("Coca-Cola")
+            .capacity(BigDecimal.valueOf(0.33))
+            .price(BigDecimal.valueOf(5.99))
+            .build();
+    beverage.setPromotion(
+        BeveragePromotion.builder().discountPercentage(BigDecimal.valueOf(10)).build());
+
+    addon = Addon.builder().name("Fries").price(BigDecimal.valueOf(7.49)).build();
+
+    when(mealRepository.findAllForMenu()).thenReturn(List.of(meal));
+    when(beverageRepository.findAll()).thenReturn(List.of(beverage));
+    when(addonRepository.findAll()).thenReturn(List.of(addon));
+    when(ingredientRepository.findAll())
+        .thenReturn(
+            List.of(
+                Ingredient.builder().name("Chicken").ingredientType(IngredientType.MEAT).build()));
+  }
+
+  @Test
+  public void getCatalog_ShouldBuildCatalogOnce_WhenCalledRepeatedly() {
+
+    MenuCatalog first = menuCatalogService.getCatalog();
+    MenuCatalog second = menuCatalogService.getCatalog();
+
+    assertSame(first, second);
+    assertEquals(1, first.getVersion());
+
+    verify(mealRepository, times(1)).findAllForMenu();
+    verify(beverageRepository, times(1)).findAll();
+    verify(addonRepository, times(1)).findAll();
+    verify(ingredientRepository, times(1)).findAll();
+  }
+
+  @Test
+  public void getCatalog_ShouldFindItemsIgnoringCase_WhenCatalogBuilt() {
+
+    MenuCatalog catalog = menuCatalogService.getCatalog();
+
+    assertTrue(catalog.findMeal("KEBAB").isPresent());
+    assertTrue(catalog.findAddon("fries").isPresent());
+    assertTrue(catalog.findIngredient("chicken").isPresent());
+    assertTrue(catalog.findBeverage("Coca-Cola", new BigDecimal("0.330")).isPresent());
+    assertTrue(catalog.findBeverage("Coca-Cola", BigDecimal.valueOf(0.5)).isEmpty());
+  }
+
+  @Test
+  public void getCatalog_ShouldPriceItemsLikeEntities_WhenPromotionsPresent() {
+
+    MenuCatalog catalog = menuCatalogService.getCatalog();
+
+    MenuCatalog.CatalogMeal catalogMeal = catalog.findMeal("Kebab").orElseThrow();
+
+    for (Size size : List.of(Size.SMALL, Size.XL)) {
+      assertEquals(
+          0,
+          meal.getPriceForSizeWithDiscountIncluded(size, 3)
+              .compareTo(catalogMeal.getPriceForSizeWithDiscountIncluded(size, 3)));
+    }
+    assertEquals(
+        0,
+        beverage
+            .getPriceWithDiscountIncluded(2)
+            .compareTo(
+                catalog
+                    .findBeverage("Coca-Cola", BigDecimal.valueOf(0.33))
+                    .get()
+                    .getPriceWithDiscountIncluded(2)));
+    assertEquals(
+        0,
+        addon
+            .getPriceWithDiscountIncluded(4)
+            .compareTo(catalog.findAddon("Fries").get().getPriceWithDiscountIncluded(4)));
+    assertEquals(Set.of("Tortilla"), catalog.findMeal("Kebab").get().ingredientNames());
+  }
+
+  @Test
+  public void refresh_ShouldRebuildOnlyAffectedSections_WhenSectionsGiven() {
+
+    MenuCatalog before = menuCatalogService.getCatalog();
+
+    menuCatalogService.refresh(MenuSection.BEVERAGE_PROMOTIONS);
+
+    MenuCatalog after = menuCatalogService.getCatalog();
+
+    assertNotSame(before, after);
+    assertEquals(before.getVersion() + 1, after.getVersion());
+    assertSame(before.getMeals(), after.getMeals());
+    assertSame(before.getAddons(), after.getAddons());
+
+    verify(beverageRepository, times(2)).findAll();
+    verify(mealRepository, times(1)).findAllForMenu();
+    verify(addonRepository, times(1)).findAll();
+    verify(ingredientRepository, times(1)).findAll();
+    verify(eventPublisher, times(1))
+        .publishEvent(new MenuChangedEvent(Set.of(MenuSection.BEVERAGE_PROMOTIONS), 2));
+  }
+
+  @Test
+  public void refresh_ShouldPublishFailureWithoutThrowing_WhenRebuildFails() {
+
+    MenuCatalog before = menuCatalogService.getCatalog();
+
+    when(beverageRepository.findAll()).thenThrow(new IllegalStateException("Database down"));
+
+    assertDoesNotThrow(() -> menuCatalogService.refresh(MenuSection.BEVERAGES));
+
+    verify(eventPublisher, times(1))
+        .publishEvent(new MenuRebuildFailedEvent(Set.of(MenuSection.BEVERAGES), 1));
+    verify(eventPublisher, never()).publishEvent(any(MenuChangedEvent.class));
+    assertSame(before, menuCatalogService.getCatalog());
+  }
+
+  @Test
+  public void getCatalog_ShouldRetryFailedSections_WhenRebuildPending() {
+
+    MenuCatalog before = menuCatalogService.getCatalog();
+
+    when(beverageRepository.findAll())
+        .thenThrow(new IllegalStateException("Database down"))
+        .thenReturn(List.of(beverage));
+
+    assertDoesNotThrow(() -> menuCatalogService.refresh(MenuSection.BEVERAGES));
+
+    MenuCatalog after = menuCatalogService.getCatalog();
+
+    assertEquals(before.getVersion() + 1, after.getVersion());
+    assertSame(before.getMeals(), after.getMeals());
+    assertSame(after, menuCatalogService.getCatalog());
+    verify(eventPublisher, times(1))
+        .publishEvent(new MenuChangedEvent(Set.of(MenuSection.BEVERAGES), 2));
+    verify(beverageRepository, times(3)).findAll();
+  }
+}
@@ -0,0 +1,102 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.services.menu.MenuResponseCache;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import com.p4zd4n.kebab.services.menu.catalog.MenuRebuildFailedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MenuResponseCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private MenuResponseCache menuResponseCache;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    menuResponseCache = new MenuResponseCache(meterRegistry);
+  }
+
+  @Test
+  public void get_ShouldLoadOnce_WhenSectionRequestedRepeatedly() {
+
+    AtomicInteger loads = new AtomicInteger();
+
+    List<String> first =
+        menuResponseCache.get(MenuSection.MEALS, () -> List.of("Kebab" + loads.incrementAndGet()));
+    List<String> second =
+        menuResponseCache.get(MenuSection.MEALS, () -> List.of("Kebab" + loads.incrementAndGet()));
+
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+    assertEquals(1, cacheGets("hit"));
+    assertEquals(1, cacheGets("miss"));
+  }
+
+  @Test
+  public void onMenuChanged_ShouldEvictOnlyAffectedSections_WhenPromotionsChange() {
+
+    AtomicInteger loads = new AtomicInteger();
+
+    menuResponseCache.get(MenuSection.MEALS, () -> List.of(loads.incrementAndGet()));
+    menuResponseCache.get(MenuSection.BEVERAGES, () -> List.of(loads.incrementAndGet()));
+    menuResponseCache.get(MenuSection.ADDONS, () -> List.of(loads.incrementAndGet()));
+
+    menuResponseCache.onMenuChanged(new MenuChangedEvent(Set.of(MenuSection.MEAL_PROMOTIONS), 2));
+
+    menuResponseCache.get(MenuSection.MEALS, () -> List.of(loads.incrementAndGet()));
+    menuResponseCache.get(MenuSection.BEVERAGES, () -> List.of(loads.incrementAndGet()));
+    menuResponseCache.get(MenuSection.ADDONS, () -> List.of(loads.incrementAndGet()));
+
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  public void onMenuChanged_ShouldEvictMeals_WhenIngredientsChange() {
+
+    AtomicInteger loads = new AtomicInteger();
+
+    menuResponseCache.get(MenuSection.MEALS, () -> List.of(loads.incrementAndGet()));
+    menuResponseCache.get(MenuSection.INGREDIENTS, () -> List.of(loads.incrementAndGet()));
+
+    menuResponseCache.onMenuChanged(new MenuChangedEvent(Set.of(MenuSection.INGREDIENTS), 2));
+
+    menuResponseCache.get(MenuSection.MEALS, () -> List.of(loads.incrementAndGet()));
+    menuResponseCache.get(MenuSection.INGREDIENTS, () -> List.of(loads.incrementAndGet()));
+
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  public void onMenuRebuildFailed_ShouldEvictAffectedSections_WhenCatalogRebuildFails() {
+
+    AtomicInteger loads = new AtomicInteger();
+
+    menuResponseCache.get(MenuSection.BEVERAGES, () -> List.of(loads.incrementAndGet()));
+    menuResponseCache.get(MenuSection.ADDONS, () -> List.of(loads.incrementAndGet()));
+
+    menuResponseCache.onMenuRebuildFailed(
+        new MenuRebuildFailedEvent(Set.of(MenuSection.BEVERAGES), 1));
+
+    menuResponseCache.get(MenuSection.BEVERAGES, () -> List.of(loads.incrementAndGet()));
+    menuResponseCache.get(MenuSection.ADDONS, () -> List.of(loads.incrementAndGet()));
+
+    assertEquals(3, loads.get());
+  }
+
+  private double cacheGets(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tag("cache", "menu.responses")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+}
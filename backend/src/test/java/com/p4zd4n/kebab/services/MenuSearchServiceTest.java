@@ -0,0 +1,175 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.p4zd4n.kebab.entities.Addon;
+import com.p4zd4n.kebab.entities.Beverage;
+import com.p4zd4n.kebab.entities.Ingredient;
+import com.p4zd4n.kebab.entities.Meal;
+import com.p4zd4n.kebab.enums.IngredientType;
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.enums.Size;
+import com.p4zd4n.kebab.repositories.AddonRepository;
+import com.p4zd4n.kebab.repositories.BeverageRepository;
+import com.p4zd4n.kebab.repositories.IngredientRepository;
+import com.p4zd4n.kebab.repositories.MealRepository;
+import com.p4zd4n.kebab.responses.menu.search.MenuSearchResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import com.p4zd4n.kebab.services.menu.search.MenuSearchService;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class MenuSearchServiceTest {
+
+  @Mock private MealRepository mealRepository;
+
+  @Mock private BeverageRepository beverageRepository;
+
+  @Mock private AddonRepository addonRepository;
+
+  @Mock private IngredientRepository ingredientRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private TransactionTemplate transactionTemplate;
+
+  private MenuCatalogService menuCatalogService;
+
+  private MenuSearchService menuSearchService;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+    EnumMap<Size, BigDecimal> prices = new EnumMap<>(Size.class);
+    prices.put(Size.SMALL, BigDecimal.valueOf(19.99));
+
+    when(mealRepository.findAllForMenu())
+        .thenReturn(
+            List.of(
+                Meal.builder().name("Kebab w bułce").prices(prices).build(),
+                Meal.builder().name("Kebab box").prices(prices).build(),
+                Meal.builder().name("Zapiekanka z kurczakiem").prices(prices).build()));
+    when(beverageRepository.findAll())
+        .thenReturn(
+            List.of(
+                Beverage.builder()
+                    .name("Coca-Cola")
+                    .capacity(BigDecimal.valueOf(0.33))
+                    .price(BigDecimal.valueOf(5.99))
+                    .build(),
+                Beverage.builder()
+                    .name("Coca-Cola")
+                    .capacity(BigDecimal.valueOf(0.5))
+                    .price(BigDecimal.valueOf(7.99))
+                    .build()));
+    when(addonRepository.findAll())
+        .thenReturn(
+            List.of(Addon.builder().name("Frytki").price(BigDecimal.valueOf(7.49)).build()));
+    when(ingredientRepository.findAll())
+        .thenReturn(
+            List.of(
+                Ingredient.builder()
+                    .name("Sos czosnkowy")
+                    .ingredientType(IngredientType.SAUCE)
+                    .build(),
+                Ingredient.builder()
+                    .name("Pomidor")
+                    .ingredientType(IngredientType.VEGETABLE)
+                    .build()));
+
+    menuCatalogService =
+        new MenuCatalogService(
+            mealRepository,
+            beverageRepository,
+            addonRepository,
+            ingredientRepository,
+            eventPublisher,
+            transactionTemplate);
+    menuSearchService = new MenuSearchService(menuCatalogService);
+  }
+
+  @Test
+  public void search_ShouldReturnPrefixMatches_WhenQueryStartsName() {
+
+    List<MenuSearchResponse> results = menuSearchService.search("keb", 10);
+
+    assertEquals(List.of("Kebab box", "Kebab w bułce"), names(results));
+    assertTrue(results.stream().allMatch(result -> result.section() == MenuSection.MEALS));
+  }
+
+  @Test
+  public void search_ShouldIgnoreAccents_WhenQueryHasNoPolishCharacters() {
+
+    assertEquals(List.of("Kebab w bułce"), names(menuSearchService.search("kebab bulk", 10)));
+    assertEquals(List.of("Sos czosnkowy"), names(menuSearchService.search("CZOSNKÓW", 10)));
+  }
+
+  @Test
+  public void search_ShouldMatchMisspelledNames_WhenWithinEditDistance() {
+
+    assertEquals(
+        List.of("Zapiekanka z kurczakiem"), names(menuSearchService.search("zapeikan", 10)));
+    assertEquals(List.of("Pomidor"), names(menuSearchService.search("pomodor", 10)));
+    assertEquals(
+        List.of("Kebab box", "Kebab w bułce"), names(menuSearchService.search("kbeab", 10)));
+    assertTrue(menuSearchService.search("xyz", 10).isEmpty());
+  }
+
+  @Test
+  public void search_ShouldReturnEveryCapacity_WhenBeverageMatches() {
+
+    List<MenuSearchResponse> results = menuSearchService.search("cola", 10);
+
+    assertEquals(2, results.size());
+    assertTrue(results.stream().allMatch(result -> result.section() == MenuSection.BEVERAGES));
+    assertEquals(
+        Set.of(BigDecimal.valueOf(0.33), BigDecimal.valueOf(0.5)),
+        Set.of(results.get(0).capacity(), results.get(1).capacity()));
+  }
+
+  @Test
+  public void search_ShouldReturnEmptyListAndLimitResults_WhenQueryBlankOrLimitGiven() {
+
+    assertTrue(menuSearchService.search("  ", 10).isEmpty());
+    assertEquals(1, menuSearchService.search("keb", 1).size());
+    assertEquals(1, menuSearchService.search("keb", 0).size());
+  }
+
+  @Test
+  public void onMenuChanged_ShouldServeRebuiltIndex_WhenMenuChanges() {
+
+    assertTrue(menuSearchService.search("falafel", 10).isEmpty());
+
+    when(addonRepository.findAll())
+        .thenReturn(
+            List.of(
+                Addon.builder().name("Frytki").price(BigDecimal.valueOf(7.49)).build(),
+                Addon.builder().name("Falafel").price(BigDecimal.valueOf(4.99)).build()));
+    menuCatalogService.refresh(MenuSection.ADDONS);
+    menuSearchService.onMenuChanged(new MenuChangedEvent(Set.of(MenuSection.ADDONS), 2));
+
+    assertEquals(List.of("Falafel"), names(menuSearchService.search("falafel", 10)));
+    verify(mealRepository, times(1)).findAllForMenu();
+  }
+
+  private static List<String> names(List<MenuSearchResponse> results) {
+    return results.stream().map(MenuSearchResponse::name).toList();
+  }
+}
@@ -0,0 +1,69 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.responses.menu.MenuUpdatedEvent;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.websocket.MenuUpdatePublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+public class MenuUpdatePublisherTest {
+
+  @Mock private SimpMessagingTemplate messagingTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private MenuUpdatePublisher menuUpdatePublisher;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    meterRegistry = new SimpleMeterRegistry();
+    menuUpdatePublisher = new MenuUpdatePublisher(messagingTemplate, meterRegistry);
+  }
+
+  @Test
+  public void onMenuChanged_ShouldSendVersionedEvent_WhenMenuChanges() {
+
+    menuUpdatePublisher.onMenuChanged(new MenuChangedEvent(Set.of(MenuSection.MEAL_PROMOTIONS), 7));
+
+    ArgumentCaptor<MenuUpdatedEvent> captor = ArgumentCaptor.forClass(MenuUpdatedEvent.class);
+    verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/menu"), captor.capture());
+
+    MenuUpdatedEvent event = captor.getValue();
+    assertEquals(7L, event.version());
+    assertEquals(Set.of(MenuSection.MEAL_PROMOTIONS), event.sections());
+    assertEquals(
+        Set.of(PublicSnapshot.MEALS, PublicSnapshot.MEAL_PROMOTIONS), event.staleResources());
+    assertNotNull(event.timestamp());
+    assertEquals(1, meterRegistry.counter("menu.websocket.frames.sent").count());
+  }
+
+  @Test
+  public void onMenuChanged_ShouldNotThrow_WhenBrokerUnavailable() {
+
+    doThrow(new MessagingException("Broker unavailable"))
+        .when(messagingTemplate)
+        .convertAndSend(eq("/topic/menu"), any(Object.class));
+
+    assertDoesNotThrow(
+        () ->
+            menuUpdatePublisher.onMenuChanged(
+                new MenuChangedEvent(Set.of(MenuSection.BEVERAGES), 3)));
+    assertEquals(0, meterRegistry.counter("menu.websocket.frames.sent").count());
+  }
+}
@@ -0,0 +1,88 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.exceptions.invalid.InvalidDateOrderException;
+import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.services.orders.OrderArchiveService;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+public class OrderArchiveServiceTest {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2024, 9, 1, 0, 0);
+  private static final LocalDateTime TO = LocalDateTime.of(2024, 10, 1, 0, 0);
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private OrderArchiveService orderArchiveService;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    orderArchiveService =
+        new OrderArchiveService(
+            jdbcTemplate, new ObjectMapper().registerModule(new JavaTimeModule()));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void getArchivedOrders_ShouldReadPayloadsWithinRange_WhenArchiveExists()
+      throws Exception {
+
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getString(1))
+        .thenReturn(
+            "{\"id\":7,\"order_status\":\"RECEIVED\",\"created_at\":\"2024-09-15T12:00:00\","
+                + "\"meals\":[{\"meal_name\":\"Kebab\",\"quantity\":2}]}");
+    when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(true);
+    when(jdbcTemplate.query(
+            anyString(),
+            any(RowMapper.class),
+            eq(Timestamp.valueOf(FROM)),
+            eq(Timestamp.valueOf(TO)),
+            eq(200)))
+        .thenAnswer(
+            invocation ->
+                List.of(invocation.<RowMapper<OrderResponse>>getArgument(1).mapRow(resultSet, 0)));
+
+    List<OrderResponse> orders = orderArchiveService.getArchivedOrders(FROM, TO, 500);
+
+    assertEquals(1, orders.size());
+    assertEquals(7L, orders.getFirst().id());
+    assertEquals(OrderStatus.RECEIVED, orders.getFirst().orderStatus());
+    assertEquals("Kebab", orders.getFirst().meals().getFirst().getMealName());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void getArchivedOrders_ShouldReturnEmptyList_WhenArchiveNotCreatedYet() {
+
+    when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+
+    assertTrue(orderArchiveService.getArchivedOrders(FROM, TO, null).isEmpty());
+    verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+  }
+
+  @Test
+  public void getArchivedOrders_ShouldThrowInvalidDateOrderException_WhenFromAfterTo() {
+
+    assertThrows(
+        InvalidDateOrderException.class,
+        () -> orderArchiveService.getArchivedOrders(TO, FROM, null));
+    verifyNoInteractions(jdbcTemplate);
+  }
+}
@@ -0,0 +1,123 @@
+package com.p4zd4n.kebab.services;
+
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.repositories.OrdersRepository;
+import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.services.orders.OrderArchiver;
+import com.p4zd4n.kebab.services.orders.OrdersService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class OrderArchiverTest {
+
+  @Mock private OrdersRepository ordersRepository;
+
+  @Mock private OrdersService ordersService;
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Mock private TransactionTemplate transactionTemplate;
+
+  private OrderArchiver orderArchiver;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    when(ordersService.mapToResponse(any(Order.class)))
+        .thenAnswer(
+            invocation ->
+                OrderResponse.builder().id(invocation.<Order>getArgument(0).getId()).build());
+
+    orderArchiver =
+        new OrderArchiver(
+            ordersRepository,
+            ordersService,
+            jdbcTemplate,
+            transactionTemplate,
+            new ObjectMapper(),
+            24,
+            2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void archive_ShouldMoveClosedOrdersIntoMonthlyPartitions_WhenOlderThanCutoff() {
+
+    Order first = closedOrder(1L, LocalDateTime.of(2024, 9, 30, 22, 0));
+    Order second = closedOrder(2L, LocalDateTime.of(2024, 10, 1, 12, 0));
+
+    when(ordersRepository.findAllByOrderStatusInAndCreatedAtBeforeOrderByCreatedAt(
+            anyCollection(), any(LocalDateTime.class), eq(Limit.of(2))))
+        .thenReturn(List.of(first, second), List.of());
+
+    orderArchiver.archive();
+
+    verify(jdbcTemplate, times(1))
+        .execute(argThat((String sql) -> sql.contains("orders_archive_2024_09 PARTITION OF")));
+    verify(jdbcTemplate, times(1))
+        .execute(argThat((String sql) -> sql.contains("orders_archive_2024_10 PARTITION OF")));
+    verify(jdbcTemplate, times(1))
+        .batchUpdate(
+            startsWith("INSERT INTO orders_archive"),
+            eq(List.of(first, second)),
+            eq(2),
+            any(ParameterizedPreparedStatementSetter.class));
+    verify(ordersRepository, times(1)).deleteMealsByOrderIds(List.of(1L, 2L));
+    verify(ordersRepository, times(1)).deleteBeveragesByOrderIds(List.of(1L, 2L));
+    verify(ordersRepository, times(1)).deleteAddonsByOrderIds(List.of(1L, 2L));
+    verify(ordersRepository, times(1)).deleteAllByIds(List.of(1L, 2L));
+    verify(ordersRepository, never()).deleteAll(anyList());
+    verify(ordersRepository, times(2))
+        .findAllByOrderStatusInAndCreatedAtBeforeOrderByCreatedAt(
+            anyCollection(), any(LocalDateTime.class), eq(Limit.of(2)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void archive_ShouldNotTouchOrders_WhenNothingToArchive() {
+
+    when(ordersRepository.findAllByOrderStatusInAndCreatedAtBeforeOrderByCreatedAt(
+            anyCollection(), any(LocalDateTime.class), any(Limit.class)))
+        .thenReturn(List.of());
+
+    orderArchiver.archive();
+
+    verify(ordersRepository, never()).deleteAllByIds(anyCollection());
+    verify(jdbcTemplate, never())
+        .batchUpdate(
+            anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  private Order closedOrder(Long id, LocalDateTime createdAt) {
+
+    Order order =
+        Order.builder()
+            .orderType(OrderType.TAKEAWAY)
+            .orderStatus(OrderStatus.RECEIVED)
+            .customerPhone("123456789")
+            .build();
+    order.setId(id);
+    order.setCreatedAt(createdAt);
+
+    return order;
+  }
+}
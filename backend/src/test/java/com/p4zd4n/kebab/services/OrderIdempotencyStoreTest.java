@@ -0,0 +1,104 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.exceptions.alreadyexists.IdempotencyKeyAlreadyUsedException;
+import com.p4zd4n.kebab.exceptions.notfound.DiscountCodeNotFoundException;
+import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
+import com.p4zd4n.kebab.responses.orders.NewOrderResponse;
+import com.p4zd4n.kebab.services.orders.OrderIdempotencyStore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OrderIdempotencyStoreTest {
+
+  private OrderIdempotencyStore orderIdempotencyStore;
+
+  private NewOrderRequest request;
+
+  @BeforeEach
+  public void setUp() {
+    orderIdempotencyStore = new OrderIdempotencyStore(100, 60);
+    request =
+        NewOrderRequest.builder()
+            .orderType(OrderType.TAKEAWAY)
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .customerPhone("123456789")
+            .build();
+  }
+
+  @Test
+  public void execute_ShouldRunActionOnce_WhenKeyRepeated() {
+
+    AtomicInteger calls = new AtomicInteger();
+
+    NewOrderResponse first =
+        orderIdempotencyStore.execute("key", request, () -> response(calls.incrementAndGet()));
+    NewOrderResponse second =
+        orderIdempotencyStore.execute("key", request, () -> response(calls.incrementAndGet()));
+
+    assertEquals(1, calls.get());
+    assertSame(first, second);
+    assertTrue(orderIdempotencyStore.contains("key"));
+  }
+
+  @Test
+  public void execute_ShouldThrowIdempotencyKeyAlreadyUsedException_WhenRequestDiffers() {
+
+    orderIdempotencyStore.execute("key", request, () -> response(1));
+
+    NewOrderRequest otherRequest =
+        NewOrderRequest.builder()
+            .orderType(OrderType.ON_SITE)
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .customerPhone("987654321")
+            .build();
+
+    assertThrows(
+        IdempotencyKeyAlreadyUsedException.class,
+        () -> orderIdempotencyStore.execute("key", otherRequest, () -> response(2)));
+  }
+
+  @Test
+  public void matches_ShouldReturnTrue_OnlyWhenKeyStoredForSameRequest() {
+
+    orderIdempotencyStore.execute("key", request, () -> response(1));
+
+    NewOrderRequest otherRequest =
+        NewOrderRequest.builder()
+            .orderType(OrderType.ON_SITE)
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .customerPhone("987654321")
+            .build();
+
+    assertTrue(orderIdempotencyStore.matches("key", request));
+    assertFalse(orderIdempotencyStore.matches("key", otherRequest));
+    assertFalse(orderIdempotencyStore.matches("key", null));
+    assertFalse(orderIdempotencyStore.matches("other", request));
+    assertFalse(orderIdempotencyStore.matches(null, request));
+  }
+
+  @Test
+  public void execute_ShouldForgetKey_WhenActionFails() {
+
+    assertThrows(
+        DiscountCodeNotFoundException.class,
+        () ->
+            orderIdempotencyStore.execute(
+                "key",
+                request,
+                () -> {
+                  throw new DiscountCodeNotFoundException("CODE");
+                }));
+
+    assertFalse(orderIdempotencyStore.contains("key"));
+    assertEquals(3L, orderIdempotencyStore.execute("key", request, () -> response(3)).id());
+  }
+
+  private NewOrderResponse response(long id) {
+    return NewOrderResponse.builder().statusCode(200).message("Added").id(id).build();
+  }
+}
@@ -0,0 +1,176 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.entities.OrderOutboxMessage;
+import com.p4zd4n.kebab.enums.OrderOutboxMessageStatus;
+import com.p4zd4n.kebab.enums.OrderOutboxMessageType;
+import com.p4zd4n.kebab.repositories.DiscountCodesRepository;
+import com.p4zd4n.kebab.repositories.OrderOutboxRepository;
+import com.p4zd4n.kebab.services.outbox.OrderOutboxDispatcher;
+import com.p4zd4n.kebab.services.websocket.OrderUpdatePublisher;
+import com.p4zd4n.kebab.utils.mails.HighValueOrderRewardMailUtil;
+import com.p4zd4n.kebab.utils.mails.TenOrdersRewardMailUtil;
+import com.p4zd4n.kebab.utils.mails.ThanksForOrderMailUtil;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mail.MailSendException;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class OrderOutboxDispatcherTest {
+
+  @Mock private OrderOutboxRepository orderOutboxRepository;
+
+  @Mock private DiscountCodesRepository discountCodesRepository;
+
+  @Mock private ThanksForOrderMailUtil thanksForOrderMailUtil;
+
+  @Mock private TenOrdersRewardMailUtil tenOrdersRewardMailUtil;
+
+  @Mock private HighValueOrderRewardMailUtil highValueOrderRewardMailUtil;
+
+  @Mock private OrderUpdatePublisher orderUpdatePublisher;
+
+  @Mock private TransactionTemplate transactionTemplate;
+
+  private OrderOutboxDispatcher orderOutboxDispatcher;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+    orderOutboxDispatcher =
+        new OrderOutboxDispatcher(
+            orderOutboxRepository,
+            discountCodesRepository,
+            thanksForOrderMailUtil,
+            tenOrdersRewardMailUtil,
+            highValueOrderRewardMailUtil,
+            orderUpdatePublisher,
+            transactionTemplate,
+            new ObjectMapper(),
+            50,
+            2,
+            24);
+  }
+
+  @Test
+  public void dispatch_ShouldSendPushAndMail_WhenMessagesPending() throws Exception {
+
+    OrderOutboxMessage push =
+        OrderOutboxMessage.builder()
+            .type(OrderOutboxMessageType.WEBSOCKET_PUSH)
+            .orderId(1L)
+            .destination("/topic/orders/removed")
+            .payload("1")
+            .build();
+    OrderOutboxMessage mail =
+        OrderOutboxMessage.builder()
+            .type(OrderOutboxMessageType.THANKS_FOR_ORDER_MAIL)
+            .orderId(1L)
+            .language("pl")
+            .payload(
+                "{\"customerEmail\":\"example@example.com\",\"customerPhone\":\"123456789\","
+                    + "\"orderCount\":3,\"orderId\":1}")
+            .build();
+    push.setId(1L);
+    mail.setId(2L);
+
+    when(orderOutboxRepository.lockDispatchable(any(LocalDateTime.class), eq(50)))
+        .thenReturn(List.of(push, mail));
+    when(orderOutboxRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(push, mail));
+    when(orderUpdatePublisher.publish(eq("/topic/orders/removed"), eq(1L), any(JsonNode.class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    orderOutboxDispatcher.dispatch();
+
+    verify(orderUpdatePublisher, times(1))
+        .publish(eq("/topic/orders/removed"), eq(1L), any(JsonNode.class));
+    verify(thanksForOrderMailUtil, times(1)).sendPl("example@example.com", "123456789", 3L, 1L);
+    assertEquals(OrderOutboxMessageStatus.SENT, push.getStatus());
+    assertEquals(OrderOutboxMessageStatus.SENT, mail.getStatus());
+  }
+
+  @Test
+  public void dispatch_ShouldRescheduleAndThenFail_WhenMailKeepsFailing() throws Exception {
+
+    OrderOutboxMessage mail =
+        OrderOutboxMessage.builder()
+            .type(OrderOutboxMessageType.THANKS_FOR_ORDER_MAIL)
+            .orderId(1L)
+            .language("en")
+            .payload("{\"customerEmail\":\"example@example.com\",\"orderCount\":1,\"orderId\":1}")
+            .build();
+    mail.setId(1L);
+
+    when(orderOutboxRepository.lockDispatchable(any(LocalDateTime.class), eq(50)))
+        .thenReturn(List.of(mail));
+    when(orderOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(mail));
+    doThrow(new MailSendException("SMTP unavailable"))
+        .when(thanksForOrderMailUtil)
+        .sendEng("example@example.com", null, 1L, 1L);
+
+    orderOutboxDispatcher.dispatch();
+
+    assertEquals(OrderOutboxMessageStatus.PENDING, mail.getStatus());
+    assertEquals(1, mail.getAttempts());
+    assertTrue(mail.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    assertTrue(mail.getLastError().contains("SMTP unavailable"));
+
+    orderOutboxDispatcher.dispatch();
+
+    assertEquals(OrderOutboxMessageStatus.FAILED, mail.getStatus());
+    assertEquals(2, mail.getAttempts());
+  }
+
+  @Test
+  public void dispatch_ShouldKeepPushPending_WhenFrameNotDelivered() {
+
+    OrderOutboxMessage push =
+        OrderOutboxMessage.builder()
+            .type(OrderOutboxMessageType.WEBSOCKET_PUSH)
+            .orderId(1L)
+            .destination("/topic/orders/1")
+            .payload("{\"id\":1}")
+            .build();
+    push.setId(1L);
+
+    when(orderOutboxRepository.lockDispatchable(any(LocalDateTime.class), eq(50)))
+        .thenReturn(List.of(push));
+    when(orderOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(push));
+    when(orderUpdatePublisher.publish(eq("/topic/orders/1"), eq(1L), any(JsonNode.class)))
+        .thenReturn(CompletableFuture.failedFuture(new MessageDeliveryException("Broker down")));
+
+    orderOutboxDispatcher.dispatch();
+
+    assertEquals(OrderOutboxMessageStatus.PENDING, push.getStatus());
+    assertEquals(1, push.getAttempts());
+    assertTrue(push.getLastError().contains("Broker down"));
+  }
+
+  @Test
+  public void purge_ShouldDeleteSentMessagesInBatches_WhenOlderThanRetention() {
+
+    when(orderOutboxRepository.deleteSentBefore(any(LocalDateTime.class), eq(1000)))
+        .thenReturn(1000, 10);
+
+    orderOutboxDispatcher.purge();
+
+    verify(orderOutboxRepository, times(2)).deleteSentBefore(any(LocalDateTime.class), eq(1000));
+  }
+}
@@ -0,0 +1,120 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.p4zd4n.kebab.services.websocket.OrderUpdatePublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+public class OrderUpdatePublisherTest {
+
+  @Mock private SimpMessagingTemplate messagingTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private OrderUpdatePublisher orderUpdatePublisher;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    meterRegistry = new SimpleMeterRegistry();
+    orderUpdatePublisher = new OrderUpdatePublisher(messagingTemplate, meterRegistry, 50);
+  }
+
+  @Test
+  public void flush_ShouldSendOnlyLatestState_WhenSameOrderUpdatedWithinWindow() {
+
+    orderUpdatePublisher.publish("/topic/orders/1", 1L, "IN_PREPARATION");
+    orderUpdatePublisher.publish("/topic/orders/1", 1L, "READY");
+    orderUpdatePublisher.publish("/topic/orders/1", 1L, "SHIPPED");
+
+    orderUpdatePublisher.flush();
+
+    verify(messagingTemplate, times(1)).convertAndSend("/topic/orders/1", (Object) "SHIPPED");
+    verifyNoMoreInteractions(messagingTemplate);
+    assertEquals(3, meterRegistry.counter("orders.websocket.updates.received").count());
+    assertEquals(2, meterRegistry.counter("orders.websocket.updates.coalesced").count());
+    assertEquals(1, meterRegistry.counter("orders.websocket.frames.sent").count());
+  }
+
+  @Test
+  public void flush_ShouldBatchOrdersIntoOneFrame_WhenStaffDestination() {
+
+    orderUpdatePublisher.publish("/topic/staff/orders", 1L, "first");
+    orderUpdatePublisher.publish("/topic/staff/orders", 2L, "second");
+    orderUpdatePublisher.publish("/topic/staff/orders", 1L, "first-updated");
+
+    orderUpdatePublisher.flush();
+
+    verify(messagingTemplate, times(1))
+        .convertAndSend("/topic/staff/orders", (Object) List.of("second", "first-updated"));
+    assertEquals(1, meterRegistry.counter("orders.websocket.frames.sent").count());
+  }
+
+  @Test
+  public void flush_ShouldKeepEveryFrame_WhenOrderIdMissing() {
+
+    orderUpdatePublisher.publish("/topic/orders/status-changes", null, List.of("first"));
+    orderUpdatePublisher.publish("/topic/orders/status-changes", null, List.of("second"));
+
+    orderUpdatePublisher.flush();
+
+    verify(messagingTemplate, times(1))
+        .convertAndSend("/topic/orders/status-changes", (Object) List.of("first"));
+    verify(messagingTemplate, times(1))
+        .convertAndSend("/topic/orders/status-changes", (Object) List.of("second"));
+    assertEquals(0, meterRegistry.counter("orders.websocket.updates.coalesced").count());
+  }
+
+  @Test
+  public void flush_ShouldSendNothing_WhenNoUpdatesPending() {
+
+    orderUpdatePublisher.publish("/topic/orders/removed", 1L, 1L);
+    orderUpdatePublisher.flush();
+    orderUpdatePublisher.flush();
+
+    verify(messagingTemplate, times(1)).convertAndSend("/topic/orders/removed", (Object) 1L);
+  }
+
+  @Test
+  public void flush_ShouldReportWholeTransition_WhenStatusChangesCoalesced() {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    ObjectNode first =
+        objectMapper
+            .createObjectNode()
+            .put("id", 1)
+            .put("old_status", "CONFIRMED")
+            .put("new_status", "IN_PREPARATION");
+    ObjectNode second =
+        objectMapper
+            .createObjectNode()
+            .put("id", 1)
+            .put("old_status", "IN_PREPARATION")
+            .put("new_status", "READY");
+
+    orderUpdatePublisher.publish("/topic/orders/status-changes", 1L, first);
+    orderUpdatePublisher.publish("/topic/orders/status-changes", 1L, second);
+
+    orderUpdatePublisher.flush();
+
+    ObjectNode expected =
+        objectMapper
+            .createObjectNode()
+            .put("id", 1)
+            .put("old_status", "CONFIRMED")
+            .put("new_status", "READY");
+    verify(messagingTemplate, times(1))
+        .convertAndSend("/topic/orders/status-changes", (Object) expected);
+    assertEquals("IN_PREPARATION", second.get("old_status").asText());
+  }
+}
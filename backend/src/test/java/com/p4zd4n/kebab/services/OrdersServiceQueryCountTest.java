@@ -0,0 +1,208 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.entities.OrderAddon;
+import com.p4zd4n.kebab.entities.OrderBeverage;
+import com.p4zd4n.kebab.entities.OrderMeal;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.enums.Size;
+import com.p4zd4n.kebab.repositories.AddonRepository;
+import com.p4zd4n.kebab.repositories.BeverageRepository;
+import com.p4zd4n.kebab.repositories.CustomerRepository;
+import com.p4zd4n.kebab.repositories.DiscountCodesRepository;
+import com.p4zd4n.kebab.repositories.IngredientRepository;
+import com.p4zd4n.kebab.repositories.MealRepository;
+import com.p4zd4n.kebab.repositories.OrdersRepository;
+import com.p4zd4n.kebab.requests.orders.TrackOrderRequest;
+import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.orders.OrdersService;
+import com.p4zd4n.kebab.services.orders.TrackOrderCache;
+import com.p4zd4n.kebab.services.outbox.OrderOutboxService;
+import com.p4zd4n.kebab.services.reports.SalesReportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+public class OrdersServiceQueryCountTest {
+
+  @Autowired private OrdersRepository ordersRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private OrdersService ordersService;
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setUp() {
+    ordersService =
+        new OrdersService(
+            ordersRepository,
+            mock(MenuCatalogService.class),
+            mock(MealRepository.class),
+            mock(BeverageRepository.class),
+            mock(AddonRepository.class),
+            mock(IngredientRepository.class),
+            mock(CustomerRepository.class),
+            mock(DiscountCodesRepository.class),
+            mock(OrderOutboxService.class),
+            new TrackOrderCache(100, 30),
+            mock(SalesReportService.class));
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  public void getOrders_ShouldExecuteConstantNumberOfQueries_WhenOrderCountGrows() {
+
+    persistOrders(3);
+    long queriesForFewOrders = countQueriesOfGetOrders(3);
+
+    persistOrders(20);
+    long queriesForManyOrders = countQueriesOfGetOrders(23);
+
+    assertEquals(queriesForFewOrders, queriesForManyOrders);
+    assertTrue(queriesForManyOrders <= 4);
+  }
+
+  @Test
+  public void findOrderById_ShouldExecuteConstantNumberOfQueries_WhenOrderHasManyLines() {
+
+    Long id = persistOrders(1).getFirst().getId();
+
+    entityManager.clear();
+    statistics.clear();
+
+    OrderResponse response = ordersService.mapToResponse(ordersService.findOrderById(id));
+
+    assertEquals(2, response.meals().size());
+    assertEquals(Set.of("Tortilla", "Chicken"), response.meals().getFirst().getIngredientNames());
+    assertTrue(statistics.getPrepareStatementCount() <= 4);
+  }
+
+  @Test
+  public void trackOrder_ShouldExecuteConstantNumberOfQueries_WhenOrderHasManyLines() {
+
+    Long id = persistOrders(1).getFirst().getId();
+    TrackOrderRequest request = new TrackOrderRequest(id, "123456789");
+
+    entityManager.clear();
+    statistics.clear();
+
+    OrderResponse response = ordersService.trackOrder(request);
+
+    assertEquals(2, response.meals().size());
+    assertEquals(Set.of("Tortilla", "Chicken"), response.meals().getFirst().getIngredientNames());
+    assertEquals(1, response.beverages().size());
+    assertEquals(1, response.addons().size());
+    assertTrue(statistics.getPrepareStatementCount() <= 4);
+
+    entityManager.clear();
+    statistics.clear();
+
+    ordersService.trackOrder(request);
+
+    assertEquals(0, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void saveAll_ShouldBatchInsertsPerTable_WhenOrdersHaveManyLines() {
+
+    statistics.clear();
+
+    persistOrders(20);
+
+    assertEquals(100, statistics.getEntityInsertCount());
+    assertTrue(statistics.getPrepareStatementCount() <= 16);
+  }
+
+  private long countQueriesOfGetOrders(int expectedOrders) {
+
+    entityManager.clear();
+    statistics.clear();
+
+    List<OrderResponse> orders = ordersService.getOrders();
+
+    assertEquals(expectedOrders, orders.size());
+    orders.forEach(
+        order ->
+            order.meals().forEach(meal -> assertEquals(2, meal.getIngredientNames().size())));
+
+    return statistics.getPrepareStatementCount();
+  }
+
+  private List<Order> persistOrders(int count) {
+
+    List<Order> orders =
+        IntStream.range(0, count)
+            .mapToObj(
+                i -> {
+                  Order order =
+                      Order.builder()
+                          .orderType(OrderType.ON_SITE)
+                          .orderStatus(OrderStatus.RECEIVED)
+                          .customerPhone("123456789")
+                          .build();
+
+                  for (Size size : List.of(Size.SMALL, Size.XL)) {
+                    order
+                        .getOrderMeals()
+                        .add(
+                            OrderMeal.builder()
+                                .order(order)
+                                .mealName("Kebab")
+                                .finalPrice(BigDecimal.valueOf(19.99))
+                                .size(size)
+                                .quantity(1)
+                                .ingredientNames(Set.of("Tortilla", "Chicken"))
+                                .build());
+                  }
+                  order
+                      .getOrderBeverages()
+                      .add(
+                          OrderBeverage.builder()
+                              .order(order)
+                              .beverageName("Coca-Cola")
+                              .finalPrice(BigDecimal.valueOf(5.99))
+                              .capacity(BigDecimal.valueOf(0.33))
+                              .quantity(1)
+                              .build());
+                  order
+                      .getOrderAddons()
+                      .add(
+                          OrderAddon.builder()
+                              .order(order)
+                              .addonName("Fries")
+                              .finalPrice(BigDecimal.valueOf(7.49))
+                              .quantity(1)
+                              .build());
+
+                  return order;
+                })
+            .toList();
+
+    List<Order> saved = ordersRepository.saveAll(orders);
+    entityManager.flush();
+
+    return saved;
+  }
+}
@@ -3,36 +3,69 @@ package com.p4zd4n.kebab.services;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.p4zd4n.kebab.entities.Addon;
+import com.p4zd4n.kebab.entities.Beverage;
+import com.p4zd4n.kebab.entities.Ingredient;
+import com.p4zd4n.kebab.entities.Meal;
 import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.enums.IngredientType;
+import com.p4zd4n.kebab.enums.OrderOutboxMessageType;
 import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderStatusUpdateOutcome;
 import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.enums.Size;
 import com.p4zd4n.kebab.exceptions.expired.DiscountCodeExpiredException;
 import com.p4zd4n.kebab.exceptions.expired.TrackOrderExpiredException;
+import com.p4zd4n.kebab.exceptions.invalid.InvalidCursorException;
 import com.p4zd4n.kebab.exceptions.notfound.DiscountCodeNotFoundException;
 import com.p4zd4n.kebab.exceptions.notfound.OrderNotFoundException;
 import com.p4zd4n.kebab.exceptions.notmatches.TrackOrderDataDoesNotMatchException;
+import com.p4zd4n.kebab.repositories.AddonRepository;
+import com.p4zd4n.kebab.repositories.BeverageRepository;
+import com.p4zd4n.kebab.repositories.CustomerRepository;
 import com.p4zd4n.kebab.repositories.DiscountCodesRepository;
+import com.p4zd4n.kebab.repositories.IngredientRepository;
+import com.p4zd4n.kebab.repositories.MealRepository;
 import com.p4zd4n.kebab.repositories.OrdersRepository;
 import com.p4zd4n.kebab.requests.orders.NewOrderRequest;
 import com.p4zd4n.kebab.requests.orders.TrackOrderRequest;
 import com.p4zd4n.kebab.requests.orders.UpdatedOrderRequest;
+import com.p4zd4n.kebab.requests.orders.UpdatedOrdersStatusRequest;
 import com.p4zd4n.kebab.responses.orders.NewOrderResponse;
 import com.p4zd4n.kebab.responses.orders.OrderResponse;
+import com.p4zd4n.kebab.responses.orders.OrderStatusChangedEvent;
+import com.p4zd4n.kebab.responses.orders.OrderStatusUpdateResult;
+import com.p4zd4n.kebab.responses.orders.OrdersPageResponse;
 import com.p4zd4n.kebab.responses.orders.RemovedOrderResponse;
 import com.p4zd4n.kebab.responses.orders.UpdatedOrderResponse;
+import com.p4zd4n.kebab.responses.orders.UpdatedOrdersStatusResponse;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalog;
+import com.p4zd4n.kebab.services.menu.catalog.MenuCatalogService;
+import com.p4zd4n.kebab.services.orders.OrdersCursor;
 import com.p4zd4n.kebab.services.orders.OrdersService;
+import com.p4zd4n.kebab.services.orders.TrackOrderCache;
+import com.p4zd4n.kebab.services.outbox.OrderMailPayload;
+import com.p4zd4n.kebab.services.outbox.OrderOutboxService;
+import com.p4zd4n.kebab.services.reports.SalesReportService;
 import jakarta.mail.MessagingException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 public class OrdersServiceTest {
 
@@ -40,13 +73,31 @@ public class OrdersServiceTest {
 
   @Mock private DiscountCodesRepository discountCodesRepository;
 
-  @Mock private SimpMessagingTemplate messagingTemplate;
+  @Mock private CustomerRepository customerRepository;
+
+  @Mock private OrderOutboxService orderOutboxService;
+
+  @Mock private SalesReportService salesReportService;
+
+  @Spy private TrackOrderCache trackOrderCache = new TrackOrderCache(100, 30);
+
+  @Mock private MenuCatalogService menuCatalogService;
+
+  @Mock private MealRepository mealRepository;
+
+  @Mock private BeverageRepository beverageRepository;
+
+  @Mock private AddonRepository addonRepository;
+
+  @Mock private IngredientRepository ingredientRepository;
 
   @InjectMocks private OrdersService ordersService;
 
   @BeforeEach
   public void setUp() {
     MockitoAnnotations.openMocks(this);
+
+    when(menuCatalogService.getCatalog()).thenReturn(MenuCatalog.empty());
   }
 
   @Test
@@ -82,6 +133,62 @@ public class OrdersServiceTest {
     verify(ordersRepository, times(1)).findAll();
   }
 
+  @Test
+  public void getOrdersPage_ShouldReturnNextCursor_WhenMoreOrdersThanLimit() {
+
+    LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 0);
+    List<Order> orders =
+        List.of(pagedOrder(3L, now), pagedOrder(2L, now), pagedOrder(1L, now.minusMinutes(5)));
+
+    when(ordersRepository.findBy(any(Specification.class), any())).thenReturn(orders);
+
+    OrdersPageResponse response =
+        ordersService.getOrdersPage(OrderStatus.RECEIVED, null, null, null, null, 2);
+
+    assertEquals(2, response.orders().size());
+    assertEquals(3L, response.orders().getFirst().id());
+    assertEquals(new OrdersCursor(now, 2L), OrdersCursor.decode(response.nextCursor()));
+  }
+
+  @Test
+  public void getOrdersPage_ShouldReturnNoCursor_WhenLastPage() {
+
+    LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 0);
+    String cursor = new OrdersCursor(now, 3L).encode();
+
+    when(ordersRepository.findBy(any(Specification.class), any()))
+        .thenReturn(List.of(pagedOrder(2L, now)));
+
+    OrdersPageResponse response = ordersService.getOrdersPage(null, null, null, null, cursor, 2);
+
+    assertEquals(1, response.orders().size());
+    assertNull(response.nextCursor());
+  }
+
+  @Test
+  public void getOrdersPage_ShouldThrowInvalidCursorException_WhenCursorMalformed() {
+
+    assertThrows(
+        InvalidCursorException.class,
+        () -> ordersService.getOrdersPage(null, null, null, null, "not-a-cursor", 10));
+
+    verify(ordersRepository, never()).findBy(any(Specification.class), any());
+  }
+
+  private Order pagedOrder(Long id, LocalDateTime createdAt) {
+
+    Order order =
+        Order.builder()
+            .orderType(OrderType.ON_SITE)
+            .orderStatus(OrderStatus.RECEIVED)
+            .customerPhone("123456789")
+            .build();
+    order.setId(id);
+    order.setCreatedAt(createdAt);
+
+    return order;
+  }
+
   @Test
   public void addOrder_ShouldAddOrder_WhenValidRequest() throws MessagingException {
 
@@ -107,7 +214,144 @@ public class OrdersServiceTest {
     assertEquals(HttpStatus.OK.value(), response.statusCode());
     assertEquals("Successfully added new order with id '1'", response.message());
 
-    verify(ordersRepository, times(3)).save(any(Order.class));
+    verify(ordersRepository, times(1)).save(any(Order.class));
+    verify(salesReportService, times(1)).recordOrder(newOrder);
+    verify(orderOutboxService, times(1))
+        .enqueuePush(eq(1L), eq("/topic/staff/orders"), any(OrderResponse.class));
+    verify(orderOutboxService, times(1))
+        .enqueuePush(eq(1L), eq("/topic/orders/1"), any(OrderStatusChangedEvent.class));
+    verify(orderOutboxService, times(1))
+        .enqueuePush(
+            eq(1L), eq("/topic/orders/status-changes"), any(OrderStatusChangedEvent.class));
+  }
+
+  @Test
+  public void addOrder_ShouldEnqueueThanksMail_WhenCustomerEmailGiven() {
+
+    String language = "pl";
+    NewOrderRequest request =
+        NewOrderRequest.builder()
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .orderType(OrderType.ON_SITE)
+            .customerPhone("123456789")
+            .customerEmail("example@example.com")
+            .build();
+
+    Order newOrder =
+        Order.builder()
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .orderType(OrderType.ON_SITE)
+            .build();
+    newOrder.setId(1L);
+
+    when(ordersRepository.save(any(Order.class))).thenReturn(newOrder);
+    when(customerRepository.incrementOrderCount("example@example.com")).thenReturn(1L);
+
+    ordersService.addOrder(request, language);
+
+    verify(orderOutboxService, times(1))
+        .enqueueMail(
+            OrderOutboxMessageType.THANKS_FOR_ORDER_MAIL,
+            language,
+            OrderMailPayload.builder()
+                .customerEmail("example@example.com")
+                .customerPhone("123456789")
+                .orderCount(1L)
+                .orderId(1L)
+                .build());
+  }
+
+  @Test
+  public void addOrder_ShouldResolveItemsInOneBatch_WhenItemsMissingFromCatalog()
+      throws MessagingException {
+
+    String language = "en";
+    NewOrderRequest request =
+        NewOrderRequest.builder()
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .orderType(OrderType.ON_SITE)
+            .meals(Map.of("Kebab_Chicken_Garlic", Map.of(Size.SMALL, 2)))
+            .beverages(Map.of("Coca-Cola", Map.of(BigDecimal.valueOf(0.33), 1)))
+            .addons(Map.of("Fries", 1))
+            .build();
+
+    EnumMap<Size, BigDecimal> prices = new EnumMap<>(Size.class);
+    prices.put(Size.SMALL, BigDecimal.valueOf(19.99));
+
+    Order newOrder =
+        Order.builder()
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .orderType(OrderType.ON_SITE)
+            .build();
+    newOrder.setId(1L);
+
+    when(ordersRepository.save(any(Order.class))).thenReturn(newOrder);
+    when(mealRepository.findAllByNameIn(Set.of("Kebab")))
+        .thenReturn(List.of(Meal.builder().name("Kebab").prices(prices).build()));
+    when(ingredientRepository.findAllByNameIn(Set.of("Chicken", "Garlic")))
+        .thenReturn(
+            List.of(
+                Ingredient.builder().name("Chicken").ingredientType(IngredientType.MEAT).build(),
+                Ingredient.builder().name("Garlic").ingredientType(IngredientType.SAUCE).build()));
+    when(beverageRepository.findAllByNameInAndCapacityIn(
+            Set.of("Coca-Cola"), Set.of(BigDecimal.valueOf(0.33))))
+        .thenReturn(
+            List.of(
+                Beverage.builder()
+                    .name("Coca-Cola")
+                    .capacity(BigDecimal.valueOf(0.33))
+                    .price(BigDecimal.valueOf(5.99))
+                    .build()));
+    when(addonRepository.findAllByNameIn(Set.of("Fries")))
+        .thenReturn(List.of(Addon.builder().name("Fries").price(BigDecimal.valueOf(7.49)).build()));
+
+    ordersService.addOrder(request, language);
+
+    ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+    verify(ordersRepository, times(1)).save(orderCaptor.capture());
+
+    Order savedOrder = orderCaptor.getValue();
+
+    assertEquals(0, BigDecimal.valueOf(53.46).compareTo(savedOrder.getTotalPrice()));
+    assertEquals(1, savedOrder.getOrderMeals().size());
+    assertEquals(1, savedOrder.getOrderBeverages().size());
+    assertEquals(1, savedOrder.getOrderAddons().size());
+
+    verify(mealRepository, times(1)).findAllByNameIn(anySet());
+    verify(ingredientRepository, times(1)).findAllByNameIn(anySet());
+    verify(beverageRepository, times(1)).findAllByNameInAndCapacityIn(anySet(), anySet());
+    verify(addonRepository, times(1)).findAllByNameIn(anySet());
+    verify(mealRepository, never()).findByName(anyString());
+  }
+
+  @Test
+  public void addOrder_ShouldApplyRedeemedDiscount_WhenDiscountCodeValid() {
+
+    String language = "en";
+    NewOrderRequest request =
+        NewOrderRequest.builder()
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .orderType(OrderType.ON_SITE)
+            .addons(Map.of("Fries", 2))
+            .discountCode("kodzik1")
+            .build();
+
+    when(ordersRepository.save(any(Order.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(addonRepository.findAllByNameIn(Set.of("Fries")))
+        .thenReturn(List.of(Addon.builder().name("Fries").price(BigDecimal.valueOf(50)).build()));
+    when(discountCodesRepository.redeem(eq("kodzik1"), any(LocalDate.class))).thenReturn(1);
+    when(discountCodesRepository.findDiscountPercentageByCode("kodzik1"))
+        .thenReturn(Optional.of(BigDecimal.valueOf(10)));
+
+    ordersService.addOrder(request, language);
+
+    ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+    verify(ordersRepository, times(1)).save(orderCaptor.capture());
+
+    assertEquals(0, BigDecimal.valueOf(90).compareTo(orderCaptor.getValue().getTotalPrice()));
+    verify(discountCodesRepository, never()).findByCode(anyString());
+    verify(discountCodesRepository, never()).save(any());
   }
 
   @Test
@@ -230,6 +474,60 @@ public class OrdersServiceTest {
     verify(ordersRepository, times(1)).findById(1L);
   }
 
+  @Test
+  public void trackOrder_ShouldServeSnapshotFromCache_WhenPolledRepeatedly() {
+
+    TrackOrderRequest request =
+        TrackOrderRequest.builder().id(1L).customerPhone("123456789").build();
+
+    Order order =
+        Order.builder()
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .orderType(OrderType.ON_SITE)
+            .customerPhone("123456789")
+            .build();
+
+    order.setId(1L);
+    order.setUpdatedAt(LocalDateTime.now());
+
+    when(ordersRepository.findById(1L)).thenReturn(Optional.of(order));
+
+    ordersService.trackOrder(request);
+    ordersService.trackOrder(request);
+    OrderResponse response = ordersService.trackOrder(request);
+
+    assertEquals(OrderStatus.IN_PREPARATION, response.orderStatus());
+    verify(ordersRepository, times(1)).findById(1L);
+  }
+
+  @Test
+  public void trackOrder_ShouldReloadSnapshot_WhenOrderUpdated() {
+
+    TrackOrderRequest request =
+        TrackOrderRequest.builder().id(1L).customerPhone("123456789").build();
+
+    Order order =
+        Order.builder()
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .orderType(OrderType.ON_SITE)
+            .customerPhone("123456789")
+            .build();
+
+    order.setId(1L);
+    order.setUpdatedAt(LocalDateTime.now());
+
+    when(ordersRepository.findById(1L)).thenReturn(Optional.of(order));
+
+    ordersService.trackOrder(request);
+    ordersService.updateOrder(
+        order, UpdatedOrderRequest.builder().id(1L).orderStatus(OrderStatus.READY).build());
+    OrderResponse response = ordersService.trackOrder(request);
+
+    assertEquals(OrderStatus.READY, response.orderStatus());
+    verify(ordersRepository, times(2)).findById(1L);
+    verify(trackOrderCache, times(1)).evict(1L);
+  }
+
   @Test
   public void trackOrder_ShouldThrowOrderNotFoundException_WhenOrderNotExists() {
 
@@ -325,6 +623,123 @@ public class OrdersServiceTest {
     assertEquals(OrderStatus.READY, order.getOrderStatus());
 
     verify(ordersRepository, times(1)).save(order);
+    verify(salesReportService, times(1)).revertOrder(order);
+    verify(salesReportService, times(1)).recordOrder(order);
+
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(orderOutboxService, times(1))
+        .enqueuePush(eq(1L), eq("/topic/orders/status-changes"), eventCaptor.capture());
+
+    OrderStatusChangedEvent event = (OrderStatusChangedEvent) eventCaptor.getValue();
+    assertEquals(1L, event.id());
+    assertEquals(OrderStatus.IN_PREPARATION, event.oldStatus());
+    assertEquals(OrderStatus.READY, event.newStatus());
+    assertNotNull(event.timestamp());
+    verify(orderOutboxService, times(1))
+        .enqueuePush(eq(1L), eq("/topic/orders/1"), any(OrderStatusChangedEvent.class));
+  }
+
+  @Test
+  public void updateOrder_ShouldPushOnlyToStaffTopic_WhenStatusUnchanged() {
+
+    Order order =
+        Order.builder()
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .orderType(OrderType.ON_SITE)
+            .customerPhone("123456789")
+            .build();
+    order.setId(1L);
+
+    UpdatedOrderRequest request =
+        UpdatedOrderRequest.builder().id(1L).additionalComments("No onion").build();
+
+    ordersService.updateOrder(order, request);
+
+    verify(orderOutboxService, times(1))
+        .enqueuePush(eq(1L), eq("/topic/staff/orders"), any(OrderResponse.class));
+    verify(orderOutboxService, never())
+        .enqueuePush(anyLong(), eq("/topic/orders/status-changes"), any());
+    verify(orderOutboxService, never()).enqueuePush(anyLong(), eq("/topic/orders/1"), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void updateOrdersStatus_ShouldReturnPerIdOutcomes_WhenSomeOrdersChanged() {
+
+    UpdatedOrdersStatusRequest request =
+        UpdatedOrdersStatusRequest.builder()
+            .orderIds(List.of(1L, 2L, 3L))
+            .orderStatus(OrderStatus.READY)
+            .build();
+
+    when(ordersRepository.updateStatus(anyCollection(), eq("READY"), any(LocalDateTime.class)))
+        .thenReturn(List.of(statusChange(1L, OrderStatus.IN_PREPARATION)));
+    when(ordersRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+
+    UpdatedOrdersStatusResponse response = ordersService.updateOrdersStatus(request);
+
+    assertEquals(HttpStatus.OK.value(), response.statusCode());
+    assertEquals(
+        List.of(
+            OrderStatusUpdateOutcome.UPDATED,
+            OrderStatusUpdateOutcome.UNCHANGED,
+            OrderStatusUpdateOutcome.NOT_FOUND),
+        response.results().stream().map(OrderStatusUpdateResult::outcome).toList());
+    assertEquals(OrderStatus.IN_PREPARATION, response.results().getFirst().previousStatus());
+
+    ArgumentCaptor<Object> eventsCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(orderOutboxService, times(1))
+        .enqueuePush(isNull(), eq("/topic/orders/status-changes"), eventsCaptor.capture());
+
+    List<OrderStatusChangedEvent> events = (List<OrderStatusChangedEvent>) eventsCaptor.getValue();
+    assertEquals(1, events.size());
+    assertEquals(OrderStatus.READY, events.getFirst().newStatus());
+    verify(orderOutboxService, times(1))
+        .enqueuePush(eq(1L), eq("/topic/orders/1"), any(OrderStatusChangedEvent.class));
+    verify(ordersRepository, never()).save(any(Order.class));
+  }
+
+  @Test
+  public void updateOrdersStatus_ShouldRevertSales_WhenOrderCanceled() {
+
+    Order order =
+        Order.builder()
+            .orderStatus(OrderStatus.CANCELED)
+            .orderType(OrderType.ON_SITE)
+            .customerPhone("123456789")
+            .build();
+    order.setId(1L);
+
+    UpdatedOrdersStatusRequest request =
+        UpdatedOrdersStatusRequest.builder()
+            .orderIds(List.of(1L))
+            .orderStatus(OrderStatus.CANCELED)
+            .build();
+
+    when(ordersRepository.updateStatus(anyCollection(), eq("CANCELED"), any(LocalDateTime.class)))
+        .thenReturn(List.of(statusChange(1L, OrderStatus.READY)));
+    when(salesReportService.affectsSales(OrderStatus.READY, OrderStatus.CANCELED))
+        .thenReturn(true);
+    when(ordersRepository.findAllById(Set.of(1L))).thenReturn(List.of(order));
+
+    ordersService.updateOrdersStatus(request);
+
+    verify(salesReportService, times(1)).recordStatusChange(order, OrderStatus.READY);
+    verify(ordersRepository, never()).findExistingIds(anyCollection());
+  }
+
+  private OrdersRepository.StatusChange statusChange(Long id, OrderStatus previousStatus) {
+    return new OrdersRepository.StatusChange() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getPreviousStatus() {
+        return previousStatus.name();
+      }
+    };
   }
 
   @Test
@@ -347,5 +762,7 @@ public class OrdersServiceTest {
     assertEquals("Successfully removed order with od '1'", response.message());
 
     verify(ordersRepository, times(1)).delete(order);
+    verify(salesReportService, times(1)).revertOrder(order);
+    verify(orderOutboxService, times(1)).enqueuePush(1L, "/topic/orders/removed", 1L);
   }
 }
@@ -0,0 +1,89 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p4zd4n.kebab.enums.MenuSection;
+import com.p4zd4n.kebab.services.menu.catalog.MenuChangedEvent;
+import com.p4zd4n.kebab.services.snapshots.PublicSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshot;
+import com.p4zd4n.kebab.services.snapshots.ResponseSnapshotStore;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class ResponseSnapshotStoreTest {
+
+  private ResponseSnapshotStore responseSnapshotStore;
+
+  @BeforeEach
+  public void setUp() {
+    responseSnapshotStore = new ResponseSnapshotStore(new ObjectMapper());
+  }
+
+  @Test
+  public void get_ShouldBuildJsonGzipAndEtagOnce_WhenRequestedRepeatedly() throws Exception {
+
+    AtomicInteger loads = new AtomicInteger();
+
+    ResponseSnapshot first =
+        responseSnapshotStore.get(
+            PublicSnapshot.CONTACTS, () -> List.of("contact" + loads.incrementAndGet()));
+    ResponseSnapshot second =
+        responseSnapshotStore.get(
+            PublicSnapshot.CONTACTS, () -> List.of("contact" + loads.incrementAndGet()));
+
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+    assertEquals("[\"contact1\"]", new String(first.json()));
+    assertArrayEquals(
+        first.json(), new GZIPInputStream(new ByteArrayInputStream(first.gzip())).readAllBytes());
+    assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+  }
+
+  @Test
+  public void respond_ShouldReturnNotModified_WhenIfNoneMatchContainsEtag() {
+
+    ResponseSnapshot snapshot = responseSnapshotStore.get(PublicSnapshot.CONTACTS, List::of);
+
+    ResponseEntity<byte[]> response =
+        responseSnapshotStore.respond(
+            PublicSnapshot.CONTACTS, List::of, "\"other\", W/" + snapshot.etag(), null);
+
+    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    assertNull(response.getBody());
+  }
+
+  @Test
+  public void respond_ShouldReturnIdentityBody_WhenGzipNotAccepted() {
+
+    ResponseEntity<byte[]> response =
+        responseSnapshotStore.respond(PublicSnapshot.CONTACTS, List::of, null, "gzip;q=0, br");
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("[]", new String(response.getBody()));
+    assertNull(response.getHeaders().getFirst("Content-Encoding"));
+  }
+
+  @Test
+  public void onMenuChanged_ShouldRebuildMealSnapshots_WhenIngredientsChange() {
+
+    AtomicInteger loads = new AtomicInteger();
+
+    responseSnapshotStore.get(PublicSnapshot.MEALS, () -> List.of(loads.incrementAndGet()));
+    responseSnapshotStore.get(PublicSnapshot.BEVERAGES, () -> List.of(loads.incrementAndGet()));
+
+    responseSnapshotStore.onMenuChanged(new MenuChangedEvent(Set.of(MenuSection.INGREDIENTS), 2));
+
+    responseSnapshotStore.get(PublicSnapshot.MEALS, () -> List.of(loads.incrementAndGet()));
+    responseSnapshotStore.get(PublicSnapshot.BEVERAGES, () -> List.of(loads.incrementAndGet()));
+
+    assertEquals(3, loads.get());
+  }
+}
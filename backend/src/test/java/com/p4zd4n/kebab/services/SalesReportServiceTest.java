@@ -0,0 +1,200 @@
+package com.p4zd4n.kebab.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.p4zd4n.kebab.entities.HourlySales;
+import com.p4zd4n.kebab.entities.Order;
+import com.p4zd4n.kebab.entities.OrderAddon;
+import com.p4zd4n.kebab.entities.OrderMeal;
+import com.p4zd4n.kebab.enums.OrderStatus;
+import com.p4zd4n.kebab.enums.OrderType;
+import com.p4zd4n.kebab.enums.Size;
+import com.p4zd4n.kebab.exceptions.invalid.InvalidDateOrderException;
+import com.p4zd4n.kebab.repositories.DailyItemSalesRepository;
+import com.p4zd4n.kebab.repositories.HourlySalesRepository;
+import com.p4zd4n.kebab.responses.reports.DailyRevenueResponse;
+import com.p4zd4n.kebab.services.reports.SalesAggregator;
+import com.p4zd4n.kebab.services.reports.SalesReportService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class SalesReportServiceTest {
+
+  @Mock private HourlySalesRepository hourlySalesRepository;
+
+  @Mock private DailyItemSalesRepository dailyItemSalesRepository;
+
+  private SalesReportService salesReportService;
+
+  private Order order;
+
+  @BeforeEach
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    salesReportService =
+        new SalesReportService(
+            hourlySalesRepository,
+            dailyItemSalesRepository,
+            new SalesAggregator(hourlySalesRepository, dailyItemSalesRepository));
+
+    order =
+        Order.builder()
+            .orderType(OrderType.TAKEAWAY)
+            .orderStatus(OrderStatus.IN_PREPARATION)
+            .customerPhone("123456789")
+            .build();
+    order.setId(1L);
+    order.setCreatedAt(LocalDateTime.of(2024, 10, 1, 18, 42));
+    order.setTotalPrice(BigDecimal.valueOf(64));
+    order
+        .getOrderMeals()
+        .add(
+            OrderMeal.builder()
+                .order(order)
+                .mealName("Kebab")
+                .size(Size.XL)
+                .quantity(1)
+                .finalPrice(BigDecimal.valueOf(30))
+                .ingredientNames(Set.of("Chicken", "Garlic"))
+                .build());
+    order
+        .getOrderMeals()
+        .add(
+            OrderMeal.builder()
+                .order(order)
+                .mealName("Kebab")
+                .size(Size.XL)
+                .quantity(1)
+                .finalPrice(BigDecimal.valueOf(30))
+                .ingredientNames(Set.of("Beef", "Spicy"))
+                .build());
+    order
+        .getOrderAddons()
+        .add(
+            OrderAddon.builder()
+                .order(order)
+                .addonName("Fries")
+                .quantity(1)
+                .finalPrice(BigDecimal.valueOf(4))
+                .build());
+  }
+
+  @Test
+  public void recordOrder_ShouldUpsertHourlyAndMergedItemRows_WhenOrderCounted() {
+
+    salesReportService.recordOrder(order);
+
+    verify(hourlySalesRepository, times(1))
+        .upsert(LocalDateTime.of(2024, 10, 1, 18, 0), "TAKEAWAY", 1, BigDecimal.valueOf(64));
+    verify(dailyItemSalesRepository, times(1))
+        .upsert(LocalDate.of(2024, 10, 1), "MEAL", "Kebab", "XL", 2L, BigDecimal.valueOf(60));
+    verify(dailyItemSalesRepository, times(1))
+        .upsert(LocalDate.of(2024, 10, 1), "ADDON", "Fries", "", 1L, BigDecimal.valueOf(4));
+  }
+
+  @Test
+  public void revertOrder_ShouldUpsertNegatedValues_WhenOrderCounted() {
+
+    salesReportService.revertOrder(order);
+
+    verify(hourlySalesRepository, times(1))
+        .upsert(LocalDateTime.of(2024, 10, 1, 18, 0), "TAKEAWAY", -1, BigDecimal.valueOf(-64));
+    verify(dailyItemSalesRepository, times(1))
+        .upsert(LocalDate.of(2024, 10, 1), "MEAL", "Kebab", "XL", -2L, BigDecimal.valueOf(-60));
+  }
+
+  @Test
+  public void recordOrder_ShouldApplyNetAggregatesBeforeCommit_WhenCalledInTransaction() {
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      salesReportService.revertOrder(order);
+      order.getOrderAddons().clear();
+      order.setTotalPrice(BigDecimal.valueOf(60));
+      salesReportService.recordOrder(order);
+
+      verifyNoInteractions(hourlySalesRepository, dailyItemSalesRepository);
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(synchronization -> synchronization.beforeCommit(false));
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(
+              synchronization ->
+                  synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    verify(hourlySalesRepository, times(1))
+        .upsert(LocalDateTime.of(2024, 10, 1, 18, 0), "TAKEAWAY", 0, BigDecimal.valueOf(-4));
+    verify(dailyItemSalesRepository, times(1))
+        .upsert(LocalDate.of(2024, 10, 1), "ADDON", "Fries", "", -1L, BigDecimal.valueOf(-4));
+    verifyNoMoreInteractions(dailyItemSalesRepository);
+    assertFalse(TransactionSynchronizationManager.hasResource(salesReportService));
+  }
+
+  @Test
+  public void recordOrder_ShouldSkipAggregates_WhenOrderCanceled() {
+
+    order.setOrderStatus(OrderStatus.CANCELED);
+
+    salesReportService.recordOrder(order);
+
+    verifyNoInteractions(hourlySalesRepository, dailyItemSalesRepository);
+  }
+
+  @Test
+  public void getDailyRevenue_ShouldSumHourlyBuckets_WhenRangeGiven() {
+
+    LocalDate day = LocalDate.of(2024, 10, 1);
+
+    when(hourlySalesRepository
+            .findAllByBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay()))
+        .thenReturn(
+            List.of(
+                hourlySales(day.atTime(12, 0), 3L, BigDecimal.valueOf(90)),
+                hourlySales(day.atTime(18, 0), 5L, BigDecimal.valueOf(150)),
+                hourlySales(day.atTime(19, 0), 0L, BigDecimal.ZERO)));
+
+    List<DailyRevenueResponse> response = salesReportService.getDailyRevenue(day, day);
+
+    assertEquals(1, response.size());
+    assertEquals(day, response.getFirst().date());
+    assertEquals(OrderType.TAKEAWAY, response.getFirst().orderType());
+    assertEquals(8L, response.getFirst().orderCount());
+    assertEquals(0, BigDecimal.valueOf(240).compareTo(response.getFirst().revenue()));
+  }
+
+  @Test
+  public void getDailyRevenue_ShouldThrowInvalidDateOrderException_WhenFromAfterTo() {
+
+    LocalDate from = LocalDate.of(2024, 10, 2);
+    LocalDate to = LocalDate.of(2024, 10, 1);
+
+    assertThrows(
+        InvalidDateOrderException.class, () -> salesReportService.getDailyRevenue(from, to));
+  }
+
+  private HourlySales hourlySales(LocalDateTime bucketStart, Long orderCount, BigDecimal revenue) {
+
+    HourlySales sales = new HourlySales();
+    sales.setBucketStart(bucketStart);
+    sales.setOrderType(OrderType.TAKEAWAY);
+    sales.setOrderCount(orderCount);
+    sales.setRevenue(revenue);
+
+    return sales;
+  }
+}
@@ -0,0 +1,178 @@
+package com.p4zd4n.kebab.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.p4zd4n.kebab.entities.Addon;
+import com.p4zd4n.kebab.entities.AddonPromotion;
+import com.p4zd4n.kebab.entities.Beverage;
+import com.p4zd4n.kebab.entities.BeveragePromotion;
+import com.p4zd4n.kebab.entities.Meal;
+import com.p4zd4n.kebab.entities.MealPromotion;
+import com.p4zd4n.kebab.enums.Size;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class PriceUtilTest {
+
+  private static final List<BigDecimal> PRICES =
+      List.of(
+          new BigDecimal("0.01"),
+          new BigDecimal("0.99"),
+          new BigDecimal("5.99"),
+          new BigDecimal("7.49"),
+          new BigDecimal("19.99"),
+          new BigDecimal("24.5"),
+          new BigDecimal("39.99"),
+          new BigDecimal("100"));
+
+  private static final List<BigDecimal> FRACTIONAL_DISCOUNTS =
+      List.of(
+          new BigDecimal("0.49"),
+          new BigDecimal("0.5"),
+          new BigDecimal("12.5"),
+          new BigDecimal("33.33"),
+          new BigDecimal("66.67"),
+          new BigDecimal("99.5"));
+
+  private static final List<BigDecimal> CODE_DISCOUNTS =
+      List.of(BigDecimal.ZERO, new BigDecimal("10"), new BigDecimal("12.5"), new BigDecimal("15"));
+
+  private static final int MAX_QUANTITY = 7;
+
+  @Test
+  public void applyDiscount_ShouldMatchLegacyMealPricing_WhenAnySizeAndDiscountGiven() {
+
+    for (BigDecimal discount : discounts()) {
+      for (Size size : Size.values()) {
+        for (BigDecimal price : PRICES) {
+          EnumMap<Size, BigDecimal> prices = new EnumMap<>(Size.class);
+          prices.put(size, price);
+
+          Meal meal = Meal.builder().name("Kebab").prices(prices).build();
+          meal.getPromotions()
+              .add(
+                  MealPromotion.builder().sizes(Set.of(size)).discountPercentage(discount).build());
+
+          for (int quantity = 1; quantity <= MAX_QUANTITY; quantity++) {
+            assertEquals(
+                legacyPrice(price, discount, quantity),
+                meal.getPriceForSizeWithDiscountIncluded(size, quantity),
+                () -> "Meal " + size + " " + price + " at " + discount + "%");
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void applyDiscount_ShouldMatchLegacyBeverageAndAddonPricing_WhenAnyDiscountGiven() {
+
+    for (BigDecimal discount : discounts()) {
+      for (BigDecimal price : PRICES) {
+        Beverage beverage =
+            Beverage.builder()
+                .name("Ayran")
+                .capacity(BigDecimal.valueOf(0.33))
+                .price(price)
+                .build();
+        beverage.setPromotion(BeveragePromotion.builder().discountPercentage(discount).build());
+
+        Addon addon = Addon.builder().name("Fries").price(price).build();
+        addon.setPromotion(AddonPromotion.builder().discountPercentage(discount).build());
+
+        for (int quantity = 1; quantity <= MAX_QUANTITY; quantity++) {
+          BigDecimal expected = legacyPrice(price, discount, quantity);
+
+          assertEquals(expected, beverage.getPriceWithDiscountIncluded(quantity));
+          assertEquals(expected, addon.getPriceWithDiscountIncluded(quantity));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void applyOrderDiscount_ShouldMatchLegacyOrderTotal_WhenDiscountedLinesHaveQuantities() {
+
+    for (BigDecimal lineDiscount : discounts()) {
+      for (BigDecimal codeDiscount : CODE_DISCOUNTS) {
+        for (int quantity = 1; quantity <= MAX_QUANTITY; quantity++) {
+          BigDecimal legacyTotal = BigDecimal.ZERO;
+          long unroundedTotal = 0;
+
+          for (BigDecimal price : PRICES) {
+            legacyTotal = legacyTotal.add(legacyLinePrice(price, lineDiscount, quantity));
+
+            unroundedTotal +=
+                PriceUtil.applyDiscountUnrounded(
+                    PriceUtil.toGrosze(price), PriceUtil.toDiscountPercent(lineDiscount), quantity);
+          }
+
+          BigDecimal expected =
+              legacyTotal
+                  .multiply(
+                      BigDecimal.ONE.subtract(
+                          codeDiscount.divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)))
+                  .setScale(2, RoundingMode.HALF_UP);
+          int codePercent = PriceUtil.toDiscountPercent(codeDiscount);
+
+          assertEquals(
+              expected,
+              PriceUtil.toAmount(PriceUtil.applyOrderDiscount(unroundedTotal, codePercent)),
+              () -> "Order at " + lineDiscount + "% with code " + codeDiscount + "%");
+        }
+      }
+    }
+  }
+
+  @Test
+  public void applyOrderDiscount_ShouldRoundOncePerOrder_WhenLineRoundingWouldDrift() {
+
+    long unroundedLine = PriceUtil.applyDiscountUnrounded(1999, 50, 1);
+
+    assertEquals(1000, PriceUtil.applyDiscount(1999, 50, 1));
+    assertEquals(1999, PriceUtil.applyOrderDiscount(2 * unroundedLine, 0));
+    assertEquals(1799, PriceUtil.applyOrderDiscount(2 * unroundedLine, 10));
+  }
+
+  @Test
+  public void applyDiscount_ShouldIgnoreMissingPromotion_WhenDiscountIsNull() {
+
+    assertEquals(
+        new BigDecimal("59.97"), PriceUtil.applyDiscount(new BigDecimal("19.99"), null, 3));
+  }
+
+  @Test
+  public void toGrosze_ShouldRoundHalfUp_WhenAmountHasMoreThanTwoDecimals() {
+
+    assertEquals(1999, PriceUtil.toGrosze(new BigDecimal("19.99")));
+    assertEquals(1000, PriceUtil.toGrosze(new BigDecimal("9.995")));
+    assertEquals(999, PriceUtil.toGrosze(new BigDecimal("9.994")));
+    assertEquals(new BigDecimal("19.99"), PriceUtil.toAmount(1999));
+  }
+
+  private static List<BigDecimal> discounts() {
+    List<BigDecimal> discounts = new ArrayList<>(FRACTIONAL_DISCOUNTS);
+
+    for (int percent = 0; percent <= 100; percent++) {
+      discounts.add(BigDecimal.valueOf(percent));
+    }
+
+    return discounts;
+  }
+
+  private static BigDecimal legacyPrice(BigDecimal price, BigDecimal discount, int quantity) {
+    return legacyLinePrice(price, discount, quantity).setScale(2, RoundingMode.HALF_UP);
+  }
+
+  private static BigDecimal legacyLinePrice(BigDecimal price, BigDecimal discount, int quantity) {
+    BigDecimal discountFraction = discount.divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+    BigDecimal discountedPrice = price.subtract(price.multiply(discountFraction));
+
+    return discountedPrice.multiply(BigDecimal.valueOf(quantity));
+  }
+}
@@ -4,7 +4,10 @@ import { AuthenticationService } from '../../../services/authentication/authenti
 import { TranslateModule, TranslateService } from '@ngx-translate/core';
 import { CommonModule } from '@angular/common';
 import { OrdersService } from '../../../services/orders/orders.service';
-import { OrderResponse } from '../../../responses/responses';
+import {
+  OrderResponse,
+  OrderStatusChangedEvent,
+} from '../../../responses/responses';
 import { OrderStatus } from '../../../enums/order-status.enum';
 import Swal from 'sweetalert2';
 import {
@@ -28,6 +31,7 @@ export class OrderManagementComponent implements OnInit {
   statusFilter: OrderStatus | null = null;
 
   orders: OrderResponse[] = [];
+  private readonly activeWindowHours = 24;
 
   isTodayFilterActive: boolean = true;
 
@@ -67,11 +71,12 @@ export class OrderManagementComponent implements OnInit {
 
   private subscribeToRealTimeUpdates(): void {
     this.subscribeToOrderUpdates();
+    this.subscribeToOrderStatusChanges();
     this.subscribeToOrderRemove();
   }
 
   private subscribeToOrderUpdates(): void {
-    this.webSocketService.onOrderStatusUpdate().subscribe({
+    this.webSocketService.onStaffOrderUpdate().subscribe({
       next: (addedOrder: OrderResponse) => {
         const index = this.orders.findIndex((o) => o.id === addedOrder.id);
 
@@ -86,6 +91,17 @@ export class OrderManagementComponent implements OnInit {
     });
   }
 
+  private subscribeToOrderStatusChanges(): void {
+    this.webSocketService.onOrderStatusChange().subscribe({
+      next: (event: OrderStatusChangedEvent) => {
+        const order = this.orders.find((o) => o.id === event.id);
+
+        if (order) order.order_status = event.new_status;
+      },
+      error: (error) => console.error('WebSocket status change error', error),
+    });
+  }
+
   private subscribeToOrderRemove(): void {
     this.webSocketService.onOrderRemoved().subscribe({
       next: (removedOrderId: number) =>
@@ -95,7 +111,11 @@ export class OrderManagementComponent implements OnInit {
   }
 
   private loadOrders(): void {
-    this.ordersService.getOrders().subscribe({
+    const activeWindowStart = new Date(
+      Date.now() - this.activeWindowHours * 60 * 60 * 1000
+    );
+
+    this.ordersService.getOrdersSince(activeWindowStart).subscribe({
       next: (data: OrderResponse[]) =>
         (this.orders = data.sort((a, b) => a.id - b.id)),
       error: (error) => console.log('Error loading orders', error),
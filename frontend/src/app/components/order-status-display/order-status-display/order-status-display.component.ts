@@ -4,10 +4,15 @@ import { CommonModule } from '@angular/common';
 import { TranslateModule } from '@ngx-translate/core';
 import { RouterModule } from '@angular/router';
 import { OrdersService } from '../../../services/orders/orders.service';
-import { OrderResponse } from '../../../responses/responses';
+import {
+  OrderResponse,
+  OrderStatusChangedEvent,
+} from '../../../responses/responses';
 import { OrderStatus } from '../../../enums/order-status.enum';
 import { WebSocketService } from '../../../services/websocket/websocket.service';
 
+type DisplayedOrder = Pick<OrderResponse, 'id' | 'order_status'>;
+
 @Component({
   selector: 'app-order-status-display',
   standalone: true,
@@ -16,15 +21,16 @@ import { WebSocketService } from '../../../services/websocket/websocket.service'
   styleUrl: './order-status-display.component.scss',
 })
 export class OrderStatusDisplayComponent implements OnInit {
-  orders: OrderResponse[] = [];
+  orders: DisplayedOrder[] = [];
+  private readonly activeWindowHours = 24;
 
-  get ordersInPreparation(): OrderResponse[] {
+  get ordersInPreparation(): DisplayedOrder[] {
     return this.orders.filter(
       (order) => order.order_status === OrderStatus.IN_PREPARATION
     );
   }
 
-  get ordersReady(): OrderResponse[] {
+  get ordersReady(): DisplayedOrder[] {
     return this.orders.filter(
       (order) => order.order_status === OrderStatus.READY
     );
@@ -54,14 +60,14 @@ export class OrderStatusDisplayComponent implements OnInit {
   }
 
   private subscribeToOrderUpdates(): void {
-    this.webSocketService.onOrderStatusUpdate().subscribe({
-      next: (order: OrderResponse) => {
-        const index = this.orders.findIndex((o) => o.id === order.id);
+    this.webSocketService.onOrderStatusChange().subscribe({
+      next: (event: OrderStatusChangedEvent) => {
+        const index = this.orders.findIndex((o) => o.id === event.id);
 
         if (index > -1) {
-          this.orders[index] = order;
+          this.orders[index].order_status = event.new_status;
         } else {
-          this.orders.push(order);
+          this.orders.push({ id: event.id, order_status: event.new_status });
           this.orders.sort((a, b) => a.id - b.id);
         }
       },
@@ -78,9 +84,15 @@ export class OrderStatusDisplayComponent implements OnInit {
   }
 
   private loadOrders(): void {
-    this.ordersService.getOrders().subscribe({
+    const activeWindowStart = new Date(
+      Date.now() - this.activeWindowHours * 60 * 60 * 1000
+    );
+
+    this.ordersService.getOrdersSince(activeWindowStart).subscribe({
       next: (data: OrderResponse[]) =>
-        (this.orders = data.sort((a, b) => a.id - b.id)),
+        (this.orders = data
+          .map(({ id, order_status }) => ({ id, order_status }))
+          .sort((a, b) => a.id - b.id)),
       error: (error) => console.log('Error loading orders', error),
     });
   }
@@ -4,7 +4,10 @@ import { TranslateModule } from '@ngx-translate/core';
 import { TrackOrderRequest } from '../../../requests/requests';
 import { OrderService } from '../../../services/order/order.service';
 import { OrdersService } from '../../../services/orders/orders.service';
-import { OrderResponse } from '../../../responses/responses';
+import {
+  OrderResponse,
+  OrderStatusChangedEvent,
+} from '../../../responses/responses';
 import { FormsModule } from '@angular/forms';
 import { LangService } from '../../../services/lang/lang.service';
 import { Subscription } from 'rxjs';
@@ -103,12 +106,9 @@ export class TrackOrderComponent implements OnInit {
   }
 
   private subscribeToOrderUpdates(): void {
-    this.webSocketService.onOrderStatusUpdate().subscribe({
-      next: (updatedOrder: OrderResponse) => {
-        if (updatedOrder.id === this.order.id) {
-          this.initOrder(updatedOrder);
-        }
-      },
+    this.webSocketService.onTrackedOrderStatusChange(this.order.id).subscribe({
+      next: (event: OrderStatusChangedEvent) =>
+        (this.order.order_status = event.new_status),
       error: (error) => console.error('WebSocket update error', error),
     });
   }
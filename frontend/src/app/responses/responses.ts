@@ -185,6 +185,18 @@ export interface OrderResponse {
   }[];
 }
 
+export interface OrdersPageResponse {
+  orders: OrderResponse[];
+  next_cursor: string | null;
+}
+
+export interface OrderStatusChangedEvent {
+  id: number;
+  old_status: OrderStatus | null;
+  new_status: OrderStatus;
+  timestamp: string;
+}
+
 export interface NewOrderResponse extends CommonResponse {
   id: number;
 }
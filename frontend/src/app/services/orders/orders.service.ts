@@ -2,16 +2,28 @@ import {
   HttpClient,
   HttpErrorResponse,
   HttpHeaders,
+  HttpParams,
 } from '@angular/common/http';
 import { Injectable } from '@angular/core';
 import { LangService } from '../lang/lang.service';
 import {
   NewOrderResponse,
   OrderResponse,
+  OrdersPageResponse,
   RemovedOrderResponse,
   UpdatedOrderResponse,
 } from '../../responses/responses';
-import { catchError, map, Observable, throwError } from 'rxjs';
+import {
+  catchError,
+  EMPTY,
+  expand,
+  map,
+  Observable,
+  reduce,
+  retry,
+  throwError,
+  timer,
+} from 'rxjs';
 import {
   NewOrderRequest,
   RemovedOrderRequest,
@@ -33,9 +45,50 @@ export class OrdersService {
     });
   }
 
+  getOrdersPage(
+    from: Date,
+    cursor: string | null = null,
+    limit: number = 100
+  ): Observable<OrdersPageResponse> {
+    const headers = new HttpHeaders({
+      'Accept-Language': this.langService.currentLang,
+    });
+
+    const localFrom = new Date(from.getTime() - from.getTimezoneOffset() * 60000);
+
+    let params = new HttpParams()
+      .set('from', localFrom.toISOString().slice(0, 19))
+      .set('limit', limit);
+
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+
+    return this.http
+      .get<OrdersPageResponse>(`${this.apiUrl}/page`, {
+        headers,
+        params,
+        withCredentials: true,
+      })
+      .pipe(catchError(this.handleError));
+  }
+
+  getOrdersSince(from: Date): Observable<OrderResponse[]> {
+    return this.getOrdersPage(from).pipe(
+      expand((page) =>
+        page.next_cursor ? this.getOrdersPage(from, page.next_cursor) : EMPTY
+      ),
+      reduce(
+        (orders: OrderResponse[], page) => orders.concat(page.orders),
+        []
+      )
+    );
+  }
+
   addOrder(request: NewOrderRequest): Observable<NewOrderResponse> {
     const headers = new HttpHeaders({
       'Accept-Language': this.langService.currentLang,
+      'Idempotency-Key': crypto.randomUUID(),
     });
 
     return this.http
@@ -44,6 +97,11 @@ export class OrdersService {
         withCredentials: true,
       })
       .pipe(
+        retry({
+          count: 2,
+          delay: (error: HttpErrorResponse) =>
+            error.status === 0 ? timer(1000) : throwError(() => error),
+        }),
         map((response) => response),
         catchError(this.handleError)
       );
@@ -1,7 +1,10 @@
 import { Injectable } from '@angular/core';
 import { Client, IMessage } from '@stomp/stompjs';
-import { Observable, Subject } from 'rxjs';
-import { OrderResponse } from '../../responses/responses';
+import { Observable, Subject, from, mergeMap, of } from 'rxjs';
+import {
+  OrderResponse,
+  OrderStatusChangedEvent,
+} from '../../responses/responses';
 import SockJS from 'sockjs-client';
 
 @Injectable({
@@ -9,9 +12,7 @@ import SockJS from 'sockjs-client';
 })
 export class WebSocketService {
   private stompClient: Client;
-  private orderStatusSubject: Subject<OrderResponse> =
-    new Subject<OrderResponse>();
-  private orderRemovedSubject: Subject<number> = new Subject<number>();
+  private topics: Map<string, Subject<any>> = new Map();
 
   constructor() {
     this.stompClient = new Client({
@@ -22,29 +23,57 @@ export class WebSocketService {
       reconnectDelay: 5000,
       heartbeatIncoming: 4000,
       heartbeatOutgoing: 4000,
-      onConnect: () => this.subscribeToOrderUpdates(),
+      onConnect: () =>
+        this.topics.forEach((subject, destination) =>
+          this.subscribeToTopic(destination, subject)
+        ),
     });
 
     this.stompClient.activate();
   }
 
-  private subscribeToOrderUpdates(): void {
-    this.stompClient.subscribe('/topic/orders/status', (message: IMessage) => {
-      const order: OrderResponse = JSON.parse(message.body);
-      this.orderStatusSubject.next(order);
-    });
+  private watch<T>(destination: string): Observable<T> {
+    let subject = this.topics.get(destination);
 
-    this.stompClient.subscribe('/topic/orders/removed', (message: IMessage) => {
-      const removedOrder = JSON.parse(message.body);
-      this.orderRemovedSubject.next(removedOrder);
-    });
+    if (!subject) {
+      subject = new Subject<T>();
+      this.topics.set(destination, subject);
+
+      if (this.stompClient.connected) {
+        this.subscribeToTopic(destination, subject);
+      }
+    }
+
+    return subject.asObservable();
+  }
+
+  private subscribeToTopic(destination: string, subject: Subject<any>): void {
+    this.stompClient.subscribe(destination, (message: IMessage) =>
+      subject.next(JSON.parse(message.body))
+    );
+  }
+
+  public onStaffOrderUpdate(): Observable<OrderResponse> {
+    return this.watch<OrderResponse[]>('/topic/staff/orders').pipe(
+      mergeMap((orders) => from(orders))
+    );
+  }
+
+  public onOrderStatusChange(): Observable<OrderStatusChangedEvent> {
+    return this.watch<OrderStatusChangedEvent | OrderStatusChangedEvent[]>(
+      '/topic/orders/status-changes'
+    ).pipe(
+      mergeMap((events) => (Array.isArray(events) ? from(events) : of(events)))
+    );
   }
 
-  public onOrderStatusUpdate(): Observable<OrderResponse> {
-    return this.orderStatusSubject.asObservable();
+  public onTrackedOrderStatusChange(
+    id: number
+  ): Observable<OrderStatusChangedEvent> {
+    return this.watch<OrderStatusChangedEvent>(`/topic/orders/${id}`);
   }
 
   public onOrderRemoved(): Observable<number> {
-    return this.orderRemovedSubject.asObservable();
+    return this.watch<number>('/topic/orders/removed');
   }
 }